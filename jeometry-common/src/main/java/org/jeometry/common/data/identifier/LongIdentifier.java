@@ -4,10 +4,50 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jeometry.common.number.Longs;
+import org.jeometry.common.number.Numbers;
 
 public final class LongIdentifier extends Number implements Identifier, Comparable<Object> {
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Check if the value is an integral number or an identifier with a single
+   * integral value, so it can be used as a primitive long key.
+   *
+   * @param value The identifier or value.
+   * @return True if the value can be used as a long key.
+   */
+  static boolean isLongKey(final Object value) {
+    if (Numbers.isPrimitiveIntegral(value)) {
+      return true;
+    } else if (value instanceof IntegerIdentifier || value instanceof LongIdentifier) {
+      return true;
+    } else if (value instanceof Identifier) {
+      final Identifier identifier = (Identifier)value;
+      if (identifier.getValueCount() == 1) {
+        final Object keyValue = identifier.getValue(0);
+        return Numbers.isPrimitiveIntegral(keyValue);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get the long key for a value where {@link #isLongKey(Object)} is true.
+   *
+   * @param value The identifier or value.
+   * @return The long key.
+   */
+  static long toLongKey(final Object value) {
+    if (value instanceof Number) {
+      final Number number = (Number)value;
+      return number.longValue();
+    } else {
+      final Identifier identifier = (Identifier)value;
+      final Number number = identifier.getValue(0);
+      return number.longValue();
+    }
+  }
+
   private final long value;
 
   LongIdentifier(final long value) {
@@ -0,0 +1,472 @@
+package org.jeometry.common.data.identifier;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import org.jeometry.common.function.LongObjectConsumer;
+
+/**
+ * A map from integer {@link Identifier}s to object values that stores the keys
+ * as primitive longs using open addressing with linear probing. Keys are
+ * stored in a long[] and values in a parallel Object[] so no identifier or
+ * tree entry objects are kept for each entry. The {@link java.util.Map}
+ * methods accept identifiers or integral numbers, other keys are never
+ * contained in the map. Null values are not supported.
+ *
+ * Iteration order is not defined, use {@link #toSortedMap()} to iterate or
+ * query ranges in key order.
+ *
+ * This class is not thread safe. A map that is not modified after it is
+ * safely published can be read by multiple threads.
+ *
+ * @param <V> The type of value.
+ */
+public class LongIdentifierMap<V> extends AbstractMap<Identifier, V> {
+  /**
+   * Iterates from the end of the table to the start so that entries shifted
+   * back by {@link #remove()} stay in the part of the table still to be
+   * visited. The only exception is an entry shifted from the start of the
+   * table to the end, these are returned after the table.
+   */
+  private class EntryIterator implements Iterator<Entry<Identifier, V>> {
+    private boolean freeKeyReturned = !LongIdentifierMap.this.hasFreeKey;
+
+    private int index = nextIndex(LongIdentifierMap.this.keys.length - 1);
+
+    private int lastIndex = NO_INDEX;
+
+    private long lastKey;
+
+    private long[] wrappedKeys;
+
+    private int wrappedCount;
+
+    private int wrappedIndex;
+
+    private void addWrapped(final long key) {
+      if (this.wrappedKeys == null) {
+        this.wrappedKeys = new long[4];
+      } else if (this.wrappedCount == this.wrappedKeys.length) {
+        this.wrappedKeys = Arrays.copyOf(this.wrappedKeys, this.wrappedCount * 2);
+      }
+      this.wrappedKeys[this.wrappedCount++] = key;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !this.freeKeyReturned || this.index >= 0 || this.wrappedIndex < this.wrappedCount;
+    }
+
+    private int nextIndex(final int startIndex) {
+      final long[] keys = LongIdentifierMap.this.keys;
+      int index = startIndex;
+      while (index >= 0 && keys[index] == FREE_KEY) {
+        index--;
+      }
+      return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<Identifier, V> next() {
+      if (!this.freeKeyReturned) {
+        this.freeKeyReturned = true;
+        this.lastIndex = KEY_INDEX;
+        this.lastKey = FREE_KEY;
+        return newEntry(FREE_KEY, LongIdentifierMap.this.freeValue);
+      } else if (this.index >= 0) {
+        final int index = this.index;
+        this.index = nextIndex(index - 1);
+        this.lastIndex = index;
+        this.lastKey = LongIdentifierMap.this.keys[index];
+        return newEntry(this.lastKey, (V)LongIdentifierMap.this.values[index]);
+      } else if (this.wrappedIndex < this.wrappedCount) {
+        this.lastIndex = KEY_INDEX;
+        this.lastKey = this.wrappedKeys[this.wrappedIndex++];
+        return newEntry(this.lastKey, get(this.lastKey));
+      } else {
+        throw new NoSuchElementException();
+      }
+    }
+
+    @Override
+    public void remove() {
+      final int lastIndex = this.lastIndex;
+      if (lastIndex == NO_INDEX) {
+        throw new IllegalStateException();
+      } else if (lastIndex == KEY_INDEX) {
+        LongIdentifierMap.this.remove(this.lastKey);
+      } else {
+        removeIndex(lastIndex, this);
+        this.index = nextIndex(this.index);
+      }
+      this.lastIndex = NO_INDEX;
+    }
+  }
+
+  private static final long FREE_KEY = 0;
+
+  private static final int KEY_INDEX = -1;
+
+  private static final int NO_INDEX = -2;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  static int hash(final long key) {
+    final long hash = key * 0x9E3779B97F4A7C15L;
+    return (int)(hash ^ hash >>> 32);
+  }
+
+  static int tableSize(final int expectedSize) {
+    final long minimumSize = (long)Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+    if (minimumSize >= MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    } else {
+      return Integer.highestOneBit((int)minimumSize - 1) << 1;
+    }
+  }
+
+  private boolean hasFreeKey;
+
+  private V freeValue;
+
+  private long[] keys;
+
+  private int mask;
+
+  private int resizeThreshold;
+
+  private int size;
+
+  private Object[] values;
+
+  public LongIdentifierMap() {
+    this(16);
+  }
+
+  public LongIdentifierMap(final int expectedSize) {
+    allocate(tableSize(expectedSize));
+  }
+
+  private void allocate(final int capacity) {
+    this.keys = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = (int)(capacity * LOAD_FACTOR);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.keys, FREE_KEY);
+    Arrays.fill(this.values, null);
+    this.hasFreeKey = false;
+    this.freeValue = null;
+    this.size = 0;
+  }
+
+  /**
+   * Get the value for the key, if there isn't one create a new value using the
+   * factory and add it to the map.
+   *
+   * @param key The key.
+   * @param factory The factory to create the value.
+   * @return The value.
+   */
+  public V computeIfAbsent(final long key, final LongFunction<? extends V> factory) {
+    V value = get(key);
+    if (value == null) {
+      value = factory.apply(key);
+      if (value != null) {
+        put(key, value);
+      }
+    }
+    return value;
+  }
+
+  public boolean containsKey(final long key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public Set<Entry<Identifier, V>> entrySet() {
+    return new AbstractSet<Entry<Identifier, V>>() {
+      @Override
+      public void clear() {
+        LongIdentifierMap.this.clear();
+      }
+
+      @Override
+      public Iterator<Entry<Identifier, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return LongIdentifierMap.this.size;
+      }
+    };
+  }
+
+  /**
+   * Perform the action for each entry in no particular order.
+   *
+   * @param action The action.
+   */
+  public void forEachEntry(final LongObjectConsumer<? super V> action) {
+    if (this.hasFreeKey) {
+      action.accept(FREE_KEY, this.freeValue);
+    }
+    final long[] keys = this.keys;
+    final Object[] values = this.values;
+    for (int i = 0; i < keys.length; i++) {
+      final long key = keys[i];
+      if (key != FREE_KEY) {
+        @SuppressWarnings("unchecked")
+        final V value = (V)values[i];
+        action.accept(key, value);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(final long key) {
+    if (key == FREE_KEY) {
+      return this.freeValue;
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == key) {
+          return (V)this.values[index];
+        } else if (currentKey == FREE_KEY) {
+          return null;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  @Override
+  public V get(final Object key) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return get(longKey);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Get the keys in the map in no particular order.
+   *
+   * @return The keys.
+   */
+  public long[] keys() {
+    final long[] keys = new long[this.size];
+    int keyIndex = 0;
+    if (this.hasFreeKey) {
+      keys[keyIndex++] = FREE_KEY;
+    }
+    for (final long key : this.keys) {
+      if (key != FREE_KEY) {
+        keys[keyIndex++] = key;
+      }
+    }
+    return keys;
+  }
+
+  private Entry<Identifier, V> newEntry(final long key, final V value) {
+    final Identifier identifier = Identifier.newIdentifier(key);
+    return new SimpleImmutableEntry<>(identifier, value);
+  }
+
+  @Override
+  public V put(final Identifier key, final V value) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return put(longKey, value);
+    } else {
+      throw new IllegalArgumentException("LongIdentifierMap key must be an integer: " + key);
+    }
+  }
+
+  /**
+   * Add the value to the map, returning the previous value for the key.
+   *
+   * @param key The key.
+   * @param value The value, must not be null.
+   * @return The previous value or null if there wasn't one.
+   */
+  @SuppressWarnings("unchecked")
+  public V put(final long key, final V value) {
+    if (value == null) {
+      throw new NullPointerException(
+        "LongIdentifierMap does not support null values for key=" + key);
+    }
+    if (key == FREE_KEY) {
+      final V oldValue = this.freeValue;
+      if (!this.hasFreeKey) {
+        this.hasFreeKey = true;
+        this.size++;
+      }
+      this.freeValue = value;
+      return oldValue;
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          keys[index] = key;
+          this.values[index] = value;
+          if (++this.size >= this.resizeThreshold) {
+            rehash(keys.length * 2);
+          }
+          return null;
+        } else if (currentKey == key) {
+          final V oldValue = (V)this.values[index];
+          this.values[index] = value;
+          return oldValue;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  private void rehash(final int capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalStateException("LongIdentifierMap cannot hold more than "
+        + (int)(MAX_CAPACITY * LOAD_FACTOR) + " entries");
+    }
+    final long[] oldKeys = this.keys;
+    final Object[] oldValues = this.values;
+    allocate(capacity);
+    final long[] keys = this.keys;
+    final Object[] values = this.values;
+    final int mask = this.mask;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final long key = oldKeys[i];
+      if (key != FREE_KEY) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+          index = index + 1 & mask;
+        }
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Remove the key from the map. The following entries in the probe sequence
+   * are shifted back so that no tombstones are required.
+   *
+   * @param key The key.
+   * @return The removed value or null if there wasn't one.
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(final long key) {
+    if (key == FREE_KEY) {
+      final V oldValue = this.freeValue;
+      if (this.hasFreeKey) {
+        this.hasFreeKey = false;
+        this.freeValue = null;
+        this.size--;
+      }
+      return oldValue;
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          return null;
+        } else if (currentKey == key) {
+          final V oldValue = (V)this.values[index];
+          removeIndex(index, null);
+          return oldValue;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  /**
+   * Remove the entry at the index and shift the following entries in the probe
+   * sequence back. Entries shifted from the start of the table to the index or
+   * after are added to the iterator's entries to return after the table.
+   */
+  private void removeIndex(final int index, final EntryIterator iterator) {
+    final long[] keys = this.keys;
+    final Object[] values = this.values;
+    final int mask = this.mask;
+    this.size--;
+    int gap = index;
+    int next = gap + 1 & mask;
+    while (keys[next] != FREE_KEY) {
+      final int home = hash(keys[next]) & mask;
+      if ((next - home & mask) >= (next - gap & mask)) {
+        if (iterator != null && next < index && gap >= index) {
+          iterator.addWrapped(keys[next]);
+        }
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+      next = next + 1 & mask;
+    }
+    keys[gap] = FREE_KEY;
+    values[gap] = null;
+  }
+
+  @Override
+  public V remove(final Object key) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return remove(longKey);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Create a map sorted by key containing the entries from this map.
+   *
+   * @return The sorted map.
+   */
+  public LongIdentifierSortedMap<V> toSortedMap() {
+    final LongIdentifierSortedMap<V> sortedMap = new LongIdentifierSortedMap<>(this.size);
+    final long[] keys = keys();
+    Arrays.sort(keys);
+    for (final long key : keys) {
+      sortedMap.put(key, get(key));
+    }
+    return sortedMap;
+  }
+}
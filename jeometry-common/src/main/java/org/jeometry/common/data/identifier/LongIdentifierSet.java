@@ -0,0 +1,365 @@
+package org.jeometry.common.data.identifier;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of integer {@link Identifier}s that stores the values as primitive
+ * longs using open addressing with linear probing. The {@link java.util.Set}
+ * methods accept identifiers or integral numbers, other values are never
+ * contained in the set.
+ *
+ * Iteration order is not defined, use {@link #toSortedSet()} to iterate or
+ * query ranges in order.
+ *
+ * This class is not thread safe. A set that is not modified after it is
+ * safely published can be read by multiple threads.
+ */
+public class LongIdentifierSet extends AbstractSet<Identifier> {
+  /**
+   * Iterates from the end of the table to the start so that values shifted back
+   * by {@link #remove()} stay in the part of the table still to be visited. The
+   * only exception is a value shifted from the start of the table to the end,
+   * these are returned after the table.
+   */
+  private class IdentifierIterator implements Iterator<Identifier> {
+    private boolean freeKeyReturned = !LongIdentifierSet.this.hasFreeKey;
+
+    private int index = nextIndex(LongIdentifierSet.this.keys.length - 1);
+
+    private int lastIndex = NO_INDEX;
+
+    private long lastKey;
+
+    private long[] wrappedKeys;
+
+    private int wrappedCount;
+
+    private int wrappedIndex;
+
+    private void addWrapped(final long key) {
+      if (this.wrappedKeys == null) {
+        this.wrappedKeys = new long[4];
+      } else if (this.wrappedCount == this.wrappedKeys.length) {
+        this.wrappedKeys = Arrays.copyOf(this.wrappedKeys, this.wrappedCount * 2);
+      }
+      this.wrappedKeys[this.wrappedCount++] = key;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !this.freeKeyReturned || this.index >= 0 || this.wrappedIndex < this.wrappedCount;
+    }
+
+    private int nextIndex(final int startIndex) {
+      final long[] keys = LongIdentifierSet.this.keys;
+      int index = startIndex;
+      while (index >= 0 && keys[index] == FREE_KEY) {
+        index--;
+      }
+      return index;
+    }
+
+    @Override
+    public Identifier next() {
+      if (!this.freeKeyReturned) {
+        this.freeKeyReturned = true;
+        this.lastIndex = KEY_INDEX;
+        this.lastKey = FREE_KEY;
+      } else if (this.index >= 0) {
+        final int index = this.index;
+        this.index = nextIndex(index - 1);
+        this.lastIndex = index;
+        this.lastKey = LongIdentifierSet.this.keys[index];
+      } else if (this.wrappedIndex < this.wrappedCount) {
+        this.lastIndex = KEY_INDEX;
+        this.lastKey = this.wrappedKeys[this.wrappedIndex++];
+      } else {
+        throw new NoSuchElementException();
+      }
+      return Identifier.newIdentifier(this.lastKey);
+    }
+
+    @Override
+    public void remove() {
+      final int lastIndex = this.lastIndex;
+      if (lastIndex == NO_INDEX) {
+        throw new IllegalStateException();
+      } else if (lastIndex == KEY_INDEX) {
+        LongIdentifierSet.this.remove(this.lastKey);
+      } else {
+        removeIndex(lastIndex, this);
+        this.index = nextIndex(this.index);
+      }
+      this.lastIndex = NO_INDEX;
+    }
+  }
+
+  private static final long FREE_KEY = 0;
+
+  private static final int KEY_INDEX = -1;
+
+  private static final int NO_INDEX = -2;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private boolean hasFreeKey;
+
+  private long[] keys;
+
+  private int mask;
+
+  private int resizeThreshold;
+
+  private int size;
+
+  public LongIdentifierSet() {
+    this(16);
+  }
+
+  public LongIdentifierSet(final int expectedSize) {
+    allocate(LongIdentifierMap.tableSize(expectedSize));
+  }
+
+  @Override
+  public boolean add(final Identifier identifier) {
+    if (LongIdentifier.isLongKey(identifier)) {
+      final long key = LongIdentifier.toLongKey(identifier);
+      return add(key);
+    } else {
+      throw new IllegalArgumentException(
+        "LongIdentifierSet value must be an integer: " + identifier);
+    }
+  }
+
+  /**
+   * Add the value to the set.
+   *
+   * @param key The value.
+   * @return True if the value was added, false if it was already in the set.
+   */
+  public boolean add(final long key) {
+    if (key == FREE_KEY) {
+      if (this.hasFreeKey) {
+        return false;
+      } else {
+        this.hasFreeKey = true;
+        this.size++;
+        return true;
+      }
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = LongIdentifierMap.hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          keys[index] = key;
+          if (++this.size >= this.resizeThreshold) {
+            rehash(keys.length * 2);
+          }
+          return true;
+        } else if (currentKey == key) {
+          return false;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    this.keys = new long[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = (int)(capacity * LOAD_FACTOR);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.keys, FREE_KEY);
+    this.hasFreeKey = false;
+    this.size = 0;
+  }
+
+  public boolean contains(final long key) {
+    if (key == FREE_KEY) {
+      return this.hasFreeKey;
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = LongIdentifierMap.hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == key) {
+          return true;
+        } else if (currentKey == FREE_KEY) {
+          return false;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(final Object value) {
+    if (LongIdentifier.isLongKey(value)) {
+      final long key = LongIdentifier.toLongKey(value);
+      return contains(key);
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Perform the action for each value in no particular order.
+   *
+   * @param action The action.
+   */
+  public void forEachLong(final LongConsumer action) {
+    if (this.hasFreeKey) {
+      action.accept(FREE_KEY);
+    }
+    for (final long key : this.keys) {
+      if (key != FREE_KEY) {
+        action.accept(key);
+      }
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public Iterator<Identifier> iterator() {
+    return new IdentifierIterator();
+  }
+
+  /**
+   * Get the values in the set in no particular order.
+   *
+   * @return The values.
+   */
+  public long[] keys() {
+    final long[] keys = new long[this.size];
+    int keyIndex = 0;
+    if (this.hasFreeKey) {
+      keys[keyIndex++] = FREE_KEY;
+    }
+    for (final long key : this.keys) {
+      if (key != FREE_KEY) {
+        keys[keyIndex++] = key;
+      }
+    }
+    return keys;
+  }
+
+  private void rehash(final int capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalStateException("LongIdentifierSet cannot hold more than "
+        + (int)(MAX_CAPACITY * LOAD_FACTOR) + " values");
+    }
+    final long[] oldKeys = this.keys;
+    allocate(capacity);
+    final long[] keys = this.keys;
+    final int mask = this.mask;
+    for (final long key : oldKeys) {
+      if (key != FREE_KEY) {
+        int index = LongIdentifierMap.hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+          index = index + 1 & mask;
+        }
+        keys[index] = key;
+      }
+    }
+  }
+
+  /**
+   * Remove the value from the set. The following values in the probe sequence
+   * are shifted back so that no tombstones are required.
+   *
+   * @param key The value.
+   * @return True if the value was removed.
+   */
+  public boolean remove(final long key) {
+    if (key == FREE_KEY) {
+      if (this.hasFreeKey) {
+        this.hasFreeKey = false;
+        this.size--;
+        return true;
+      } else {
+        return false;
+      }
+    } else {
+      final long[] keys = this.keys;
+      final int mask = this.mask;
+      int index = LongIdentifierMap.hash(key) & mask;
+      while (true) {
+        final long currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          return false;
+        } else if (currentKey == key) {
+          removeIndex(index, null);
+          return true;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  /**
+   * Remove the value at the index and shift the following values in the probe
+   * sequence back. Values shifted from the start of the table to the index or
+   * after are added to the iterator's values to return after the table.
+   */
+  private void removeIndex(final int index, final IdentifierIterator iterator) {
+    final long[] keys = this.keys;
+    final int mask = this.mask;
+    this.size--;
+    int gap = index;
+    int next = gap + 1 & mask;
+    while (keys[next] != FREE_KEY) {
+      final int home = LongIdentifierMap.hash(keys[next]) & mask;
+      if ((next - home & mask) >= (next - gap & mask)) {
+        if (iterator != null && next < index && gap >= index) {
+          iterator.addWrapped(keys[next]);
+        }
+        keys[gap] = keys[next];
+        gap = next;
+      }
+      next = next + 1 & mask;
+    }
+    keys[gap] = FREE_KEY;
+  }
+
+  @Override
+  public boolean remove(final Object value) {
+    if (LongIdentifier.isLongKey(value)) {
+      final long key = LongIdentifier.toLongKey(value);
+      return remove(key);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Create a sorted set containing the values from this set.
+   *
+   * @return The sorted set.
+   */
+  public LongIdentifierSortedSet toSortedSet() {
+    final long[] keys = keys();
+    Arrays.sort(keys);
+    return new LongIdentifierSortedSet(keys, keys.length);
+  }
+}
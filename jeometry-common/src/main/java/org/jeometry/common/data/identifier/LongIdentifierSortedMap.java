@@ -0,0 +1,343 @@
+package org.jeometry.common.data.identifier;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jeometry.common.function.LongObjectConsumer;
+
+/**
+ * A map from integer {@link Identifier}s to object values that stores the keys
+ * as primitive longs in a sorted long[] with a parallel Object[] of values.
+ * Lookups use a binary search and entries are iterated in key order. Adding
+ * keys in ascending order appends to the arrays, other inserts shift the
+ * following entries. The {@link java.util.Map} methods accept identifiers or
+ * integral numbers, other keys are never contained in the map. Null values
+ * are not supported.
+ *
+ * This class is not thread safe. A map that is not modified after it is
+ * safely published can be read by multiple threads.
+ *
+ * @param <V> The type of value.
+ */
+public class LongIdentifierSortedMap<V> extends AbstractMap<Identifier, V> {
+  private class EntryIterator implements Iterator<Entry<Identifier, V>> {
+    private int index = 0;
+
+    private int lastIndex = -1;
+
+    @Override
+    public boolean hasNext() {
+      return this.index < LongIdentifierSortedMap.this.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<Identifier, V> next() {
+      final int index = this.index;
+      if (index < LongIdentifierSortedMap.this.size) {
+        this.index++;
+        this.lastIndex = index;
+        final long key = LongIdentifierSortedMap.this.keys[index];
+        final Identifier identifier = Identifier.newIdentifier(key);
+        final V value = (V)LongIdentifierSortedMap.this.values[index];
+        return new SimpleImmutableEntry<>(identifier, value);
+      } else {
+        throw new NoSuchElementException();
+      }
+    }
+
+    @Override
+    public void remove() {
+      if (this.lastIndex < 0) {
+        throw new IllegalStateException();
+      } else {
+        removeIndex(this.lastIndex);
+        this.index = this.lastIndex;
+        this.lastIndex = -1;
+      }
+    }
+  }
+
+  static int indexOf(final long[] keys, final int size, final long key) {
+    if (size > 0 && key > keys[size - 1]) {
+      return -size - 1;
+    } else {
+      return Arrays.binarySearch(keys, 0, size, key);
+    }
+  }
+
+  static int newCapacity(final int capacity, final int minCapacity) {
+    final int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1) + 1);
+    if (newCapacity < 0) {
+      throw new IllegalStateException("Sorted identifier collections are limited to "
+        + Integer.MAX_VALUE + " entries");
+    }
+    return newCapacity;
+  }
+
+  static int startIndex(final long[] keys, final int size, final long fromKey) {
+    final int index = indexOf(keys, size, fromKey);
+    if (index < 0) {
+      return -index - 1;
+    } else {
+      return index;
+    }
+  }
+
+  private long[] keys;
+
+  private int size;
+
+  private Object[] values;
+
+  public LongIdentifierSortedMap() {
+    this(16);
+  }
+
+  public LongIdentifierSortedMap(final int expectedSize) {
+    this.keys = new long[expectedSize];
+    this.values = new Object[expectedSize];
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.values, 0, this.size, null);
+    this.size = 0;
+  }
+
+  public boolean containsKey(final long key) {
+    return indexOf(this.keys, this.size, key) >= 0;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return containsKey(longKey);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public Set<Entry<Identifier, V>> entrySet() {
+    return new AbstractSet<Entry<Identifier, V>>() {
+      @Override
+      public void clear() {
+        LongIdentifierSortedMap.this.clear();
+      }
+
+      @Override
+      public Iterator<Entry<Identifier, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return LongIdentifierSortedMap.this.size;
+      }
+    };
+  }
+
+  /**
+   * Get the first (lowest) key.
+   *
+   * @return The key.
+   * @throws NoSuchElementException If the map is empty.
+   */
+  public long firstKey() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    } else {
+      return this.keys[0];
+    }
+  }
+
+  /**
+   * Perform the action for each entry in key order.
+   *
+   * @param action The action.
+   */
+  public void forEachEntry(final LongObjectConsumer<? super V> action) {
+    forEachEntry(0, this.size, action);
+  }
+
+  private void forEachEntry(final int startIndex, final int endIndex,
+    final LongObjectConsumer<? super V> action) {
+    final long[] keys = this.keys;
+    final Object[] values = this.values;
+    for (int i = startIndex; i < endIndex; i++) {
+      @SuppressWarnings("unchecked")
+      final V value = (V)values[i];
+      action.accept(keys[i], value);
+    }
+  }
+
+  /**
+   * Perform the action for each entry with fromKey &lt;= key &lt; toKey in key
+   * order.
+   *
+   * @param fromKey The lowest key (inclusive).
+   * @param toKey The highest key (exclusive).
+   * @param action The action.
+   */
+  public void forEachEntry(final long fromKey, final long toKey,
+    final LongObjectConsumer<? super V> action) {
+    if (fromKey < toKey) {
+      final int startIndex = startIndex(this.keys, this.size, fromKey);
+      final int endIndex = startIndex(this.keys, this.size, toKey);
+      forEachEntry(startIndex, endIndex, action);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(final long key) {
+    final int index = indexOf(this.keys, this.size, key);
+    if (index < 0) {
+      return null;
+    } else {
+      return (V)this.values[index];
+    }
+  }
+
+  @Override
+  public V get(final Object key) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return get(longKey);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Get the keys in the map in ascending order.
+   *
+   * @return The keys.
+   */
+  public long[] keys() {
+    return Arrays.copyOf(this.keys, this.size);
+  }
+
+  /**
+   * Get the last (highest) key.
+   *
+   * @return The key.
+   * @throws NoSuchElementException If the map is empty.
+   */
+  public long lastKey() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    } else {
+      return this.keys[this.size - 1];
+    }
+  }
+
+  @Override
+  public V put(final Identifier key, final V value) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return put(longKey, value);
+    } else {
+      throw new IllegalArgumentException("LongIdentifierSortedMap key must be an integer: " + key);
+    }
+  }
+
+  /**
+   * Add the value to the map, returning the previous value for the key.
+   *
+   * @param key The key.
+   * @param value The value, must not be null.
+   * @return The previous value or null if there wasn't one.
+   */
+  @SuppressWarnings("unchecked")
+  public V put(final long key, final V value) {
+    if (value == null) {
+      throw new NullPointerException(
+        "LongIdentifierSortedMap does not support null values for key=" + key);
+    }
+    final int size = this.size;
+    final int index = indexOf(this.keys, size, key);
+    if (index >= 0) {
+      final V oldValue = (V)this.values[index];
+      this.values[index] = value;
+      return oldValue;
+    } else {
+      final int insertIndex = -index - 1;
+      if (size == this.keys.length) {
+        final int capacity = newCapacity(size, size + 1);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+      }
+      final long[] keys = this.keys;
+      final Object[] values = this.values;
+      if (insertIndex < size) {
+        System.arraycopy(keys, insertIndex, keys, insertIndex + 1, size - insertIndex);
+        System.arraycopy(values, insertIndex, values, insertIndex + 1, size - insertIndex);
+      }
+      keys[insertIndex] = key;
+      values[insertIndex] = value;
+      this.size++;
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public V remove(final long key) {
+    final int size = this.size;
+    final int index = indexOf(this.keys, size, key);
+    if (index < 0) {
+      return null;
+    } else {
+      final V oldValue = (V)this.values[index];
+      removeIndex(index);
+      return oldValue;
+    }
+  }
+
+  private void removeIndex(final int index) {
+    final int size = this.size;
+    final Object[] values = this.values;
+    final int moveCount = size - index - 1;
+    if (moveCount > 0) {
+      System.arraycopy(this.keys, index + 1, this.keys, index, moveCount);
+      System.arraycopy(values, index + 1, values, index, moveCount);
+    }
+    values[size - 1] = null;
+    this.size--;
+  }
+
+  @Override
+  public V remove(final Object key) {
+    if (LongIdentifier.isLongKey(key)) {
+      final long longKey = LongIdentifier.toLongKey(key);
+      return remove(longKey);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Release the unused capacity of the arrays.
+   */
+  public void trimToSize() {
+    if (this.size < this.keys.length) {
+      this.keys = Arrays.copyOf(this.keys, this.size);
+      this.values = Arrays.copyOf(this.values, this.size);
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package org.jeometry.common.data.identifier;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of integer {@link Identifier}s that stores the values as primitive
+ * longs in a sorted long[]. Lookups use a binary search and values are
+ * iterated in ascending order. Adding values in ascending order appends to
+ * the array, other inserts shift the following values. The
+ * {@link java.util.Set} methods accept identifiers or integral numbers, other
+ * values are never contained in the set.
+ *
+ * This class is not thread safe. A set that is not modified after it is
+ * safely published can be read by multiple threads.
+ */
+public class LongIdentifierSortedSet extends AbstractSet<Identifier> {
+  private long[] keys;
+
+  private int size;
+
+  public LongIdentifierSortedSet() {
+    this(16);
+  }
+
+  public LongIdentifierSortedSet(final int expectedSize) {
+    this.keys = new long[expectedSize];
+  }
+
+  /**
+   * Use the array of sorted distinct keys directly.
+   */
+  LongIdentifierSortedSet(final long[] keys, final int size) {
+    this.keys = keys;
+    this.size = size;
+  }
+
+  @Override
+  public boolean add(final Identifier identifier) {
+    if (LongIdentifier.isLongKey(identifier)) {
+      final long key = LongIdentifier.toLongKey(identifier);
+      return add(key);
+    } else {
+      throw new IllegalArgumentException(
+        "LongIdentifierSortedSet value must be an integer: " + identifier);
+    }
+  }
+
+  /**
+   * Add the value to the set.
+   *
+   * @param key The value.
+   * @return True if the value was added, false if it was already in the set.
+   */
+  public boolean add(final long key) {
+    final int size = this.size;
+    final int index = LongIdentifierSortedMap.indexOf(this.keys, size, key);
+    if (index >= 0) {
+      return false;
+    } else {
+      final int insertIndex = -index - 1;
+      if (size == this.keys.length) {
+        final int capacity = LongIdentifierSortedMap.newCapacity(size, size + 1);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+      }
+      final long[] keys = this.keys;
+      if (insertIndex < size) {
+        System.arraycopy(keys, insertIndex, keys, insertIndex + 1, size - insertIndex);
+      }
+      keys[insertIndex] = key;
+      this.size++;
+      return true;
+    }
+  }
+
+  @Override
+  public void clear() {
+    this.size = 0;
+  }
+
+  public boolean contains(final long key) {
+    return LongIdentifierSortedMap.indexOf(this.keys, this.size, key) >= 0;
+  }
+
+  @Override
+  public boolean contains(final Object value) {
+    if (LongIdentifier.isLongKey(value)) {
+      final long key = LongIdentifier.toLongKey(value);
+      return contains(key);
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Get the first (lowest) value.
+   *
+   * @return The value.
+   * @throws NoSuchElementException If the set is empty.
+   */
+  public long first() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    } else {
+      return this.keys[0];
+    }
+  }
+
+  /**
+   * Perform the action for each value in ascending order.
+   *
+   * @param action The action.
+   */
+  public void forEachLong(final LongConsumer action) {
+    final long[] keys = this.keys;
+    final int size = this.size;
+    for (int i = 0; i < size; i++) {
+      action.accept(keys[i]);
+    }
+  }
+
+  /**
+   * Perform the action for each value with fromKey &lt;= value &lt; toKey in
+   * ascending order.
+   *
+   * @param fromKey The lowest value (inclusive).
+   * @param toKey The highest value (exclusive).
+   * @param action The action.
+   */
+  public void forEachLong(final long fromKey, final long toKey, final LongConsumer action) {
+    if (fromKey < toKey) {
+      final long[] keys = this.keys;
+      final int startIndex = LongIdentifierSortedMap.startIndex(keys, this.size, fromKey);
+      final int endIndex = LongIdentifierSortedMap.startIndex(keys, this.size, toKey);
+      for (int i = startIndex; i < endIndex; i++) {
+        action.accept(keys[i]);
+      }
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  @Override
+  public Iterator<Identifier> iterator() {
+    return new Iterator<Identifier>() {
+      private int index = 0;
+
+      private int lastIndex = -1;
+
+      @Override
+      public boolean hasNext() {
+        return this.index < LongIdentifierSortedSet.this.size;
+      }
+
+      @Override
+      public Identifier next() {
+        final int index = this.index;
+        if (index < LongIdentifierSortedSet.this.size) {
+          this.index++;
+          this.lastIndex = index;
+          return Identifier.newIdentifier(LongIdentifierSortedSet.this.keys[index]);
+        } else {
+          throw new NoSuchElementException();
+        }
+      }
+
+      @Override
+      public void remove() {
+        if (this.lastIndex < 0) {
+          throw new IllegalStateException();
+        } else {
+          removeIndex(this.lastIndex);
+          this.index = this.lastIndex;
+          this.lastIndex = -1;
+        }
+      }
+    };
+  }
+
+  /**
+   * Get the values in the set in ascending order.
+   *
+   * @return The values.
+   */
+  public long[] keys() {
+    return Arrays.copyOf(this.keys, this.size);
+  }
+
+  /**
+   * Get the last (highest) value.
+   *
+   * @return The value.
+   * @throws NoSuchElementException If the set is empty.
+   */
+  public long last() {
+    if (this.size == 0) {
+      throw new NoSuchElementException();
+    } else {
+      return this.keys[this.size - 1];
+    }
+  }
+
+  public boolean remove(final long key) {
+    final int size = this.size;
+    final int index = LongIdentifierSortedMap.indexOf(this.keys, size, key);
+    if (index < 0) {
+      return false;
+    } else {
+      removeIndex(index);
+      return true;
+    }
+  }
+
+  private void removeIndex(final int index) {
+    final int moveCount = this.size - index - 1;
+    if (moveCount > 0) {
+      System.arraycopy(this.keys, index + 1, this.keys, index, moveCount);
+    }
+    this.size--;
+  }
+
+  @Override
+  public boolean remove(final Object value) {
+    if (LongIdentifier.isLongKey(value)) {
+      final long key = LongIdentifier.toLongKey(value);
+      return remove(key);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Release the unused capacity of the array.
+   */
+  public void trimToSize() {
+    if (this.size < this.keys.length) {
+      this.keys = Arrays.copyOf(this.keys, this.size);
+    }
+  }
+}
@@ -92,6 +92,28 @@ public abstract class AbstractDataType implements DataType {
     return this.name.hashCode();
   }
 
+  @Override
+  public int hashCode(final Object value) {
+    if (value == null) {
+      return 0;
+    } else {
+      try {
+        final Object convertedValue = toObject(value);
+        if (convertedValue == null) {
+          return 0;
+        } else {
+          return hashCodeNotNull(convertedValue);
+        }
+      } catch (final Throwable e) {
+        return value.hashCode();
+      }
+    }
+  }
+
+  protected int hashCodeNotNull(final Object value) {
+    return value.hashCode();
+  }
+
   @Override
   public boolean isAssignableFrom(final Class<?> valueClass) {
     return this.javaClass.isAssignableFrom(valueClass);
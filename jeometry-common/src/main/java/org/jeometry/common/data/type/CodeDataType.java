@@ -31,6 +31,16 @@ public class CodeDataType extends AbstractDataType {
     }
   }
 
+  @Override
+  public int hashCode(final Object value) {
+    final Object code = Code.getCode(value);
+    if (code == null) {
+      return 0;
+    } else {
+      return code.hashCode();
+    }
+  }
+
   @Override
   protected Object toObjectDo(final Object value) {
     if (this.toObjectFunction == null) {
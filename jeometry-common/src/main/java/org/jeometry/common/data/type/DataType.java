@@ -3,6 +3,8 @@ package org.jeometry.common.data.type;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.jeometry.common.number.Doubles;
+
 public interface DataType {
   static boolean equal(final Object object1, final Object object2) {
     final DataType dataType = DataTypes.getDataType(object1);
@@ -28,6 +30,58 @@ public interface DataType {
     }
   }
 
+  /**
+   * Get the hash code of the value consistent with
+   * {@link #equal(Object, Object)}, which converts the second value to the data
+   * type of the first. Numbers and numeric strings are hashed by their value
+   * (e.g. 1, 1.0, 1L and "1" have the same hash code) and booleans as "true" or
+   * "false". Other values use the hash code from their data type.
+   *
+   * @param object The value.
+   * @return The hash code or 0 for null.
+   */
+  static int hash(final Object object) {
+    if (object == null) {
+      return 0;
+    } else if (object instanceof Long || object instanceof Integer || object instanceof Short
+      || object instanceof Byte) {
+      return Long.hashCode(((Number)object).longValue());
+    } else if (object instanceof Number) {
+      return hashNumber(((Number)object).doubleValue());
+    } else if (object instanceof Boolean) {
+      return object.toString().hashCode();
+    } else if (object instanceof CharSequence) {
+      final CharSequence string = (CharSequence)object;
+      final int length = string.length();
+      if (length > 0) {
+        final char firstChar = string.charAt(0);
+        if ((firstChar >= '0' && firstChar <= '9' || firstChar == '-' || firstChar == '+'
+          || firstChar == '.' || firstChar == 'N' || firstChar == 'I' || firstChar <= ' ')
+          && Doubles.isDouble(string, 0, length)) {
+          return hashNumber(Doubles.parseDouble(string, 0, length));
+        }
+      }
+      return string.toString().hashCode();
+    } else {
+      final DataType dataType = DataTypes.getDataType(object);
+      return dataType.hashCode(object);
+    }
+  }
+
+  /**
+   * Hash integral values less than 2^63 as a long so that large int and long
+   * ids don't collide. Other values are hashed as a float so that doubles and
+   * floats that are equal as floats have the same hash code. -0 has the same
+   * hash code as 0.
+   */
+  private static int hashNumber(final double value) {
+    if (value % 1 == 0 && Math.abs(value) < 0x1p63) {
+      return Long.hashCode((long)value);
+    } else {
+      return Float.hashCode((float)value + 0.0f);
+    }
+  }
+
   default int compareNullFirst(final Object object1, final Object object2) {
     if (object1 == null) {
       if (object2 == null) {
@@ -68,6 +122,21 @@ public interface DataType {
     return null;
   }
 
+  /**
+   * Get a hash code for the value consistent with
+   * {@link #equals(Object, Object)}.
+   *
+   * @param value The value.
+   * @return The hash code or 0 for null.
+   */
+  default int hashCode(final Object value) {
+    if (value == null) {
+      return 0;
+    } else {
+      return value.hashCode();
+    }
+  }
+
   String getName();
 
   default String getValidationName() {
@@ -19,6 +19,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 import javax.xml.namespace.QName;
 
@@ -28,15 +32,41 @@ import org.jeometry.common.date.Dates;
 import org.jeometry.common.exception.Exceptions;
 import org.jeometry.common.io.PathName;
 import org.jeometry.common.net.UrlProxy;
+import org.jeometry.common.number.Doubles;
+import org.jeometry.common.number.Integers;
+import org.jeometry.common.number.Longs;
 import org.slf4j.LoggerFactory;
 
 // TODO manage data types by classloader and allow unloading of registered classes.
 public final class DataTypes {
 
-  private static final Map<String, DataType> CLASS_TYPE_MAP = new HashMap<>();
+  private static final Map<String, DataType> CLASS_TYPE_MAP = new ConcurrentHashMap<>();
 
   private static final Map<String, DataType> NAME_TYPE_MAP = new HashMap<>();
 
+  /** The resolved data type for each class, replaced when a new class is registered. */
+  private static volatile ClassValue<DataType> dataTypeByClass = newDataTypeByClass();
+
+  /**
+   * The converter for each target class and then source class, replaced when a
+   * new class is registered.
+   */
+  private static volatile ClassValue<ClassValue<Function<Object, Object>>> converterByTargetClass = newConverterByTargetClass();
+
+  private static final ClassValue<ToDoubleFunction<Object>> DOUBLE_CONVERTER_BY_CLASS = new ClassValue<ToDoubleFunction<Object>>() {
+    @Override
+    protected ToDoubleFunction<Object> computeValue(final Class<?> sourceClass) {
+      return newDoubleConverter(sourceClass);
+    }
+  };
+
+  private static final ClassValue<ToLongFunction<Object>> LONG_CONVERTER_BY_CLASS = new ClassValue<ToLongFunction<Object>>() {
+    @Override
+    protected ToLongFunction<Object> computeValue(final Class<?> sourceClass) {
+      return newLongConverter(sourceClass);
+    }
+  };
+
   public static final DataType ANY_URI = new FunctionDataType("anyURI", URI.class, value -> {
     try {
       if (value instanceof URL) {
@@ -134,7 +164,8 @@ public final class DataTypes {
     } else {
       return value;
     }
-  }, FunctionDataType.MAP_EQUALS, FunctionDataType.MAP_EQUALS_EXCLUDES);
+  }, FunctionDataType.MAP_EQUALS, FunctionDataType.MAP_EQUALS_EXCLUDES,
+    FunctionDataType.MAP_HASH_CODE);
 
   public static final DataType OBJECT = new ObjectDataType();
 
@@ -222,25 +253,24 @@ public final class DataTypes {
     register(Double.TYPE, DOUBLE);
   }
 
+  /**
+   * Get the function that converts values of the source class to the target
+   * class. The function is created on first use and cached.
+   *
+   * @param targetClass The class to convert to.
+   * @param sourceClass The class of the (non-null) values to convert.
+   * @return The converter.
+   */
+  public static Function<Object, Object> getConverter(final Class<?> targetClass,
+    final Class<?> sourceClass) {
+    return converterByTargetClass.get(targetClass).get(sourceClass);
+  }
+
   public static DataType getDataType(final Class<?> clazz) {
     if (clazz == null) {
       return DataTypes.OBJECT;
     } else {
-      DataType dataType = CLASS_TYPE_MAP.get(clazz.getName());
-      if (dataType == null) {
-        final Class<?>[] interfaces = clazz.getInterfaces();
-        if (interfaces != null) {
-          for (final Class<?> inter : interfaces) {
-            dataType = getDataType(inter);
-            if (dataType != null && dataType != DataTypes.OBJECT) {
-              return dataType;
-            }
-          }
-        }
-        return getDataType(clazz.getSuperclass());
-      } else {
-        return dataType;
-      }
+      return dataTypeByClass.get(clazz);
     }
   }
 
@@ -281,10 +311,145 @@ public final class DataTypes {
     }
   }
 
+  /**
+   * Get the function that converts values of the source class to a double
+   * without boxing. Numbers use {@link Number#doubleValue()}, strings are
+   * parsed and other values are converted using {@link #DOUBLE}.
+   *
+   * @param sourceClass The class of the (non-null) values to convert.
+   * @return The converter.
+   */
+  public static ToDoubleFunction<Object> getDoubleConverter(final Class<?> sourceClass) {
+    return DOUBLE_CONVERTER_BY_CLASS.get(sourceClass);
+  }
+
+  /**
+   * Get the function that converts values of the source class to a long
+   * without boxing. Numbers use {@link Number#longValue()}, strings are parsed
+   * and other values are converted using {@link #LONG}.
+   *
+   * @param sourceClass The class of the (non-null) values to convert.
+   * @return The converter.
+   */
+  public static ToLongFunction<Object> getLongConverter(final Class<?> sourceClass) {
+    return LONG_CONVERTER_BY_CLASS.get(sourceClass);
+  }
+
+  private static Function<Object, Object> newConverter(final Class<?> targetClass,
+    final Class<?> sourceClass) {
+    final DataType dataType = getDataType(targetClass);
+    if (targetClass.isAssignableFrom(sourceClass)) {
+      return Function.identity();
+    } else if (targetClass.isEnum()) {
+      return value -> toEnum(targetClass, dataType, value);
+    } else if (dataType == INT || dataType == LONG || dataType == DOUBLE || dataType == FLOAT) {
+      if (dataType.getJavaClass() == sourceClass) {
+        return Function.identity();
+      } else if (Number.class.isAssignableFrom(sourceClass)) {
+        if (dataType == INT) {
+          return value -> ((Number)value).intValue();
+        } else if (dataType == LONG) {
+          return value -> ((Number)value).longValue();
+        } else if (dataType == DOUBLE) {
+          return value -> ((Number)value).doubleValue();
+        } else {
+          return value -> ((Number)value).floatValue();
+        }
+      } else if (sourceClass == String.class) {
+        if (dataType == INT) {
+          return value -> {
+            final String string = (String)value;
+            return Integers.parseInt(string, 0, string.length());
+          };
+        } else if (dataType == LONG) {
+          return value -> {
+            final String string = (String)value;
+            return Longs.parseLong(string, 0, string.length());
+          };
+        } else if (dataType == DOUBLE) {
+          return value -> {
+            final String string = (String)value;
+            final int length = string.length();
+            if (length == 0) {
+              return null;
+            } else {
+              return Doubles.parseDouble(string, 0, length);
+            }
+          };
+        }
+      }
+    }
+    return dataType::toObject;
+  }
+
+  private static ClassValue<ClassValue<Function<Object, Object>>> newConverterByTargetClass() {
+    return new ClassValue<ClassValue<Function<Object, Object>>>() {
+      @Override
+      protected ClassValue<Function<Object, Object>> computeValue(final Class<?> targetClass) {
+        return new ClassValue<Function<Object, Object>>() {
+          @Override
+          protected Function<Object, Object> computeValue(final Class<?> sourceClass) {
+            return newConverter(targetClass, sourceClass);
+          }
+        };
+      }
+    };
+  }
+
+  private static ClassValue<DataType> newDataTypeByClass() {
+    return new ClassValue<DataType>() {
+      @Override
+      protected DataType computeValue(final Class<?> clazz) {
+        return resolveDataType(clazz);
+      }
+    };
+  }
+
+  private static ToDoubleFunction<Object> newDoubleConverter(final Class<?> sourceClass) {
+    if (Number.class.isAssignableFrom(sourceClass)) {
+      return value -> ((Number)value).doubleValue();
+    } else if (sourceClass == String.class) {
+      return value -> {
+        final String string = (String)value;
+        return Doubles.parseDouble(string, 0, string.length());
+      };
+    } else {
+      return value -> {
+        final Double number = DOUBLE.toObject(value);
+        if (number == null) {
+          throw new IllegalArgumentException(value + " is not a valid double");
+        } else {
+          return number;
+        }
+      };
+    }
+  }
+
+  private static ToLongFunction<Object> newLongConverter(final Class<?> sourceClass) {
+    if (Number.class.isAssignableFrom(sourceClass)) {
+      return value -> ((Number)value).longValue();
+    } else if (sourceClass == String.class) {
+      return value -> {
+        final String string = (String)value;
+        return Longs.parseLong(string, 0, string.length());
+      };
+    } else {
+      return value -> {
+        final Long number = LONG.toObject(value);
+        if (number == null) {
+          throw new IllegalArgumentException(value + " is not a valid long");
+        } else {
+          return number;
+        }
+      };
+    }
+  }
+
   public static void register(final Class<?> typeClass, final DataType type) {
     final String typeClassName = typeClass.getName();
-    if (!CLASS_TYPE_MAP.containsKey(typeClassName)) {
-      CLASS_TYPE_MAP.put(typeClassName, type);
+    if (CLASS_TYPE_MAP.putIfAbsent(typeClassName, type) == null) {
+      dataTypeByClass = newDataTypeByClass();
+      converterByTargetClass = newConverterByTargetClass();
     }
   }
 
@@ -326,29 +491,53 @@ public final class DataTypes {
     }
   }
 
+  /**
+   * Get the data type registered for the class, or the first one registered
+   * for its interfaces or super classes.
+   */
+  private static DataType resolveDataType(final Class<?> clazz) {
+    DataType dataType = CLASS_TYPE_MAP.get(clazz.getName());
+    if (dataType == null) {
+      final Class<?>[] interfaces = clazz.getInterfaces();
+      if (interfaces != null) {
+        for (final Class<?> inter : interfaces) {
+          dataType = getDataType(inter);
+          if (dataType != null && dataType != DataTypes.OBJECT) {
+            return dataType;
+          }
+        }
+      }
+      return getDataType(clazz.getSuperclass());
+    } else {
+      return dataType;
+    }
+  }
+
   @SuppressWarnings({
     "unchecked", "rawtypes"
   })
+  private static Object toEnum(final Class<?> enumClass, final DataType dataType,
+    final Object value) {
+    try {
+      return Enum.valueOf((Class<Enum>)enumClass, value.toString());
+    } catch (final Throwable e) {
+      return dataType.toObject(value);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
   public static <V> V toObject(final Class<?> clazz, final Object value) {
-    // TODO enum
     if (clazz == null) {
       return (V)value;
     } else if (value == null) {
       return null;
-    } else if (clazz.isAssignableFrom(value.getClass())) {
-      return (V)value;
     } else {
-      if (clazz.isEnum()) {
-        try {
-          return (V)Enum.valueOf((Class<Enum>)clazz, value.toString());
-        } catch (final Throwable e) {
-        }
-      }
-      final DataType dataType = getDataType(clazz);
-      if (dataType == null) {
+      final Class<?> valueClass = value.getClass();
+      if (clazz == valueClass || clazz.isAssignableFrom(valueClass)) {
         return (V)value;
       } else {
-        return dataType.toObject(value);
+        final Function<Object, Object> converter = getConverter(clazz, valueClass);
+        return (V)converter.apply(value);
       }
     }
   }
@@ -39,6 +39,16 @@ public class FloatDataType extends AbstractDataType {
     return (V)min;
   }
 
+  @Override
+  protected int hashCodeNotNull(final Object value) {
+    final float number = (float)value;
+    if (Float.isInfinite(number)) {
+      return Float.hashCode(Float.POSITIVE_INFINITY);
+    } else {
+      return Float.hashCode(number);
+    }
+  }
+
   @Override
   protected Object toObjectDo(final Object value) {
     if (value instanceof Number) {
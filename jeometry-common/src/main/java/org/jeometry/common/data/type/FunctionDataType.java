@@ -2,11 +2,14 @@ package org.jeometry.common.data.type;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.jeometry.common.function.Function3;
 
@@ -17,18 +20,7 @@ public class FunctionDataType extends AbstractDataType {
     object2) -> {
     final Map<Object, Object> map1 = (Map<Object, Object>)object1;
     final Map<Object, Object> map2 = (Map<Object, Object>)object2;
-    final Set<Object> keys = new TreeSet<>();
-    keys.addAll(map1.keySet());
-    keys.addAll(map2.keySet());
-
-    for (final Object key : keys) {
-      final Object value1 = map1.get(key);
-      final Object value2 = map2.get(key);
-      if (!DataType.equal(value1, value2)) {
-        return false;
-      }
-    }
-    return true;
+    return mapEquals(map1, map2, null);
   };
 
   @SuppressWarnings("unchecked")
@@ -36,20 +28,92 @@ public class FunctionDataType extends AbstractDataType {
     object1, object2, exclude) -> {
     final Map<Object, Object> map1 = (Map<Object, Object>)object1;
     final Map<Object, Object> map2 = (Map<Object, Object>)object2;
-    final Set<Object> keys = new TreeSet<>();
-    keys.addAll(map1.keySet());
-    keys.addAll(map2.keySet());
-    keys.removeAll(exclude);
+    return mapEquals(map1, map2, exclude);
+  };
+
+  /**
+   * Hash code consistent with {@link #MAP_EQUALS}, entries with null values
+   * are ignored. The values are hashed using {@link DataType#hash(Object)} so
+   * that values of different types that are equal (e.g. 1 and "1") have the
+   * same hash code.
+   */
+  @SuppressWarnings("unchecked")
+  public static final ToIntFunction<Object> MAP_HASH_CODE = object -> {
+    final Map<Object, Object> map = (Map<Object, Object>)object;
+    int hashCode = 0;
+    for (final Entry<Object, Object> entry : map.entrySet()) {
+      final Object value = entry.getValue();
+      if (value != null) {
+        hashCode += Objects.hashCode(entry.getKey()) ^ DataType.hash(value);
+      }
+    }
+    return hashCode;
+  };
 
-    for (final Object key : keys) {
-      final Object value1 = map1.get(key);
+  private static boolean isExcluded(final Collection<?> exclude, final Object key) {
+    if (exclude == null) {
+      return false;
+    } else {
+      return exclude.contains(key);
+    }
+  }
+
+  /**
+   * Compare the values for the keys in either map, a missing key is the same
+   * as a null value. Each entry in map1 is probed in map2, map2 is only
+   * iterated if it has keys that aren't in map1.
+   */
+  private static boolean mapEquals(final Map<Object, Object> map1, final Map<Object, Object> map2,
+    final Collection<? extends CharSequence> exclude) {
+    if (map1 == map2) {
+      return true;
+    }
+    final Collection<?> excludeKeys = toExcludeKeys(exclude);
+    int sharedKeyCount = 0;
+    for (final Entry<Object, Object> entry : map1.entrySet()) {
+      final Object key = entry.getKey();
+      final Object value1 = entry.getValue();
       final Object value2 = map2.get(key);
-      if (!DataType.equal(value1, value2, exclude)) {
-        return false;
+      if (value2 != null || map2.containsKey(key)) {
+        sharedKeyCount++;
+      }
+      if (value1 != value2 && !isExcluded(excludeKeys, key)) {
+        if (exclude == null) {
+          if (!DataType.equal(value1, value2)) {
+            return false;
+          }
+        } else if (!DataType.equal(value1, value2, exclude)) {
+          return false;
+        }
+      }
+    }
+    if (sharedKeyCount < map2.size()) {
+      for (final Entry<Object, Object> entry : map2.entrySet()) {
+        final Object value2 = entry.getValue();
+        if (value2 != null) {
+          final Object key = entry.getKey();
+          if (!map1.containsKey(key) && !isExcluded(excludeKeys, key)) {
+            return false;
+          }
+        }
       }
     }
     return true;
-  };
+  }
+
+  /**
+   * Use a hash set for larger exclude lists so each key lookup is constant
+   * time.
+   */
+  private static Collection<?> toExcludeKeys(final Collection<? extends CharSequence> exclude) {
+    if (exclude == null || exclude.isEmpty()) {
+      return null;
+    } else if (exclude instanceof Set || exclude.size() <= 4) {
+      return exclude;
+    } else {
+      return new HashSet<>(exclude);
+    }
+  }
 
   public static FunctionDataType newToObjectEquals(final String name, final Class<?> javaClass,
     final Function<Object, ?> toObjectFunction,
@@ -66,6 +130,8 @@ public class FunctionDataType extends AbstractDataType {
 
   private final Function3<Object, Object, Collection<? extends CharSequence>, Boolean> equalsExcludesFunction;
 
+  private final ToIntFunction<Object> hashCodeFunction;
+
   public FunctionDataType(final String name, final Class<?> javaClass, final boolean requiresQuotes,
     final Function<Object, ?> function) {
     this(name, javaClass, requiresQuotes, function, null, null, null);
@@ -82,15 +148,25 @@ public class FunctionDataType extends AbstractDataType {
     this(name, javaClass, requiresQuotes, toObjectFunction, toStringFunction, null, null);
   }
 
+  public FunctionDataType(final String name, final Class<?> javaClass, final boolean requiresQuotes,
+    final Function<Object, ?> toObjectFunction, final Function<Object, String> toStringFunction,
+    final BiFunction<?, ?, Boolean> equalsFunction,
+    final Function3<Object, Object, Collection<? extends CharSequence>, Boolean> equalsExcludesFunction) {
+    this(name, javaClass, requiresQuotes, toObjectFunction, toStringFunction, equalsFunction,
+      equalsExcludesFunction, null);
+  }
+
   @SuppressWarnings({
     "unchecked", "rawtypes"
   })
   public FunctionDataType(final String name, final Class<?> javaClass, final boolean requiresQuotes,
     final Function<Object, ?> toObjectFunction, final Function<Object, String> toStringFunction,
     final BiFunction<?, ?, Boolean> equalsFunction,
-    final Function3<Object, Object, Collection<? extends CharSequence>, Boolean> equalsExcludesFunction) {
+    final Function3<Object, Object, Collection<? extends CharSequence>, Boolean> equalsExcludesFunction,
+    final ToIntFunction<Object> hashCodeFunction) {
     super(name, javaClass, requiresQuotes);
     this.toObjectFunction = toObjectFunction;
+    this.hashCodeFunction = hashCodeFunction;
     if (toStringFunction == null) {
       this.toStringFunction = Object::toString;
     } else {
@@ -134,6 +210,15 @@ public class FunctionDataType extends AbstractDataType {
     this(name, javaClass, true, toObjectFunction, null, equalsFunction, equalsExcludesFunction);
   }
 
+  public FunctionDataType(final String name, final Class<?> javaClass,
+    final Function<Object, ?> toObjectFunction,
+    final BiFunction<? extends Object, ? extends Object, Boolean> equalsFunction,
+    final Function3<Object, Object, Collection<? extends CharSequence>, Boolean> equalsExcludesFunction,
+    final ToIntFunction<Object> hashCodeFunction) {
+    this(name, javaClass, true, toObjectFunction, null, equalsFunction, equalsExcludesFunction,
+      hashCodeFunction);
+  }
+
   public FunctionDataType(final String name, final Class<?> javaClass,
     final Function<Object, ?> toObjectFunction, final Function<Object, String> toStringFunction) {
     this(name, javaClass, true, toObjectFunction, toStringFunction);
@@ -162,6 +247,15 @@ public class FunctionDataType extends AbstractDataType {
     return this.equalsExcludesFunction.apply(value1, value2, excludeFieldNames);
   }
 
+  @Override
+  protected int hashCodeNotNull(final Object value) {
+    if (this.hashCodeFunction == null) {
+      return super.hashCodeNotNull(value);
+    } else {
+      return this.hashCodeFunction.applyAsInt(value);
+    }
+  }
+
   @Override
   protected Object toObjectDo(final Object value) {
     return this.toObjectFunction.apply(value);
@@ -60,6 +60,16 @@ public class ListDataType extends SimpleDataType {
     return this.contentType;
   }
 
+  @Override
+  protected int hashCodeNotNull(final Object value) {
+    final List<?> list = (List<?>)value;
+    int hashCode = 1;
+    for (final Object element : list) {
+      hashCode = 31 * hashCode + DataType.hash(element);
+    }
+    return hashCode;
+  }
+
   @SuppressWarnings({
     "unchecked", "rawtypes"
   })
@@ -0,0 +1,212 @@
+package org.jeometry.common.date;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe cache of {@link DateTimeFormatter}s for date format patterns.
+ */
+public final class DateTimeFormatters {
+  private static final Map<String, DateTimeFormatter> FORMATTER_BY_PATTERN = new ConcurrentHashMap<>();
+
+  private static final Map<String, DateTimeFormatter> PARSER_BY_PATTERN = new ConcurrentHashMap<>();
+
+  /**
+   * Pattern letters only supported by {@link DateTimeFormatter}, and F which
+   * has a different meaning for {@link java.text.SimpleDateFormat}.
+   */
+  private static final String INCOMPATIBLE_LETTERS = "ABFLNOQVcegnpqx";
+
+  /** Pattern letters that are text when there are 4 or more. */
+  private static final String TEXT_LETTERS = "EGMaz";
+
+  /** Pattern letters for the week based fields. */
+  private static final String WEEK_LETTERS = "YWw";
+
+  private static final ChronoField[] TIME_FIELDS = {
+    ChronoField.AMPM_OF_DAY, ChronoField.HOUR_OF_AMPM, ChronoField.CLOCK_HOUR_OF_AMPM,
+    ChronoField.HOUR_OF_DAY, ChronoField.CLOCK_HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR,
+    ChronoField.SECOND_OF_MINUTE, ChronoField.MILLI_OF_SECOND, ChronoField.NANO_OF_SECOND
+  };
+
+  /**
+   * Format the date in the default time zone.
+   *
+   * @param pattern The pattern.
+   * @param time The milliseconds since 1970-01-01T00:00:00Z.
+   * @return The formatted date or null if the pattern can't be formatted the
+   * same as by a {@link java.text.SimpleDateFormat}.
+   */
+  static String format(final String pattern, final long time) {
+    if (isSimpleDateFormatCompatible(pattern, false)) {
+      try {
+        final DateTimeFormatter formatter = getFormatter(pattern);
+        final ZonedDateTime dateTime = Instant.ofEpochMilli(time).atZone(ZoneId.systemDefault());
+        return formatter.format(dateTime);
+      } catch (final DateTimeException | IllegalArgumentException e) {
+        return null;
+      }
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Get the formatter for the pattern.
+   *
+   * @param pattern The pattern.
+   * @return The formatter.
+   * @throws IllegalArgumentException If the pattern is not valid.
+   */
+  public static DateTimeFormatter getFormatter(final String pattern) {
+    DateTimeFormatter formatter = FORMATTER_BY_PATTERN.get(pattern);
+    if (formatter == null) {
+      formatter = DateTimeFormatter.ofPattern(pattern);
+      FORMATTER_BY_PATTERN.putIfAbsent(pattern, formatter);
+    }
+    return formatter;
+  }
+
+  /**
+   * Get the formatter for the pattern that resolves dates and times outside
+   * the normal range by rolling over like a lenient
+   * {@link java.text.SimpleDateFormat} (e.g. 2020-02-30 is 2020-03-01).
+   */
+  private static DateTimeFormatter getParser(final String pattern) {
+    DateTimeFormatter parser = PARSER_BY_PATTERN.get(pattern);
+    if (parser == null) {
+      parser = getFormatter(pattern).withResolverStyle(ResolverStyle.LENIENT);
+      PARSER_BY_PATTERN.putIfAbsent(pattern, parser);
+    }
+    return parser;
+  }
+
+  /**
+   * Check if the pattern letters have the same meaning for
+   * {@link java.text.SimpleDateFormat} and {@link DateTimeFormatter}. The day
+   * number (u), day of week in month (F), milliseconds other than SSS, optional
+   * sections ([ and ]) and letters only supported by {@link DateTimeFormatter}
+   * are not. Neither are 5 or more text letters (narrow text), 4 or more G
+   * (full era name), 4 or more Z (localized or ISO offset) and X other than XX
+   * or XXX (minutes of the offset). When parsing one or two digit years
+   * (different century), time zone names (region rules instead of a fixed
+   * offset), week fields (Y, W and w resolve differently) and h or K without
+   * a, or a without h or K (different or no time of day) are not.
+   */
+  private static boolean isSimpleDateFormatCompatible(final String pattern,
+    final boolean parse) {
+    boolean quoted = false;
+    boolean hasAmPmHour = false;
+    boolean hasAmPm = false;
+    final int length = pattern.length();
+    for (int i = 0; i < length;) {
+      final char character = pattern.charAt(i);
+      int count = 1;
+      while (i + count < length && pattern.charAt(i + count) == character) {
+        count++;
+      }
+      i += count;
+      if (character == '\'') {
+        if (count % 2 == 1) {
+          quoted = !quoted;
+        }
+      } else if (!quoted) {
+        if (character == 'u' || character == '[' || character == ']') {
+          return false;
+        } else if (INCOMPATIBLE_LETTERS.indexOf(character) != -1) {
+          return false;
+        } else if (character == 'S' && count != 3) {
+          return false;
+        } else if (TEXT_LETTERS.indexOf(character) != -1 && count >= 5) {
+          return false;
+        } else if ((character == 'G' || character == 'Z') && count >= 4) {
+          return false;
+        } else if (character == 'X' && count != 2 && count != 3) {
+          return false;
+        } else if (parse && (character == 'y' && count <= 2 || character == 'z')) {
+          return false;
+        } else if (parse && WEEK_LETTERS.indexOf(character) != -1) {
+          return false;
+        } else if (character == 'h' || character == 'K') {
+          hasAmPmHour = true;
+        } else if (character == 'a') {
+          hasAmPm = true;
+        }
+      }
+    }
+    if (parse) {
+      return hasAmPmHour == hasAmPm;
+    } else {
+      return true;
+    }
+  }
+
+  /**
+   * Check if any of the time fields were parsed.
+   */
+  private static boolean isTimeParsed(final TemporalAccessor parsed) {
+    for (final ChronoField field : TIME_FIELDS) {
+      if (parsed.isSupported(field)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parse the text using the pattern. The time defaults to midnight if the
+   * pattern has no time fields and the time zone to the default time zone.
+   *
+   * @param pattern The pattern.
+   * @param text The text.
+   * @return The milliseconds since 1970-01-01T00:00:00Z or
+   * {@link IsoDateTimes#INVALID} if the text couldn't be parsed the same as by
+   * a {@link java.text.SimpleDateFormat}.
+   */
+  static long parseEpochMillis(final String pattern, final CharSequence text) {
+    if (!isSimpleDateFormatCompatible(pattern, true)) {
+      return IsoDateTimes.INVALID;
+    }
+    try {
+      final TemporalAccessor parsed = getParser(pattern).parse(text);
+      final LocalDate date = parsed.query(TemporalQueries.localDate());
+      if (date == null) {
+        return IsoDateTimes.INVALID;
+      } else {
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (time == null) {
+          if (isTimeParsed(parsed)) {
+            // Fields that don't resolve to a time must not be lost
+            return IsoDateTimes.INVALID;
+          } else {
+            time = LocalTime.MIDNIGHT;
+          }
+        }
+        ZoneId zone = parsed.query(TemporalQueries.zone());
+        if (zone == null) {
+          zone = ZoneId.systemDefault();
+        }
+        final Instant instant = ZonedDateTime.of(date, time, zone)
+          .withLaterOffsetAtOverlap()
+          .toInstant();
+        return instant.getEpochSecond() * 1000 + IsoDateTimes.toMillis(instant.getNano());
+      }
+    } catch (final DateTimeException | IllegalArgumentException e) {
+      return IsoDateTimes.INVALID;
+    }
+  }
+
+  private DateTimeFormatters() {
+  }
+}
@@ -6,6 +6,7 @@ import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -64,8 +65,13 @@ public interface Dates {
     if (date == null) {
       return null;
     } else {
-      final DateFormat format = new SimpleDateFormat(pattern);
-      return format(format, date);
+      final String string = DateTimeFormatters.format(pattern, date.getTime());
+      if (string == null) {
+        final DateFormat format = new SimpleDateFormat(pattern);
+        return format(format, date);
+      } else {
+        return string;
+      }
     }
   }
 
@@ -131,6 +137,10 @@ public interface Dates {
 
   static Date getDate(final String dateString) {
     if (dateString != null) {
+      final long time = IsoDateTimes.parseLocalEpochMillis(dateString);
+      if (time != IsoDateTimes.INVALID) {
+        return new Date(time);
+      }
       final Matcher matcher = DATE_TIME_NANOS_PATTERN.matcher(dateString);
       if (matcher.find()) {
         final int year = getInteger(matcher, 1, 0);
@@ -157,8 +167,17 @@ public interface Dates {
   }
 
   static Date getDate(final String pattern, final String dateString) {
-    final DateFormat format = new SimpleDateFormat(pattern);
-    return getDate(format, dateString);
+    if (dateString == null) {
+      return null;
+    } else {
+      final long time = DateTimeFormatters.parseEpochMillis(pattern, dateString);
+      if (time == IsoDateTimes.INVALID) {
+        final DateFormat format = new SimpleDateFormat(pattern);
+        return getDate(format, dateString);
+      } else {
+        return new Date(time);
+      }
+    }
   }
 
   static int getInteger(final Matcher matcher, final int groupIndex, final int defaultValue) {
@@ -170,103 +189,50 @@ public interface Dates {
     }
   }
 
-  static Calendar getIsoCalendar(String dateString) {
-    if (dateString != null) {
-      dateString = dateString.trim();
-      final int length = dateString.length();
-
-      if (length < 4) {
-        throw new IllegalArgumentException(dateString + " is not a valid ISO 8601 date");
-      } else {
-        TimeZone timeZone = TimeZone.getTimeZone("UTC");
-
-        final int year = Integer.valueOf(dateString.substring(0, 4));
-        int month = 0;
-        int day = 1;
-        int hour = 1;
-        int minute = 1;
-        int second = 0;
-        int millis = 0;
-        if (length >= 7) {
-          month = Integer.valueOf(dateString.substring(5, 7)) - 1;
-          if (length >= 10) {
-            day = Integer.valueOf(dateString.substring(8, 10));
-            if (length >= 13) {
-              hour = Integer.valueOf(dateString.substring(11, 13));
-              if (length >= 16) {
-                minute = Integer.valueOf(dateString.substring(14, 16));
-                if (length >= 19) {
-                  second = Integer.valueOf(dateString.substring(17, 19));
-                }
-              }
-
-              if (length > 19) {
-                int tzIndex = 19;
-                if (dateString.charAt(tzIndex) == '.') {
-                  final int millisIndex = 20;
-                  tzIndex = 20;
-                  while (tzIndex < length && Character.isDigit(dateString.charAt(tzIndex))) {
-                    tzIndex++;
-                  }
-                  if (millisIndex != tzIndex) {
-                    final String millisString = dateString.substring(millisIndex, tzIndex);
-                    millis = Integer.valueOf(millisString);
-                    if (millisString.length() == 1) {
-                      millis = millis * 100;
-                    } else if (millisString.length() == 2) {
-                      millis = millis * 10;
-                    }
-                  }
-
-                }
-                if (tzIndex < length) {
-                  final char tzChar = dateString.charAt(tzIndex);
-                  if (tzChar == 'Z') {
-                  } else if (tzChar == '+' || tzChar == '-') {
-                    if (tzIndex + 5 < length) {
-                      final String tzString = dateString.substring(tzIndex, tzIndex + 6);
-                      timeZone = TimeZone.getTimeZone("GMT" + tzString);
-                    }
-                  }
-                }
-              }
-
-            }
-          }
-
-        }
-        final Calendar calendar = new GregorianCalendar(timeZone);
-        calendar.clear();
-        calendar.set(Calendar.YEAR, year);
-        calendar.set(Calendar.MONTH, month);
-        calendar.set(Calendar.DAY_OF_MONTH, day);
-        calendar.set(Calendar.HOUR_OF_DAY, hour);
-        calendar.set(Calendar.MINUTE, minute);
-        calendar.set(Calendar.SECOND, second);
-        calendar.set(Calendar.MILLISECOND, millis);
-
-        return calendar;
-      }
-    } else {
+  static Calendar getIsoCalendar(final String dateString) {
+    if (dateString == null) {
       return null;
+    } else {
+      final Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+      calendar.setTimeInMillis(IsoDateTimes.parseEpochMillis(dateString));
+      return calendar;
     }
   }
 
   static Date getIsoDate(final String dateString) {
-    final Calendar calendar = getIsoCalendar(dateString);
-    return calendar.getTime();
+    if (dateString == null) {
+      return null;
+    } else {
+      return new Date(IsoDateTimes.parseEpochMillis(dateString));
+    }
+  }
+
+  static long getIsoEpochMillis(final CharSequence dateString) {
+    return IsoDateTimes.parseEpochMillis(dateString);
+  }
+
+  static Instant getIsoInstant(final CharSequence dateString) {
+    if (dateString == null) {
+      return null;
+    } else {
+      return IsoDateTimes.parseInstant(dateString);
+    }
   }
 
   static java.sql.Date getIsoSqlDate(final String dateString) {
-    final Calendar calendar = getIsoCalendar(dateString);
-    final long time = calendar.getTimeInMillis();
-    return new java.sql.Date(time);
+    if (dateString == null) {
+      return null;
+    } else {
+      return new java.sql.Date(IsoDateTimes.parseEpochMillis(dateString));
+    }
   }
 
   static Timestamp getIsoTimestamp(final String dateString) {
-    final Calendar calendar = getIsoCalendar(dateString);
-    final long time = calendar.getTimeInMillis();
-    return new Timestamp(time);
+    if (dateString == null) {
+      return null;
+    } else {
+      return IsoDateTimes.parseTimestamp(dateString);
+    }
   }
 
   static java.sql.Date getSqlDate() {
@@ -289,6 +255,10 @@ public interface Dates {
 
   static java.sql.Date getSqlDate(final String dateString) {
     if (dateString != null) {
+      final long time = IsoDateTimes.parseLocalDateEpochMillis(dateString);
+      if (time != IsoDateTimes.INVALID) {
+        return new java.sql.Date(time);
+      }
       final Matcher matcher = DATE_TIME_NANOS_PATTERN.matcher(dateString);
       if (matcher.find()) {
         final int year = getInteger(matcher, 1, 0);
@@ -342,6 +312,12 @@ public interface Dates {
 
   static Timestamp getTimestamp(final String dateString) {
     if (dateString != null) {
+      final long epochSecond = IsoDateTimes.parseLocalEpochSecond(dateString);
+      if (epochSecond != IsoDateTimes.INVALID) {
+        final Timestamp time = new Timestamp(epochSecond * 1000);
+        time.setNanos(IsoDateTimes.parseNanos(dateString));
+        return time;
+      }
       final Matcher matcher = DATE_TIME_NANOS_PATTERN.matcher(dateString);
       if (matcher.find()) {
         final int year = getInteger(matcher, 1, 0);
@@ -405,94 +381,21 @@ public interface Dates {
     return endTime;
   }
 
-  @SuppressWarnings("deprecation")
   static String toDateTimeIsoString(final Date date) {
     if (date == null) {
       return null;
     } else {
+      final long time = date.getTime();
+      final long localTime = IsoDateTimes.toLocalEpochMillis(time);
       final StringBuilder string = new StringBuilder(23);
-      int year = date.getYear() + 1900;
-      if (year < 0) {
-        string.append('-');
-        year = -year;
-      }
-      if (year < 1000) {
-        string.append('0');
-        if (year < 100) {
-          string.append('0');
-        }
-        if (year < 10) {
-          string.append('0');
-        }
-      }
-      string.append(year);
-
-      string.append('-');
-
-      final int month = date.getMonth() + 1;
-      if (month < 10) {
-        string.append('0');
-      }
-      string.append(month);
-
-      string.append('-');
-
-      final int day = date.getDate();
-      if (day < 10) {
-        string.append('0');
-      }
-      string.append(day);
-
+      IsoDateTimes.appendDate(string, Math.floorDiv(localTime, IsoDateTimes.MILLIS_PER_DAY));
       if (date instanceof java.sql.Date) {
         string.append("T00:00:00");
       } else {
-
         string.append('T');
-
-        final int hour = date.getHours();
-
-        if (hour < 10) {
-          string.append('0');
-        }
-        string.append(hour);
-
-        string.append(':');
-
-        final int minutes = date.getMinutes();
-        if (minutes < 10) {
-          string.append('0');
-        }
-        string.append(minutes);
-
-        string.append(':');
-
-        final int seconds = date.getSeconds();
-        if (seconds < 10) {
-          string.append('0');
-        }
-        string.append(seconds);
-
-        string.append('.');
-        final int milliseconds = (int)(date.getTime() % 1000);
-        if (milliseconds == 0) {
-          string.append('0');
-        } else {
-          String millisecondsString = Integer.toString(milliseconds);
-
-          // Add leading zeros
-          millisecondsString = "000".substring(0, 3 - millisecondsString.length())
-            + millisecondsString;
-
-          // Truncate trailing zeros
-          final char[] nanosChar = new char[millisecondsString.length()];
-          millisecondsString.getChars(0, millisecondsString.length(), nanosChar, 0);
-          int truncIndex = 2;
-          while (nanosChar[truncIndex] == '0') {
-            truncIndex--;
-          }
-          string.append(millisecondsString, 0, truncIndex + 1);
-        }
-
+        final long millisOfDay = Math.floorMod(localTime, IsoDateTimes.MILLIS_PER_DAY);
+        IsoDateTimes.appendTime(string, (int)(millisOfDay / 1000));
+        IsoDateTimes.appendFraction(string, (int)(millisOfDay % 1000) * 1_000_000);
       }
       return string.toString();
     }
@@ -554,44 +457,14 @@ public interface Dates {
     return toEllapsedTime(endTime - startTime);
   }
 
-  @SuppressWarnings("deprecation")
   static String toSqlDateString(final Date date) {
     if (date == null) {
       return null;
     } else {
+      final long time = date.getTime();
+      final long localTime = IsoDateTimes.toLocalEpochMillis(time);
       final StringBuilder string = new StringBuilder(10);
-      int year = date.getYear() + 1900;
-      if (year < 0) {
-        string.append('-');
-        year = -year;
-      }
-      if (year < 1000) {
-        string.append('0');
-        if (year < 100) {
-          string.append('0');
-        }
-        if (year < 10) {
-          string.append('0');
-        }
-      }
-      string.append(year);
-
-      string.append('-');
-
-      final int month = date.getMonth() + 1;
-      if (month < 10) {
-        string.append('0');
-      }
-      string.append(month);
-
-      string.append('-');
-
-      final int day = date.getDate();
-      if (day < 10) {
-        string.append('0');
-      }
-      string.append(day);
-
+      IsoDateTimes.appendDate(string, Math.floorDiv(localTime, IsoDateTimes.MILLIS_PER_DAY));
       return string.toString();
     }
   }
@@ -614,90 +487,18 @@ public interface Dates {
     }
   }
 
-  @SuppressWarnings("deprecation")
   static String toTimestampIsoString(final Timestamp date) {
     if (date == null) {
       return null;
     } else {
-      int year = date.getYear() + 1900;
-
+      final long time = date.getTime();
+      final long localTime = IsoDateTimes.toLocalEpochMillis(time);
       final StringBuilder string = new StringBuilder(26);
-
-      if (year < 0) {
-        string.append('-');
-        year = -year;
-      }
-      if (year < 1000) {
-        string.append('0');
-        if (year < 100) {
-          string.append('0');
-        }
-        if (year < 10) {
-          string.append('0');
-        }
-      }
-      string.append(year);
-
-      string.append('-');
-
-      final int month = date.getMonth() + 1;
-      if (month < 10) {
-        string.append('0');
-      }
-      string.append(month);
-
-      string.append('-');
-
-      final int day = date.getDate();
-      if (day < 10) {
-        string.append('0');
-      }
-      string.append(day);
-
+      IsoDateTimes.appendDate(string, Math.floorDiv(localTime, IsoDateTimes.MILLIS_PER_DAY));
       string.append('T');
-
-      final int hour = date.getHours();
-      if (hour < 10) {
-        string.append('0');
-      }
-      string.append(hour);
-
-      string.append(':');
-
-      final int minutes = date.getMinutes();
-      if (minutes < 10) {
-        string.append('0');
-      }
-      string.append(minutes);
-
-      string.append(':');
-
-      final int seconds = date.getSeconds();
-      if (seconds < 10) {
-        string.append('0');
-      }
-      string.append(seconds);
-
-      string.append('.');
-      final int nanos = date.getNanos();
-      if (nanos == 0) {
-        string.append('0');
-      } else {
-        String nanosString = Integer.toString(nanos);
-
-        // Add leading zeros
-        nanosString = "000000000".substring(0, 9 - nanosString.length()) + nanosString;
-
-        // Truncate trailing zeros
-        final char[] nanosChar = new char[nanosString.length()];
-        nanosString.getChars(0, nanosString.length(), nanosChar, 0);
-        int truncIndex = 8;
-        while (nanosChar[truncIndex] == '0') {
-          truncIndex--;
-        }
-        string.append(nanosString, 0, truncIndex + 1);
-      }
-
+      final long millisOfDay = Math.floorMod(localTime, IsoDateTimes.MILLIS_PER_DAY);
+      IsoDateTimes.appendTime(string, (int)(millisOfDay / 1000));
+      IsoDateTimes.appendFraction(string, date.getNanos());
       return string.toString();
     }
   }
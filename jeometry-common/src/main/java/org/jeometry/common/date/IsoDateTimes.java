@@ -0,0 +1,471 @@
+package org.jeometry.common.date;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Parse and format ISO 8601 date times directly from and to characters without
+ * creating a Calendar, DateFormat or intermediate strings. Dates use the
+ * proleptic Gregorian calendar (as for java.time).
+ */
+public final class IsoDateTimes {
+  /** Returned by the parse methods if the text is not in the expected format. */
+  static final long INVALID = Long.MIN_VALUE;
+
+  static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  private static void append2(final StringBuilder string, final int value) {
+    string.append((char)('0' + value / 10));
+    string.append((char)('0' + value % 10));
+  }
+
+  /**
+   * Append the date yyyy-MM-dd for the number of days since 1970-01-01.
+   *
+   * @param string The string to append to.
+   * @param epochDay The number of days since 1970-01-01.
+   */
+  public static void appendDate(final StringBuilder string, final long epochDay) {
+    final long shiftedDay = epochDay + 719_468;
+    final long era = Math.floorDiv(shiftedDay, 146_097);
+    final int dayOfEra = (int)(shiftedDay - era * 146_097);
+    final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096)
+      / 365;
+    final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+    final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    final int month;
+    if (shiftedMonth < 10) {
+      month = shiftedMonth + 3;
+    } else {
+      month = shiftedMonth - 9;
+    }
+    long year = yearOfEra + era * 400;
+    if (month <= 2) {
+      year++;
+    }
+    if (year < 0) {
+      string.append('-');
+      year = -year;
+    }
+    if (year < 1000) {
+      string.append('0');
+      if (year < 100) {
+        string.append('0');
+      }
+      if (year < 10) {
+        string.append('0');
+      }
+    }
+    string.append(year);
+    string.append('-');
+    append2(string, month);
+    string.append('-');
+    append2(string, day);
+  }
+
+  /**
+   * Append the fraction of a second (e.g. .123) without trailing zeros. A zero
+   * fraction is written as .0.
+   *
+   * @param string The string to append to.
+   * @param nanos The nano seconds.
+   */
+  public static void appendFraction(final StringBuilder string, final int nanos) {
+    string.append('.');
+    if (nanos == 0) {
+      string.append('0');
+    } else {
+      int digits = nanos;
+      int digitCount = 9;
+      while (digits % 10 == 0) {
+        digits /= 10;
+        digitCount--;
+      }
+      for (int divisor = 100_000_000; digitCount > 0; digitCount--) {
+        string.append((char)('0' + nanos / divisor % 10));
+        divisor /= 10;
+      }
+    }
+  }
+
+  /**
+   * Append the UTC date time yyyy-MM-ddTHH:mm:ss.SSSZ with the fraction written
+   * as for {@link #appendFraction(StringBuilder, int)}.
+   *
+   * @param string The string to append to.
+   * @param epochSecond The seconds since 1970-01-01T00:00:00Z.
+   * @param nanos The nano seconds.
+   */
+  public static void appendInstant(final StringBuilder string, final long epochSecond,
+    final int nanos) {
+    appendDate(string, Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+    string.append('T');
+    appendTime(string, (int)Math.floorMod(epochSecond, SECONDS_PER_DAY));
+    appendFraction(string, nanos);
+    string.append('Z');
+  }
+
+  /**
+   * Append the time HH:mm:ss.
+   *
+   * @param string The string to append to.
+   * @param secondOfDay The seconds since midnight.
+   */
+  public static void appendTime(final StringBuilder string, final int secondOfDay) {
+    append2(string, secondOfDay / 3600);
+    string.append(':');
+    append2(string, secondOfDay / 60 % 60);
+    string.append(':');
+    append2(string, secondOfDay % 60);
+  }
+
+  private static int end(final CharSequence text) {
+    int end = text.length();
+    while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+      end--;
+    }
+    return end;
+  }
+
+  private static int parseDigits(final CharSequence text, final int index, final int count) {
+    int value = 0;
+    for (int i = index; i < index + count; i++) {
+      final int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Parse the ISO 8601 date time yyyy[-MM[-dd[THH[:mm[:ss[.S*]]]]]][Z|+HH:mm]
+   * to the seconds since 1970-01-01T00:00:00Z. Missing fields default to the
+   * start of the period and date times without an offset are UTC.
+   *
+   * @param text The text.
+   * @return The epoch seconds.
+   * @throws IllegalArgumentException If the text is not a valid ISO 8601 date.
+   */
+  public static long parseEpochSecond(final CharSequence text) {
+    final int start = start(text);
+    final int end = end(text);
+    final int length = end - start;
+    final int year = parseDigits(text, start, Math.min(length, 4));
+    int month = 1;
+    int day = 1;
+    int hour = 0;
+    int minute = 0;
+    int second = 0;
+    int offsetSeconds = 0;
+    if (length >= 7) {
+      month = parseDigits(text, start + 5, 2);
+      if (length >= 10) {
+        day = parseDigits(text, start + 8, 2);
+        if (length >= 13) {
+          hour = parseDigits(text, start + 11, 2);
+          if (length >= 16) {
+            minute = parseDigits(text, start + 14, 2);
+            if (length >= 19) {
+              second = parseDigits(text, start + 17, 2);
+            }
+          }
+          if (length > 19) {
+            int offsetIndex = start + 19;
+            if (text.charAt(offsetIndex) == '.') {
+              offsetIndex++;
+              while (offsetIndex < end && Character.isDigit(text.charAt(offsetIndex))) {
+                offsetIndex++;
+              }
+            }
+            if (offsetIndex < end) {
+              final char offsetChar = text.charAt(offsetIndex);
+              if (offsetChar == '+' || offsetChar == '-') {
+                final int offsetLength = end - offsetIndex;
+                int offsetHours = 0;
+                int offsetMinutes = 0;
+                if (offsetLength >= 3) {
+                  offsetHours = parseDigits(text, offsetIndex + 1, 2);
+                  if (offsetLength >= 6 && text.charAt(offsetIndex + 3) == ':') {
+                    offsetMinutes = parseDigits(text, offsetIndex + 4, 2);
+                  } else if (offsetLength >= 5) {
+                    offsetMinutes = parseDigits(text, offsetIndex + 3, 2);
+                  }
+                }
+                if ((offsetHours | offsetMinutes) < 0) {
+                  throw new IllegalArgumentException(text + " is not a valid ISO 8601 date");
+                }
+                offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+                if (offsetChar == '-') {
+                  offsetSeconds = -offsetSeconds;
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+    if (length < 4 || (year | month | day | hour | minute | second) < 0) {
+      throw new IllegalArgumentException(text + " is not a valid ISO 8601 date");
+    }
+    return toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second
+      - offsetSeconds;
+  }
+
+  /**
+   * Parse the ISO 8601 date time to the milliseconds since
+   * 1970-01-01T00:00:00Z. See {@link #parseEpochSecond(CharSequence)}. The
+   * fraction of a second is rounded half down to milliseconds.
+   *
+   * @param text The text.
+   * @return The epoch milliseconds.
+   * @throws IllegalArgumentException If the text is not a valid ISO 8601 date.
+   */
+  public static long parseEpochMillis(final CharSequence text) {
+    return parseEpochSecond(text) * 1000 + toMillis(parseNanos(text));
+  }
+
+  /**
+   * Parse the up to 9 digits of the fraction of a second starting at index.
+   *
+   * @return The nano seconds.
+   */
+  static int parseFraction(final CharSequence text, final int index, final int end) {
+    int nanos = 0;
+    int multiplier = 100_000_000;
+    for (int i = index; i < end; i++) {
+      final int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      nanos += digit * multiplier;
+      multiplier /= 10;
+    }
+    return nanos;
+  }
+
+  /**
+   * Parse the ISO 8601 date time. See {@link #parseEpochSecond(CharSequence)}.
+   *
+   * @param text The text.
+   * @return The instant.
+   * @throws IllegalArgumentException If the text is not a valid ISO 8601 date.
+   */
+  public static Instant parseInstant(final CharSequence text) {
+    return Instant.ofEpochSecond(parseEpochSecond(text), parseNanos(text));
+  }
+
+  /**
+   * Parse the date yyyy-MM-dd[( |T)HH:mm:ss[.S{1,9}]] to the milliseconds
+   * since 1970-01-01T00:00:00Z of the start of the day in the local time zone
+   * plus the milliseconds from the fraction of a second.
+   *
+   * @param text The text.
+   * @return The epoch milliseconds or {@link #INVALID} if the text is not in
+   * that format.
+   */
+  static long parseLocalDateEpochMillis(final CharSequence text) {
+    final long localEpochSecond = parseLocalEpochSecond(text, true);
+    if (localEpochSecond == INVALID) {
+      return INVALID;
+    } else {
+      return toEpochSecond(localEpochSecond) * 1000 + toMillis(parseNanos(text));
+    }
+  }
+
+  /**
+   * Parse the date time yyyy-MM-dd[( |T)HH:mm:ss[.S{1,9}]] in the local time
+   * zone to the seconds since 1970-01-01T00:00:00Z.
+   *
+   * @param text The text.
+   * @return The epoch seconds or {@link #INVALID} if the text is not in that
+   * format.
+   */
+  static long parseLocalEpochSecond(final CharSequence text) {
+    final long localEpochSecond = parseLocalEpochSecond(text, false);
+    if (localEpochSecond == INVALID) {
+      return INVALID;
+    } else {
+      return toEpochSecond(localEpochSecond);
+    }
+  }
+
+  private static long parseLocalEpochSecond(final CharSequence text, final boolean dateOnly) {
+    final int start = start(text);
+    final int end = end(text);
+    final int length = end - start;
+    if (length == 10 || length >= 19) {
+      final int year = parseDigits(text, start, 4);
+      final int month = parseDigits(text, start + 5, 2);
+      final int day = parseDigits(text, start + 8, 2);
+      if (text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-'
+        && (year | month | day) >= 0) {
+        final long localEpochSecond = toEpochDay(year, month, day) * SECONDS_PER_DAY;
+        if (length == 10) {
+          return localEpochSecond;
+        } else {
+          final char separator = text.charAt(start + 10);
+          final int hour = parseDigits(text, start + 11, 2);
+          final int minute = parseDigits(text, start + 14, 2);
+          final int second = parseDigits(text, start + 17, 2);
+          if ((separator == 'T' || separator == ' ') && text.charAt(start + 13) == ':'
+            && text.charAt(start + 16) == ':' && (hour | minute | second) >= 0) {
+            if (length == 19 || length > 20 && length <= 29 && text.charAt(start + 19) == '.'
+              && parseDigits(text, start + 20, length - 20) >= 0) {
+              if (dateOnly) {
+                return localEpochSecond;
+              } else {
+                return localEpochSecond + hour * 3600 + minute * 60 + second;
+              }
+            }
+          }
+        }
+      }
+    }
+    return INVALID;
+  }
+
+  /**
+   * Parse the date time yyyy-MM-dd[( |T)HH:mm:ss[.S{1,9}]] in the local time
+   * zone to the milliseconds since 1970-01-01T00:00:00Z. The fraction of a
+   * second is rounded half down to milliseconds.
+   *
+   * @param text The text.
+   * @return The epoch milliseconds or {@link #INVALID} if the text is not in
+   * that format.
+   */
+  static long parseLocalEpochMillis(final CharSequence text) {
+    final long epochSecond = parseLocalEpochSecond(text);
+    if (epochSecond == INVALID) {
+      return INVALID;
+    } else {
+      return epochSecond * 1000 + toMillis(parseNanos(text));
+    }
+  }
+
+  /**
+   * Get the nano seconds from the fraction of a second of an ISO 8601 or
+   * local date time.
+   *
+   * @param text The text.
+   * @return The nano seconds.
+   */
+  static int parseNanos(final CharSequence text) {
+    final int start = start(text);
+    final int end = end(text);
+    final int fractionIndex = start + 19;
+    if (fractionIndex < end && text.charAt(fractionIndex) == '.') {
+      return parseFraction(text, fractionIndex + 1, end);
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Parse the ISO 8601 date time. See {@link #parseEpochSecond(CharSequence)}.
+   *
+   * @param text The text.
+   * @return The timestamp.
+   * @throws IllegalArgumentException If the text is not a valid ISO 8601 date.
+   */
+  public static Timestamp parseTimestamp(final CharSequence text) {
+    final Timestamp timestamp = new Timestamp(parseEpochSecond(text) * 1000);
+    timestamp.setNanos(parseNanos(text));
+    return timestamp;
+  }
+
+  private static int start(final CharSequence text) {
+    final int length = text.length();
+    int start = 0;
+    while (start < length && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    return start;
+  }
+
+  /**
+   * Get the number of days since 1970-01-01. Months and days outside the
+   * normal range roll over to the next or previous year or month.
+   *
+   * @param year The year.
+   * @param month The month (1-12).
+   * @param day The day of the month (1-31).
+   * @return The epoch day.
+   */
+  public static long toEpochDay(final long year, final int month, final int day) {
+    final long normalizedYear = year + Math.floorDiv(month - 1, 12);
+    final int normalizedMonth = Math.floorMod(month - 1, 12) + 1;
+    final long marchYear;
+    if (normalizedMonth <= 2) {
+      marchYear = normalizedYear - 1;
+    } else {
+      marchYear = normalizedYear;
+    }
+    final long era = Math.floorDiv(marchYear, 400);
+    final int yearOfEra = (int)(marchYear - era * 400);
+    final int shiftedMonth = (normalizedMonth + 9) % 12;
+    final int dayOfYear = (153 * shiftedMonth + 2) / 5;
+    final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146_097 + dayOfEra - 719_468 + day - 1;
+  }
+
+  /**
+   * Convert the milliseconds since 1970-01-01T00:00:00Z to the local time in
+   * the default time zone.
+   *
+   * @param time The epoch milliseconds.
+   * @return The local epoch milliseconds.
+   */
+  public static long toLocalEpochMillis(final long time) {
+    final ZoneRules rules = ZoneId.systemDefault().getRules();
+    final ZoneOffset offset = rules.getOffset(Instant.ofEpochMilli(time));
+    return time + offset.getTotalSeconds() * 1000L;
+  }
+
+  /**
+   * Round the nano seconds half down to milliseconds.
+   */
+  static int toMillis(final int nanos) {
+    return (nanos + 499_999) / 1_000_000;
+  }
+
+  /**
+   * Convert the seconds since 1970-01-01T00:00:00 in the default time zone to
+   * UTC. Times in a daylight savings gap or overlap are resolved to the later
+   * instant (as for a lenient Calendar).
+   *
+   * @param localEpochSecond The local epoch seconds.
+   * @return The epoch seconds.
+   */
+  public static long toEpochSecond(final long localEpochSecond) {
+    final ZoneRules rules = ZoneId.systemDefault().getRules();
+    final ZoneOffset offset;
+    if (rules.isFixedOffset()) {
+      offset = rules.getOffset(Instant.EPOCH);
+    } else {
+      final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(localEpochSecond, 0,
+        ZoneOffset.UTC);
+      final ZoneOffsetTransition transition = rules.getTransition(dateTime);
+      if (transition == null) {
+        offset = rules.getOffset(dateTime);
+      } else if (transition.isGap()) {
+        offset = transition.getOffsetBefore();
+      } else {
+        offset = transition.getOffsetAfter();
+      }
+    }
+    return localEpochSecond - offset.getTotalSeconds();
+  }
+
+  private IsoDateTimes() {
+  }
+}
@@ -0,0 +1,6 @@
+package org.jeometry.common.function;
+
+@FunctionalInterface
+public interface IntObjectConsumer<V> {
+  void accept(int parameter1, V parameter2);
+}
@@ -0,0 +1,6 @@
+package org.jeometry.common.function;
+
+@FunctionalInterface
+public interface LongObjectConsumer<V> {
+  void accept(long parameter1, V parameter2);
+}
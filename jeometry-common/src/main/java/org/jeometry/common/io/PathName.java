@@ -1,10 +1,30 @@
 package org.jeometry.common.io;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A path of names separated by '/'. Paths are compared ignoring case.
+ *
+ * Paths created using {@link #intern(Object)} are held in a trie of
+ * canonical instances rooted at {@link #ROOT}. An interned path has the
+ * interned parent and children, so navigation doesn't create paths and equal
+ * interned paths are usually the same instance. The first spelling of a path
+ * to be interned is used for all paths that are equal ignoring case.
+ *
+ * Interned paths are never removed from the trie, they are kept for the life
+ * of the JVM. Only intern paths from a bounded set such as the paths in a
+ * schema or catalog, not arbitrary user input.
+ */
 public final class PathName implements Comparable<PathName>, CharSequence {
-  public static final PathName ROOT = new PathName("/");
+  public static final PathName ROOT = new PathName("/", "/", "/", null);
+
+  /** Lock for creating the children map so that the lock on ROOT isn't used. */
+  private static final Object CHILDREN_LOCK = new Object();
 
   private static String clean(final String path) {
     if (path == null) {
@@ -25,10 +45,11 @@ public final class PathName implements Comparable<PathName>, CharSequence {
         switch (c) {
           case '/':
           case '\\':
-            if (!slash) {
+            trimEnd(builder);
+            if (builder.charAt(builder.length() - 1) != '/') {
               builder.append('/');
-              slash = true;
             }
+            slash = true;
           break;
 
           default:
@@ -81,6 +102,61 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     }
   }
 
+  /**
+   * Get the canonical interned path for the path. Strings are parsed in the
+   * same way as {@link #newPathName(Object)}, ignoring whitespace at the end
+   * of each element, by walking down the trie, so
+   * new path objects are only created for paths that haven't been interned.
+   * Interned paths are kept for the life of the JVM.
+   *
+   * @param path The path.
+   * @return The interned path or null if the path was null.
+   */
+  public static PathName intern(final Object path) {
+    if (path instanceof PathName) {
+      final PathName pathName = (PathName)path;
+      return pathName.intern();
+    } else if (path == null) {
+      return null;
+    } else {
+      final String pathString = path.toString();
+      int startIndex = 0;
+      int endIndex = pathString.length();
+      while (startIndex < endIndex && Character.isWhitespace(pathString.charAt(startIndex))) {
+        startIndex++;
+      }
+      while (endIndex > startIndex) {
+        final char c = pathString.charAt(endIndex - 1);
+        if (c == '/' || c == '\\' || Character.isWhitespace(c)) {
+          endIndex--;
+        } else {
+          break;
+        }
+      }
+      PathName pathName = ROOT;
+      int elementStart = startIndex;
+      for (int i = startIndex; i <= endIndex; i++) {
+        if (i == endIndex || isSeparator(pathString.charAt(i))) {
+          int elementEnd = i;
+          while (elementEnd > elementStart
+            && Character.isWhitespace(pathString.charAt(elementEnd - 1))) {
+            elementEnd--;
+          }
+          if (elementEnd > elementStart) {
+            final String name = pathString.substring(elementStart, elementEnd);
+            pathName = pathName.internChild(name);
+          }
+          elementStart = i + 1;
+        }
+      }
+      return pathName;
+    }
+  }
+
+  private static boolean isSeparator(final char c) {
+    return c == '/' || c == '\\';
+  }
+
   public static PathName newPathName(final Object path) {
     if (path instanceof PathName) {
       return (PathName)path;
@@ -96,6 +172,23 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     return null;
   }
 
+  /**
+   * Remove the whitespace at the end of the last element so that the
+   * elements are the same as the parent paths.
+   */
+  private static void trimEnd(final StringBuilder builder) {
+    int length = builder.length();
+    while (length > 1 && Character.isWhitespace(builder.charAt(length - 1))) {
+      length--;
+    }
+    builder.setLength(length);
+  }
+
+  /** The interned children by upper case name, null if not interned. */
+  private volatile Map<String, PathName> childByUpperName;
+
+  private final boolean interned;
+
   private final String name;
 
   private PathName parent;
@@ -108,6 +201,16 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     this.path = path;
     this.upperPath = path.toUpperCase();
     this.name = getName(path);
+    this.interned = false;
+  }
+
+  private PathName(final String path, final String upperPath, final String name,
+    final PathName parent) {
+    this.path = path;
+    this.upperPath = upperPath;
+    this.name = name;
+    this.parent = parent;
+    this.interned = true;
   }
 
   @Override
@@ -135,7 +238,9 @@ public final class PathName implements Comparable<PathName>, CharSequence {
   }
 
   public boolean equals(final PathName pathName) {
-    if (pathName != null) {
+    if (pathName == this) {
+      return true;
+    } else if (pathName != null) {
       return this.upperPath.equals(pathName.upperPath);
     }
     return false;
@@ -171,6 +276,21 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     return null;
   }
 
+  /**
+   * Get the interned children of this interned path.
+   *
+   * @return The children or an empty list if there are none or this path
+   * isn't interned.
+   */
+  public List<PathName> getChildren() {
+    final Map<String, PathName> childByUpperName = this.childByUpperName;
+    if (childByUpperName == null) {
+      return Collections.emptyList();
+    } else {
+      return new ArrayList<>(childByUpperName.values());
+    }
+  }
+
   public int getElementCount() {
     if (this.parent == null) {
       return 1;
@@ -252,6 +372,51 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     return this.upperPath.hashCode();
   }
 
+  /**
+   * Get the canonical interned path equal to this path.
+   *
+   * @return The interned path.
+   */
+  public PathName intern() {
+    if (this.interned) {
+      return this;
+    } else {
+      return intern(this.path);
+    }
+  }
+
+  private PathName internChild(final String name) {
+    Map<String, PathName> childByUpperName = this.childByUpperName;
+    if (childByUpperName == null) {
+      synchronized (CHILDREN_LOCK) {
+        childByUpperName = this.childByUpperName;
+        if (childByUpperName == null) {
+          childByUpperName = new ConcurrentHashMap<>(4);
+          this.childByUpperName = childByUpperName;
+        }
+      }
+    }
+    final String upperName = name.toUpperCase();
+    PathName child = childByUpperName.get(upperName);
+    if (child == null) {
+      final String path;
+      final String upperPath;
+      if (this == ROOT) {
+        path = "/" + name;
+        upperPath = "/" + upperName;
+      } else {
+        path = this.path + "/" + name;
+        upperPath = this.upperPath + "/" + upperName;
+      }
+      final PathName newChild = new PathName(path, upperPath, name, this);
+      child = childByUpperName.putIfAbsent(upperName, newChild);
+      if (child == null) {
+        child = newChild;
+      }
+    }
+    return child;
+  }
+
   /**
    * Test if that this path is an ancestor of the other path.
    *
@@ -331,6 +496,10 @@ public final class PathName implements Comparable<PathName>, CharSequence {
     return false;
   }
 
+  public boolean isInterned() {
+    return this.interned;
+  }
+
   @Override
   public int length() {
     return this.path.length();
@@ -0,0 +1,38 @@
+package org.jeometry.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter that can be incremented by many threads without contention. The
+ * count is striped across cells (see {@link LongAdder}) and summed when read.
+ */
+public final class Counter {
+  private final LongAdder count = new LongAdder();
+
+  private final String name;
+
+  Counter(final String name) {
+    this.name = name;
+  }
+
+  public void add(final long amount) {
+    this.count.add(amount);
+  }
+
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void increment() {
+    this.count.increment();
+  }
+
+  @Override
+  public String toString() {
+    return this.name + "=" + getCount();
+  }
+}
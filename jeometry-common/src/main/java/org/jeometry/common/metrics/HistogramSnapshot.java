@@ -0,0 +1,143 @@
+package org.jeometry.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable copy of the values recorded in a {@link LatencyHistogram}.
+ * Snapshots from different histograms or processes can be merged.
+ */
+public final class HistogramSnapshot {
+  private final long count;
+
+  private final long[] counts;
+
+  private final long max;
+
+  private final long min;
+
+  private final String name;
+
+  private final long sum;
+
+  HistogramSnapshot(final String name, final long[] counts, final long count, final long sum,
+    final long min, final long max) {
+    this.name = name;
+    this.counts = counts;
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+  }
+
+  long getBucketCount(final int index) {
+    return this.counts[index];
+  }
+
+  public long getCount() {
+    return this.count;
+  }
+
+  /**
+   * @return The maximum value recorded or 0 if there are no values.
+   */
+  public long getMax() {
+    if (this.count == 0) {
+      return 0;
+    } else {
+      return this.max;
+    }
+  }
+
+  public double getMean() {
+    if (this.count == 0) {
+      return 0;
+    } else {
+      return (double)this.sum / this.count;
+    }
+  }
+
+  /**
+   * @return The minimum value recorded or 0 if there are no values.
+   */
+  public long getMin() {
+    if (this.count == 0) {
+      return 0;
+    } else {
+      return this.min;
+    }
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public long getSum() {
+    return this.sum;
+  }
+
+  /**
+   * Get the value that the percentage of recorded values are less than or
+   * equal to. The value is the highest value in the bucket, limited to the
+   * maximum recorded value.
+   *
+   * @param percentile The percentile (0-100).
+   * @return The value or 0 if there are no values.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    if (this.count == 0) {
+      return 0;
+    } else if (percentile <= 0) {
+      return this.min;
+    } else {
+      final long rank = Math.max(1, (long)Math.ceil(Math.min(percentile, 100) / 100 * this.count));
+      long total = 0;
+      for (int i = 0; i < this.counts.length; i++) {
+        total += this.counts[i];
+        if (total >= rank) {
+          return Math.max(this.min, Math.min(this.max, LatencyHistogram.bucketMaxValue(i)));
+        }
+      }
+      return this.max;
+    }
+  }
+
+  /**
+   * Create a new snapshot containing the values from this and the other
+   * snapshot.
+   *
+   * @param snapshot The other snapshot.
+   * @return The merged snapshot.
+   */
+  public HistogramSnapshot merge(final HistogramSnapshot snapshot) {
+    final long[] counts = this.counts.clone();
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += snapshot.counts[i];
+    }
+    return new HistogramSnapshot(this.name, counts, this.count + snapshot.count,
+      this.sum + snapshot.sum, Math.min(this.min, snapshot.min), Math.max(this.max, snapshot.max));
+  }
+
+  /**
+   * Get the summary statistics, with durations in nanoseconds.
+   *
+   * @return The map of count, mean, min, p50, p90, p99, p999 and max.
+   */
+  public Map<String, Object> toMap() {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.put("count", this.count);
+    map.put("mean", Math.round(getMean()));
+    map.put("min", getMin());
+    map.put("p50", getValueAtPercentile(50));
+    map.put("p90", getValueAtPercentile(90));
+    map.put("p99", getValueAtPercentile(99));
+    map.put("p999", getValueAtPercentile(99.9));
+    map.put("max", getMax());
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return this.name + toMap();
+  }
+}
@@ -0,0 +1,155 @@
+package org.jeometry.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds using log-linear buckets. Values
+ * below 32 have their own bucket, larger values are split into 16 linear
+ * buckets per power of two so the bucket for a value is within 1/16 of the
+ * value. The counts are held in a primitive array so recording a value
+ * doesn't allocate and is safe to call from multiple threads.
+ */
+public final class LatencyHistogram {
+  static final int SUB_BUCKET_BITS = 4;
+
+  static final int LINEAR_COUNT = 2 << SUB_BUCKET_BITS;
+
+  static final int BUCKET_COUNT = (62 - SUB_BUCKET_BITS << SUB_BUCKET_BITS) + LINEAR_COUNT;
+
+  /**
+   * Get the index of the bucket for the value.
+   *
+   * @param value The value.
+   * @return The bucket index.
+   */
+  static int bucketIndex(final long value) {
+    if (value < LINEAR_COUNT) {
+      if (value < 0) {
+        return 0;
+      } else {
+        return (int)value;
+      }
+    } else {
+      final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+      return (shift << SUB_BUCKET_BITS) + (int)(value >>> shift);
+    }
+  }
+
+  /**
+   * Get the highest value that is recorded in the bucket.
+   *
+   * @param index The bucket index.
+   * @return The value.
+   */
+  static long bucketMaxValue(final int index) {
+    if (index < LINEAR_COUNT) {
+      return index;
+    } else {
+      final int shift = (index >> SUB_BUCKET_BITS) - 1;
+      final long subBucket = index - (shift << SUB_BUCKET_BITS);
+      return (subBucket + 1 << shift) - 1;
+    }
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+  private final String name;
+
+  private final LongAdder sum = new LongAdder();
+
+  LatencyHistogram(final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Add the values recorded in the snapshot to this histogram.
+   *
+   * @param snapshot The snapshot.
+   */
+  public void add(final HistogramSnapshot snapshot) {
+    if (snapshot.getCount() > 0) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        final long count = snapshot.getBucketCount(i);
+        if (count != 0) {
+          this.counts.addAndGet(i, count);
+        }
+      }
+      this.sum.add(snapshot.getSum());
+      updateMin(snapshot.getMin());
+      updateMax(snapshot.getMax());
+    }
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Record a duration.
+   *
+   * @param nanos The duration in nanoseconds.
+   */
+  public void record(final long nanos) {
+    this.counts.incrementAndGet(bucketIndex(nanos));
+    this.sum.add(nanos);
+    updateMin(nanos);
+    updateMax(nanos);
+  }
+
+  /**
+   * Record the duration from the start time to now.
+   *
+   * @param startNanos The start time from {@link System#nanoTime()}.
+   * @return The end time.
+   */
+  public long recordSince(final long startNanos) {
+    final long endNanos = System.nanoTime();
+    record(endNanos - startNanos);
+    return endNanos;
+  }
+
+  /**
+   * Get a copy of the values recorded so far. Values recorded while the copy is
+   * made may only be partially included.
+   *
+   * @return The snapshot.
+   */
+  public HistogramSnapshot snapshot() {
+    final long[] counts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      final long bucketCount = this.counts.get(i);
+      counts[i] = bucketCount;
+      count += bucketCount;
+    }
+    return new HistogramSnapshot(this.name, counts, count, this.sum.sum(), this.min.get(),
+      this.max.get());
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  private void updateMax(final long value) {
+    final AtomicLong max = this.max;
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  private void updateMin(final long value) {
+    final AtomicLong min = this.min;
+    long current = min.get();
+    while (value < current && !min.compareAndSet(current, value)) {
+      current = min.get();
+    }
+  }
+}
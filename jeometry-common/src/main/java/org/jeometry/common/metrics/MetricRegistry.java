@@ -0,0 +1,58 @@
+package org.jeometry.common.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A named set of {@link Counter}s and {@link LatencyHistogram}s. Metrics are
+ * created on first use and live for the life of the registry. Callers on hot
+ * paths should keep the metric in a field rather than looking it up by name
+ * each time.
+ */
+public final class MetricRegistry {
+  private static final MetricRegistry DEFAULT = new MetricRegistry();
+
+  /**
+   * Get the registry used by the jeometry libraries.
+   *
+   * @return The registry.
+   */
+  public static MetricRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  private final Map<String, Counter> counterByName = new ConcurrentHashMap<>();
+
+  private final Map<String, LatencyHistogram> histogramByName = new ConcurrentHashMap<>();
+
+  public Counter counter(final String name) {
+    return this.counterByName.computeIfAbsent(name, Counter::new);
+  }
+
+  public LatencyHistogram histogram(final String name) {
+    return this.histogramByName.computeIfAbsent(name, LatencyHistogram::new);
+  }
+
+  /**
+   * Get a copy of the current values of all the metrics.
+   *
+   * @return The snapshot.
+   */
+  public MetricsSnapshot snapshot() {
+    final Map<String, Long> counts = new TreeMap<>();
+    for (final Counter counter : this.counterByName.values()) {
+      counts.put(counter.getName(), counter.getCount());
+    }
+    final Map<String, HistogramSnapshot> histograms = new TreeMap<>();
+    for (final LatencyHistogram histogram : this.histogramByName.values()) {
+      histograms.put(histogram.getName(), histogram.snapshot());
+    }
+    return new MetricsSnapshot(counts, histograms);
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+}
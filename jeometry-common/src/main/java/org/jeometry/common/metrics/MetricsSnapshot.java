@@ -0,0 +1,107 @@
+package org.jeometry.common.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.jeometry.common.exception.Exceptions;
+
+/**
+ * The values of the metrics in a {@link MetricRegistry} at a point in time,
+ * sorted by name.
+ */
+public final class MetricsSnapshot {
+  private final Map<String, Long> countByName;
+
+  private final Map<String, HistogramSnapshot> histogramByName;
+
+  MetricsSnapshot(final Map<String, Long> countByName,
+    final Map<String, HistogramSnapshot> histogramByName) {
+    this.countByName = Collections.unmodifiableMap(countByName);
+    this.histogramByName = Collections.unmodifiableMap(histogramByName);
+  }
+
+  /**
+   * Write each metric on a separate line as name followed by its values.
+   *
+   * @param out The output.
+   * @throws IOException If the output couldn't be written.
+   */
+  public void appendText(final Appendable out) throws IOException {
+    for (final Entry<String, Long> entry : this.countByName.entrySet()) {
+      out.append(entry.getKey());
+      out.append(" count=");
+      out.append(Long.toString(entry.getValue()));
+      out.append('\n');
+    }
+    for (final HistogramSnapshot histogram : this.histogramByName.values()) {
+      out.append(histogram.getName());
+      for (final Entry<String, Object> entry : histogram.toMap().entrySet()) {
+        out.append(' ');
+        out.append(entry.getKey());
+        out.append('=');
+        out.append(entry.getValue().toString());
+      }
+      out.append('\n');
+    }
+  }
+
+  public Map<String, Long> getCounts() {
+    return this.countByName;
+  }
+
+  public HistogramSnapshot getHistogram(final String name) {
+    return this.histogramByName.get(name);
+  }
+
+  public Map<String, HistogramSnapshot> getHistograms() {
+    return this.histogramByName;
+  }
+
+  /**
+   * Create a new snapshot with the counts added and histograms merged from
+   * this and the other snapshot.
+   *
+   * @param snapshot The other snapshot.
+   * @return The merged snapshot.
+   */
+  public MetricsSnapshot merge(final MetricsSnapshot snapshot) {
+    final Map<String, Long> counts = new TreeMap<>(this.countByName);
+    for (final Entry<String, Long> entry : snapshot.countByName.entrySet()) {
+      counts.merge(entry.getKey(), entry.getValue(), Long::sum);
+    }
+    final Map<String, HistogramSnapshot> histograms = new TreeMap<>(this.histogramByName);
+    for (final Entry<String, HistogramSnapshot> entry : snapshot.histogramByName.entrySet()) {
+      histograms.merge(entry.getKey(), entry.getValue(), HistogramSnapshot::merge);
+    }
+    return new MetricsSnapshot(counts, histograms);
+  }
+
+  /**
+   * Get the metrics as nested maps, for export as JSON or similar formats.
+   *
+   * @return The map from name to count or histogram summary map.
+   */
+  public Map<String, Object> toMap() {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.putAll(this.countByName);
+    for (final HistogramSnapshot histogram : this.histogramByName.values()) {
+      map.put(histogram.getName(), histogram.toMap());
+    }
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder string = new StringBuilder();
+    try {
+      appendText(string);
+    } catch (final IOException e) {
+      throw Exceptions.wrap(e);
+    }
+    return string.toString();
+  }
+}
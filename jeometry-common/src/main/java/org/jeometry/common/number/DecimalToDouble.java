@@ -0,0 +1,154 @@
+package org.jeometry.common.number;
+
+import java.math.BigInteger;
+
+/**
+ * Conversion of a decimal w 10^q to the nearest double using the
+ * Eisel-Lemire algorithm. Exact small values use the Clinger fast path.
+ *
+ * The 128 bit approximations of the powers of five are calculated when the
+ * class is initialized.
+ */
+final class DecimalToDouble {
+  private static final int Q_MIN = -342;
+
+  private static final int Q_MAX = 308;
+
+  private static final long[] POWERS_OF_FIVE = newPowersOfFive();
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final long MANTISSA_MASK = (1L << 52) - 1;
+
+  private static final long INFINITE_POWER = 0x7ff;
+
+  private static final long PRECISION_MASK = 0x1ff;
+
+  /**
+   * g = g1 2^64 + g0 where g is the 128 most significant bits of 5^q (rounded
+   * up for q &lt; 0) for each q in Q_MIN..Q_MAX.
+   */
+  private static long[] newPowersOfFive() {
+    final long[] powers = new long[Q_MAX - Q_MIN + 1 << 1];
+    final BigInteger five = BigInteger.valueOf(5);
+    for (int q = Q_MIN; q <= Q_MAX; q++) {
+      BigInteger value;
+      if (q < 0) {
+        final BigInteger power = five.pow(-q);
+        final int z = power.subtract(BigInteger.ONE).bitLength();
+        final int b;
+        if (q >= -27) {
+          b = z + 127;
+        } else {
+          b = 2 * z + 128;
+        }
+        value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+      } else {
+        value = five.pow(q);
+      }
+      final int bitLength = value.bitLength();
+      if (bitLength > 128) {
+        value = value.shiftRight(bitLength - 128);
+      } else {
+        value = value.shiftLeft(128 - bitLength);
+      }
+      final int index = q - Q_MIN << 1;
+      powers[index] = value.shiftRight(64).longValue();
+      powers[index | 1] = value.longValue();
+    }
+    return powers;
+  }
+
+  /**
+   * Get the double nearest to w 10^q.
+   *
+   * @param negative True if the number is negative.
+   * @param w The unsigned decimal significand.
+   * @param q The decimal exponent.
+   * @return The double.
+   */
+  static double toDouble(final boolean negative, final long w, final int q) {
+    final double value;
+    if (w == 0 || q < Q_MIN) {
+      value = 0;
+    } else if (q > Q_MAX) {
+      value = Double.POSITIVE_INFINITY;
+    } else if (-22 <= q && q <= 22 && Long.compareUnsigned(w, 1L << 53) <= 0) {
+      if (q < 0) {
+        value = w / POWERS_OF_TEN[-q];
+      } else {
+        value = w * POWERS_OF_TEN[q];
+      }
+    } else {
+      value = Double.longBitsToDouble(toBits(w, q));
+    }
+    if (negative) {
+      return -value;
+    } else {
+      return value;
+    }
+  }
+
+  private static long toBits(final long w, final int q) {
+    final int leadingZeros = Long.numberOfLeadingZeros(w);
+    final long x = w << leadingZeros;
+    final int index = q - Q_MIN << 1;
+    final long g1 = POWERS_OF_FIVE[index];
+    long high = unsignedMultiplyHigh(x, g1);
+    long low = x * g1;
+    if ((high & PRECISION_MASK) == PRECISION_MASK) {
+      final long secondHigh = unsignedMultiplyHigh(x, POWERS_OF_FIVE[index | 1]);
+      low += secondHigh;
+      if (Long.compareUnsigned(secondHigh, low) > 0) {
+        high++;
+      }
+    }
+    final int upperBit = (int)(high >>> 63);
+    final int shift = upperBit + 9;
+    long mantissa = high >>> shift;
+    int power2 = (217_706 * q >> 16) + 63 + upperBit - leadingZeros + 1023;
+    if (power2 <= 0) {
+      // subnormal
+      if (-power2 + 1 >= 64) {
+        return 0;
+      } else {
+        mantissa >>>= -power2 + 1;
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa < 1L << 52) {
+          power2 = 0;
+        } else {
+          power2 = 1;
+        }
+        return mantissa | (long)power2 << 52;
+      }
+    } else {
+      if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1
+        && mantissa << shift == high) {
+        // Exactly half way, round to even
+        mantissa &= ~1L;
+      }
+      mantissa += mantissa & 1;
+      mantissa >>>= 1;
+      if (mantissa >= 2L << 52) {
+        mantissa = 1L << 52;
+        power2++;
+      }
+      if (power2 >= INFINITE_POWER) {
+        return INFINITE_POWER << 52;
+      } else {
+        return mantissa & MANTISSA_MASK | (long)power2 << 52;
+      }
+    }
+  }
+
+  private static long unsignedMultiplyHigh(final long x, final long y) {
+    return Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+  }
+
+  private DecimalToDouble() {
+  }
+}
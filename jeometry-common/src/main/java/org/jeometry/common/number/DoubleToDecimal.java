@@ -0,0 +1,197 @@
+package org.jeometry.common.number;
+
+import java.math.BigInteger;
+
+/**
+ * Shortest decimal conversion of doubles using the Schubfach algorithm by
+ * Raffaello Giulietti. For a finite non-zero double v {@link #significand(long)}
+ * and {@link #exponent(long)} return the decimal f 10^e with the fewest digits
+ * that rounds to v (when there are several the closest to v is used). The
+ * significand may have trailing zeros.
+ *
+ * The 126 bit approximations of the powers of ten are calculated when the
+ * class is initialized.
+ */
+final class DoubleToDecimal {
+  private static final int P = 53;
+
+  private static final int Q_MIN = -1074;
+
+  private static final long C_MIN = 1L << P - 1;
+
+  private static final int BQ_MASK = 0x7ff;
+
+  private static final long T_MASK = (1L << P - 1) - 1;
+
+  private static final long C_TINY = 3;
+
+  private static final int K_MIN = -324;
+
+  private static final int K_MAX = 292;
+
+  private static final long MASK_63 = (1L << 63) - 1;
+
+  private static final long[] G = newG();
+
+  /**
+   * Get the exponent e of the shortest decimal f 10^e for the finite non-zero
+   * double with the bits.
+   *
+   * @param bits The result of Double.doubleToRawLongBits.
+   * @return The decimal exponent.
+   */
+  static int exponent(final long bits) {
+    final long t = bits & T_MASK;
+    final int bq = (int)(bits >>> P - 1) & BQ_MASK;
+    if (bq != 0) {
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq & mq < P) {
+        final long f = c >> mq;
+        if (f << mq == c) {
+          return 0;
+        }
+      }
+      return k(-mq, c);
+    } else if (t < C_TINY) {
+      return k(Q_MIN, 10 * t) - 1;
+    } else {
+      return k(Q_MIN, t);
+    }
+  }
+
+  private static int flog10pow2(final int q) {
+    return (int)(q * 661_971_961_083L >> 41);
+  }
+
+  private static int flog10threeQuartersPow2(final int q) {
+    return (int)(q * 661_971_961_083L + -274_743_187_321L >> 41);
+  }
+
+  private static int flog2pow10(final int e) {
+    return (int)(e * 913_124_641_741L >> 38);
+  }
+
+  private static int k(final int q, final long c) {
+    if (c != C_MIN | q == Q_MIN) {
+      return flog10pow2(q);
+    } else {
+      return flog10threeQuartersPow2(q);
+    }
+  }
+
+  /**
+   * g = g1 2^63 + g0 = floor(10^-k 2^(125 - flog2pow10(-k))) + 1 for each k in
+   * K_MIN..K_MAX.
+   */
+  private static long[] newG() {
+    final long[] g = new long[K_MAX - K_MIN + 1 << 1];
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      final int shift = 125 - flog2pow10(-k);
+      BigInteger beta;
+      if (k <= 0) {
+        beta = BigInteger.TEN.pow(-k);
+        if (shift >= 0) {
+          beta = beta.shiftLeft(shift);
+        } else {
+          beta = beta.shiftRight(-shift);
+        }
+      } else {
+        beta = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+      }
+      final BigInteger value = beta.add(BigInteger.ONE);
+      final int index = k - K_MIN << 1;
+      g[index] = value.shiftRight(63).longValue();
+      g[index | 1] = value.longValue() & MASK_63;
+    }
+    return g;
+  }
+
+  private static long rop(final long g1, final long g0, final long cp) {
+    final long x1 = Math.multiplyHigh(g0, cp);
+    final long y0 = g1 * cp;
+    final long y1 = Math.multiplyHigh(g1, cp);
+    final long z = (y0 >>> 1) + x1;
+    final long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+
+  /**
+   * Get the significand f of the shortest decimal f 10^e for the finite
+   * non-zero double with the bits.
+   *
+   * @param bits The result of Double.doubleToRawLongBits.
+   * @return The decimal significand.
+   */
+  static long significand(final long bits) {
+    final long t = bits & T_MASK;
+    final int bq = (int)(bits >>> P - 1) & BQ_MASK;
+    if (bq != 0) {
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq & mq < P) {
+        final long f = c >> mq;
+        if (f << mq == c) {
+          return f;
+        }
+      }
+      return significand(-mq, c);
+    } else if (t < C_TINY) {
+      return significand(Q_MIN, 10 * t);
+    } else {
+      return significand(Q_MIN, t);
+    }
+  }
+
+  private static long significand(final int q, final long c) {
+    final int out = (int)c & 0x1;
+    final long cb = c << 2;
+    final long cbr = cb + 2;
+    final long cbl;
+    final int k;
+    if (c != C_MIN | q == Q_MIN) {
+      // regular spacing
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      // irregular spacing
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    final int h = q + flog2pow10(-k) + 2;
+
+    final int index = k - K_MIN << 1;
+    final long g1 = G[index];
+    final long g0 = G[index | 1];
+
+    final long vb = rop(g1, g0, cb << h);
+    final long vbl = rop(g1, g0, cbl << h);
+    final long vbr = rop(g1, g0, cbr << h);
+
+    final long s = vb >> 2;
+    if (s >= 100) {
+      // sp10 = 10 floor(s / 10)
+      final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+      final long tp10 = sp10 + 10;
+      final boolean upin = vbl + out <= sp10 << 2;
+      final boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin) {
+        return upin ? sp10 : tp10;
+      }
+    }
+
+    final long t = s + 1;
+    final boolean uin = vbl + out <= s << 2;
+    final boolean win = (t << 2) + out <= vbr;
+    if (uin != win) {
+      return uin ? s : t;
+    } else {
+      // Both s and t are in the rounding interval, use the closest
+      final long cmp = vb - (s + t << 1);
+      return cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t;
+    }
+  }
+
+  private DoubleToDecimal() {
+  }
+}
@@ -2,9 +2,43 @@ package org.jeometry.common.number;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.List;
 
+import org.jeometry.common.exception.Exceptions;
+
 public class Doubles {
+  /**
+   * Write the ASCII chars appended by {@link Doubles#append(Appendable, double)}
+   * to a byte buffer.
+   */
+  private static final class ByteBufferAppendable implements Appendable {
+    private final ByteBuffer buffer;
+
+    private ByteBufferAppendable(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public Appendable append(final char c) {
+      this.buffer.put((byte)c);
+      return this;
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars) {
+      return append(chars, 0, chars.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence chars, final int start, final int end) {
+      for (int i = start; i < end; i++) {
+        this.buffer.put((byte)chars.charAt(i));
+      }
+      return this;
+    }
+  }
+
   public static final double[] EMPTY_ARRAY = new double[0];
 
   private static final char[] DIGIT_ONES = {
@@ -30,6 +64,17 @@ public class Doubles {
     'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z'
   };
 
+  /** Exponents above this are out of range for any double. */
+  private static final int EXPONENT_LIMIT = 100_000;
+
+  private static final long LEADING_DIGIT_DIVISOR = 10_000_000_000_000_000L;
+
+  /** The maximum number of significant digits in the shortest representation of a double. */
+  private static final int MAX_DIGITS = 17;
+
+  /** The maximum number of decimal places written by append and write. */
+  public static final int MAX_SCALE = 19;
+
   private static final double MIN_VALUE = 4.999999999999999 / 1e20;
 
   private static final double[] POWERS_OF_TEN_DOUBLE = new double[30];
@@ -56,104 +101,105 @@ public class Doubles {
     return left + right.doubleValue();
   }
 
-  public static void append(final StringBuilder string, double number) {
+  /**
+   * Append the plain (non scientific) decimal representation of the number
+   * using the fewest digits that round trip. Numbers are rounded to
+   * {@link #MAX_SCALE} decimal places, trailing zeros are removed and integral
+   * values have no decimal point. No intermediate strings are created.
+   *
+   * @param out The target (e.g. StringBuilder, Writer or CharBuffer).
+   * @param number The number.
+   * @throws IOException If the number could not be appended.
+   */
+  public static void append(final Appendable out, final double number) throws IOException {
     if (Double.isNaN(number)) {
-      string.append("NaN");
-    } else if (number == 0.0 || Math.abs(number) < MIN_VALUE) {
-      string.append("0");
-    } else if (!Double.isFinite(number)) {
-      string.append(number);
+      out.append("NaN");
+    } else if (number == 0.0 || Math.abs(number) <= MIN_VALUE) {
+      out.append('0');
+    } else if (number == Double.POSITIVE_INFINITY) {
+      out.append("Infinity");
+    } else if (number == Double.NEGATIVE_INFINITY) {
+      out.append("-Infinity");
     } else {
-      final boolean negative = number < 0.0;
-      if (negative) {
-        number = -number;
-        string.append('-');
+      final long bits = Double.doubleToRawLongBits(number);
+      long significand = DoubleToDecimal.significand(bits);
+      int exponent = DoubleToDecimal.exponent(bits);
+      if (exponent < -MAX_SCALE) {
+        significand = roundToMaxScale(significand, exponent);
+        exponent = -MAX_SCALE;
       }
-      // The only way to format precisely the double is to use the String
-      // representation of the double, and then to do mathematical integer
-      // operation on it.
-      final String s = Double.toString(number);
-      if (number >= 1e-3 && number < 1e7) {
-        // Plain representation of double: "intPart.decimalPart"
-        final int dot = s.indexOf('.');
-        String decS = s.substring(dot + 1);
-        int decLength = decS.length();
-        if (19 >= decLength) {
-          if ("0".equals(decS)) {
-            // source is a mathematical integer
-            string.append(s.substring(0, dot));
-          } else {
-            string.append(s);
-            // Remove trailing zeroes
-            for (int l = string.length() - 1; l >= 0 && string.charAt(l) == '0'; l--) {
-              string.setLength(l);
-            }
-          }
-          return;
-        } else if (20 < decLength) {
-          // ignore unnecessary DIGITS
-          decLength = 20;
-          decS = decS.substring(0, decLength);
+      if (significand == 0) {
+        out.append('0');
+        return;
+      }
+      while (significand % 10 == 0) {
+        significand /= 10;
+        exponent++;
+      }
+      if (bits < 0) {
+        out.append('-');
+      }
+      final int digitCount = digitCount(significand);
+      final int pointIndex = digitCount + exponent;
+      long digits = significand * tenPow(MAX_DIGITS - digitCount);
+      if (exponent >= 0) {
+        appendDigits(out, digits, digitCount);
+        for (int i = 0; i < exponent; i++) {
+          out.append('0');
         }
-        final long intP = Long.parseLong(s.substring(0, dot));
-        final long decP = Long.parseLong(decS);
-        format(string, 19, intP, decP);
+      } else if (pointIndex > 0) {
+        digits = appendDigits(out, digits, pointIndex);
+        out.append('.');
+        appendDigits(out, digits, digitCount - pointIndex);
       } else {
-        // Scientific representation of double: "x.xxxxxEyyy"
-        final int dot = s.indexOf('.');
-        final int exp = s.indexOf('E');
-        int exposant = Integer.parseInt(s.substring(exp + 1));
-        final String intS = s.substring(0, dot);
-        final String decS = s.substring(dot + 1, exp);
-        final int decLength = decS.length();
-        if (exposant >= 0) {
-          final int digits = decLength - exposant;
-          if (digits <= 0) {
-            // no decimal part,
-            // no rounding involved
-            string.append(intS);
-            string.append(decS);
-            for (int i = -digits; i > 0; i--) {
-              string.append('0');
-            }
-          } else if (digits <= 19) {
-            // decimal part precision is lower than scale,
-            // no rounding involved
-            string.append(intS);
-            string.append(decS.substring(0, exposant));
-            string.append('.');
-            string.append(decS.substring(exposant));
-          } else {
-            // decimalDigits > scale,
-            // Rounding involved
-            final long intP = Long.parseLong(intS) * tenPow(exposant)
-              + Long.parseLong(decS.substring(0, exposant));
-            final long decP = Long.parseLong(decS.substring(exposant, exposant + 20));
-            format(string, 19, intP, decP);
-          }
-        } else {
-          // Only a decimal part is supplied
-          exposant = -exposant;
-          final int digits = 19 - exposant + 1;
-          if (digits < 0) {
-            string.append('0');
-          } else if (digits == 0) {
-            final long decP = Long.parseLong(intS);
-            format(string, 19, 0L, decP);
-          } else if (decLength < digits) {
-            final long decP = Long.parseLong(intS) * tenPow(decLength + 1)
-              + Long.parseLong(decS) * 10;
-            format(string, exposant + decLength, 0L, decP);
-          } else {
-            final long subDecP = Long.parseLong(decS.substring(0, digits));
-            final long decP = Long.parseLong(intS) * tenPow(digits) + subDecP;
-            format(string, 19, 0L, decP);
-          }
+        out.append('0');
+        out.append('.');
+        for (int i = pointIndex; i < 0; i++) {
+          out.append('0');
         }
+        appendDigits(out, digits, digitCount);
       }
     }
   }
 
+  /**
+   * Append the number encoded as UTF-8 using the same format as
+   * {@link #append(Appendable, double)}.
+   *
+   * @param buffer The buffer.
+   * @param number The number.
+   */
+  public static void append(final ByteBuffer buffer, final double number) {
+    try {
+      append(new ByteBufferAppendable(buffer), number);
+    } catch (final IOException e) {
+      throw Exceptions.wrap(e);
+    }
+  }
+
+  public static void append(final StringBuilder string, final double number) {
+    try {
+      append((Appendable)string, number);
+    } catch (final IOException e) {
+      throw Exceptions.wrap(e);
+    }
+  }
+
+  /**
+   * Append the first count digits of the {@link #MAX_DIGITS} digit number.
+   *
+   * @return The remaining digits shifted left by count digits.
+   */
+  private static long appendDigits(final Appendable out, long digits, final int count)
+    throws IOException {
+    for (int i = 0; i < count; i++) {
+      final int digit = (int)(digits / LEADING_DIGIT_DIVISOR);
+      out.append((char)('0' + digit));
+      digits = (digits - digit * LEADING_DIGIT_DIVISOR) * 10;
+    }
+    return digits;
+  }
+
   public static double avg(final double a, final double b) {
     return (a + b) / 2d;
   }
@@ -175,6 +221,14 @@ public class Doubles {
     return x;
   }
 
+  private static int digitCount(final long number) {
+    int count = 1;
+    while (count < POWERS_OF_TEN_LONG.length && number >= POWERS_OF_TEN_LONG[count]) {
+      count++;
+    }
+    return count;
+  }
+
   public static double divide(final double left, final Number right) {
     return left / right.doubleValue();
   }
@@ -191,39 +245,6 @@ public class Doubles {
     return equal((double)number1, (double)number2);
   }
 
-  private static void format(final StringBuilder target, int scale, long intP, long decP) {
-    if (decP != 0L) {
-      // decP is the decimal part of source, truncated to scale + 1 digit.
-      // Custom rounding: add 5
-      decP += 5L;
-      decP /= 10L;
-      if (decP >= tenPowDouble(scale)) {
-        intP++;
-        decP -= tenPow(scale);
-      }
-      if (decP != 0L) {
-        // Remove trailing zeroes
-        while (decP % 10L == 0L) {
-          decP = decP / 10L;
-          scale--;
-        }
-      }
-    }
-    target.append(intP);
-    if (decP != 0L) {
-      target.append('.');
-      // Use tenPow instead of tenPowDouble for scale below 18,
-      // since the casting of decP to double may cause some imprecisions:
-      // E.g. for decP = 9999999999999999L and scale = 17,
-      // decP < tenPow(16) while (double) decP == tenPowDouble(16)
-      while (scale > 0 && (scale > 18 ? decP < tenPowDouble(--scale) : decP < tenPow(--scale))) {
-        // Insert leading zeroes
-        target.append('0');
-      }
-      target.append(decP);
-    }
-  }
-
   public static int hashCode(final double d) {
     final long f = Double.doubleToLongBits(d);
     return (int)(f ^ f >>> 32);
@@ -244,6 +265,101 @@ public class Doubles {
     return r;
   }
 
+  /**
+   * Check if the characters are a valid double for
+   * {@link Double#parseDouble(String)} (and {@link #parseDouble(CharSequence, int, int)})
+   * without throwing an exception. This includes surrounding whitespace, NaN,
+   * Infinity, hexadecimal and the f, F, d or D suffix.
+   *
+   * @param chars The characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return True if the characters are a valid double.
+   */
+  public static boolean isDouble(final CharSequence chars, final int offset, final int length) {
+    int end = offset + length;
+    int index = offset;
+    while (index < end && chars.charAt(index) <= ' ') {
+      index++;
+    }
+    while (end > index && chars.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (index < end) {
+      final char signChar = chars.charAt(index);
+      if (signChar == '-' || signChar == '+') {
+        index++;
+      }
+    }
+    if (isText(chars, index, end, "NaN") || isText(chars, index, end, "Infinity")) {
+      return true;
+    }
+    if (index < end && (chars.charAt(end - 1) | 0x20) == 'f'
+      || index < end && (chars.charAt(end - 1) | 0x20) == 'd') {
+      end--;
+    }
+    final boolean hex = index + 1 < end && chars.charAt(index) == '0'
+      && (chars.charAt(index + 1) | 0x20) == 'x';
+    final int radix;
+    final char exponentChar;
+    if (hex) {
+      index += 2;
+      radix = 16;
+      exponentChar = 'p';
+    } else {
+      radix = 10;
+      exponentChar = 'e';
+    }
+    int digitCount = 0;
+    while (index < end && Character.digit(chars.charAt(index), radix) >= 0
+      && chars.charAt(index) < 0x80) {
+      digitCount++;
+      index++;
+    }
+    if (index < end && chars.charAt(index) == '.') {
+      index++;
+      while (index < end && Character.digit(chars.charAt(index), radix) >= 0
+        && chars.charAt(index) < 0x80) {
+        digitCount++;
+        index++;
+      }
+    }
+    if (digitCount == 0) {
+      return false;
+    } else if (index < end && (chars.charAt(index) | 0x20) == exponentChar) {
+      index++;
+      if (index < end) {
+        final char exponentSignChar = chars.charAt(index);
+        if (exponentSignChar == '-' || exponentSignChar == '+') {
+          index++;
+        }
+      }
+      final int exponentStart = index;
+      while (index < end && chars.charAt(index) >= '0' && chars.charAt(index) <= '9') {
+        index++;
+      }
+      return index > exponentStart && index == end;
+    } else {
+      // Hexadecimal requires the binary exponent
+      return !hex && index == end;
+    }
+  }
+
+  private static boolean isText(final CharSequence chars, final int start, final int end,
+    final String text) {
+    final int length = text.length();
+    if (end - start == length) {
+      for (int i = 0; i < length; i++) {
+        if (chars.charAt(start + i) != text.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   public static double makePrecise(final double scale, final double value) {
     if (scale <= 0) {
       return value;
@@ -330,41 +446,181 @@ public class Doubles {
     }
   }
 
-  private static int parseInt(final String string, final int fromIndex, final int toIndex) {
-    int number = 0;
-    int index = fromIndex;
+  public static double parseDouble(final byte[] bytes, final int offset, final int length) {
+    return parseDoubleChars(bytes, offset, length);
+  }
+
+  public static double parseDouble(final char[] chars, final int offset, final int length) {
+    return parseDoubleChars(chars, offset, length);
+  }
+
+  /**
+   * Parse the double from the characters without creating any objects. Plain
+   * and scientific decimal notations with up to 19 significant digits are
+   * converted using the Eisel-Lemire algorithm. Other values supported by
+   * {@link Double#parseDouble(String)} (e.g. NaN, Infinity, hexadecimal,
+   * surrounding whitespace, more digits) use that method.
+   *
+   * @param chars The characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return The double.
+   * @throws NumberFormatException If the characters are not a valid double.
+   */
+  public static double parseDouble(final CharSequence chars, final int offset, final int length) {
+    return parseDoubleChars(chars, offset, length);
+  }
+
+  private static double parseDoubleChars(final Object chars, final int offset,
+    final int length) {
+    final int end = offset + length;
+    int index = offset;
     boolean negative = false;
-    if (string.charAt(index) == '-') {
-      negative = true;
+    if (index < end) {
+      final int firstChar = NumberChars.charAt(chars, index);
+      if (firstChar == '-') {
+        negative = true;
+        index++;
+      } else if (firstChar == '+') {
+        index++;
+      }
+    }
+    final int digitsStart = index;
+    long significand = 0;
+    int digit;
+    while (index < end && (digit = NumberChars.charAt(chars, index) - '0') >= 0 && digit <= 9) {
+      significand = significand * 10 + digit;
       index++;
     }
-    while (index < toIndex) {
-      final int digit = string.charAt(index++) - '0';
-      number = number * 10 + digit;
+    int exponent = 0;
+    int digitCount = index - digitsStart;
+    if (index < end && NumberChars.charAt(chars, index) == '.') {
+      index++;
+      final int fractionStart = index;
+      while (index < end && (digit = NumberChars.charAt(chars, index) - '0') >= 0 && digit <= 9) {
+        significand = significand * 10 + digit;
+        index++;
+      }
+      exponent = fractionStart - index;
+      digitCount -= exponent;
     }
-    if (negative) {
-      return -number;
-    } else {
-      return number;
+    if (digitCount > 0 && index < end && (NumberChars.charAt(chars, index) | 0x20) == 'e') {
+      index++;
+      boolean negativeExponent = false;
+      if (index < end) {
+        final int signChar = NumberChars.charAt(chars, index);
+        if (signChar == '-') {
+          negativeExponent = true;
+          index++;
+        } else if (signChar == '+') {
+          index++;
+        }
+      }
+      final int exponentStart = index;
+      int exponentValue = 0;
+      while (index < end && (digit = NumberChars.charAt(chars, index) - '0') >= 0 && digit <= 9) {
+        if (exponentValue < EXPONENT_LIMIT) {
+          exponentValue = exponentValue * 10 + digit;
+        }
+        index++;
+      }
+      if (index == exponentStart) {
+        digitCount = 0;
+      } else if (negativeExponent) {
+        exponent -= exponentValue;
+      } else {
+        exponent += exponentValue;
+      }
     }
+    if (digitCount > 0 && index == end) {
+      if (digitCount <= 19) {
+        return DecimalToDouble.toDouble(negative, significand, exponent);
+      } else {
+        // Leading zeros don't count towards the 19 digit limit
+        int significantDigitCount = digitCount;
+        for (int i = digitsStart; i < end; i++) {
+          final int character = NumberChars.charAt(chars, i);
+          if (character == '0') {
+            significantDigitCount--;
+          } else if (character != '.') {
+            break;
+          }
+        }
+        if (significantDigitCount <= 19) {
+          return DecimalToDouble.toDouble(negative, significand, exponent);
+        }
+      }
+    }
+    return Double.parseDouble(NumberChars.toString(chars, offset, length));
   }
 
-  private static long parseLong(final String string, final int fromIndex, final int toIndex) {
-    long number = 0;
-    int index = fromIndex;
-    boolean negative = false;
-    if (string.charAt(index) == '-') {
-      negative = true;
-      index++;
-    }
-    while (index < toIndex) {
-      final int digit = string.charAt(index++) - '0';
-      number = number * 10 + digit;
+  public static int parseDoubles(final byte[] bytes, final int offset, final int length,
+    final double[] values, final int valueOffset) {
+    return parseDoublesChars(bytes, offset, length, values, valueOffset);
+  }
+
+  public static int parseDoubles(final char[] chars, final int offset, final int length,
+    final double[] values, final int valueOffset) {
+    return parseDoublesChars(chars, offset, length, values, valueOffset);
+  }
+
+  /**
+   * Parse a list of doubles separated by commas and/or whitespace (e.g. WKT,
+   * KML coordinates or CSV) into the values array without creating any
+   * objects.
+   *
+   * @param chars The characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @param values The array to write the values to.
+   * @param valueOffset The index in values to write the first value to.
+   * @return The number of values read.
+   * @throws NumberFormatException If a value is not a valid double.
+   */
+  public static int parseDoubles(final CharSequence chars, final int offset, final int length,
+    final double[] values, final int valueOffset) {
+    return parseDoublesChars(chars, offset, length, values, valueOffset);
+  }
+
+  private static int parseDoublesChars(final Object chars, final int offset, final int length,
+    final double[] values, final int valueOffset) {
+    final int end = offset + length;
+    int valueIndex = valueOffset;
+    int index = offset;
+    while (index < end) {
+      final char character = NumberChars.charAt(chars, index);
+      if (character == ',' || character <= ' ') {
+        index++;
+      } else {
+        int tokenEnd = index + 1;
+        while (tokenEnd < end) {
+          final char tokenChar = NumberChars.charAt(chars, tokenEnd);
+          if (tokenChar == ',' || tokenChar <= ' ') {
+            break;
+          } else {
+            tokenEnd++;
+          }
+        }
+        values[valueIndex++] = parseDoubleChars(chars, index, tokenEnd - index);
+        index = tokenEnd;
+      }
     }
-    if (negative) {
-      return -number;
+    return valueIndex - valueOffset;
+  }
+
+  /**
+   * Round the decimal significand 10^exponent to {@link #MAX_SCALE} decimal
+   * places. Only the next decimal digit is used for the half up rounding.
+   */
+  private static long roundToMaxScale(long significand, final int exponent) {
+    final int dropDigitCount = -exponent - MAX_SCALE - 1;
+    if (dropDigitCount >= POWERS_OF_TEN_LONG.length) {
+      return 0;
     } else {
-      return number;
+      if (dropDigitCount > 0) {
+        significand /= POWERS_OF_TEN_LONG[dropDigitCount];
+      }
+      return (significand + 5) / 10;
     }
   }
 
@@ -418,17 +674,58 @@ public class Doubles {
   public static double[] toDoubleArray(final String... values) {
     final double[] doubles = new double[values.length];
     for (int i = 0; i < doubles.length; i++) {
-      doubles[i] = Double.valueOf(values[i]);
+      final String value = values[i];
+      doubles[i] = parseDouble(value, 0, value.length());
     }
     return doubles;
   }
 
   public static double[] toDoubleArraySplit(final String value) {
-    return toDoubleArray(value.split(","));
+    return toDoubleArraySplit(value, ',');
+  }
+
+  /**
+   * Split the string on the separator and parse the values. As for
+   * {@link String#split(String)} trailing empty values are ignored.
+   *
+   * @param value The string.
+   * @param separator The separator.
+   * @return The values.
+   */
+  public static double[] toDoubleArraySplit(final String value, final char separator) {
+    int end = value.length();
+    while (end > 0 && value.charAt(end - 1) == separator) {
+      end--;
+    }
+    if (end == 0 && value.length() > 0) {
+      return EMPTY_ARRAY;
+    } else {
+      int count = 1;
+      for (int i = 0; i < end; i++) {
+        if (value.charAt(i) == separator) {
+          count++;
+        }
+      }
+      final double[] doubles = new double[count];
+      int startIndex = 0;
+      for (int i = 0; i < count; i++) {
+        int endIndex = value.indexOf(separator, startIndex);
+        if (endIndex == -1 || endIndex > end) {
+          endIndex = end;
+        }
+        doubles[i] = parseDouble(value, startIndex, endIndex - startIndex);
+        startIndex = endIndex + 1;
+      }
+      return doubles;
+    }
   }
 
   public static double[] toDoubleArraySplit(final String value, final String regex) {
-    return toDoubleArray(value.split(regex));
+    if (Numbers.isLiteralSeparator(regex)) {
+      return toDoubleArraySplit(value, regex.charAt(0));
+    } else {
+      return toDoubleArray(value.split(regex));
+    }
   }
 
   public static String toString(final double number) {
@@ -466,87 +763,26 @@ public class Doubles {
     if (string == null || string.length() == 0) {
       return null;
     } else {
-      return Double.valueOf(string);
+      return parseDouble(string, 0, string.length());
     }
   }
 
+  /**
+   * Write the number using the same format as {@link #append(Appendable, double)}
+   * except negative numbers that are written as zero are written as -0.
+   *
+   * @param writer The writer.
+   * @param number The number.
+   * @throws IOException If the number could not be written.
+   */
   public static void write(final Writer writer, final double number) throws IOException {
-    int numberStartIndex = 0;
-
-    // The only way to format precisely the double is to use the String
-    // representation of the double, and then to do mathematical integer
-    // operation on it.
-    final String doubleString = Double.toString(number);
-    if (doubleString.charAt(0) == '-') {
-      writer.write('-');
-      numberStartIndex++;
-    }
-    final int doubleStringLength = doubleString.length();
-    int exponentIndex = -1;
-    if (doubleStringLength > 4) {
-      final int eMaxIndex = doubleStringLength - 2;
-      int eMinIndex = eMaxIndex - 3;
-      if (eMinIndex < 2) {
-        eMinIndex = 2;
-      }
-      for (int i = eMaxIndex; i >= eMinIndex; i--) {
-        final char c = doubleString.charAt(i);
-        if (c == 'E') {
-          exponentIndex = i;
-          break;
-        }
-      }
-    }
-    if (exponentIndex == -1) {
-      // Plain representation of double: "intPart.decimalPart"
-      if (doubleString.charAt(doubleStringLength - 1) == '0'
-        && doubleString.charAt(doubleStringLength - 2) == '.') {
-        // source is a mathematical integer
-        writer.write(doubleString, numberStartIndex, doubleStringLength - numberStartIndex - 2);
-      } else {
-        writer.write(doubleString, numberStartIndex, doubleStringLength - numberStartIndex);
+    if (number == 0.0 || number < 0 && number >= -MIN_VALUE) {
+      if (Double.doubleToRawLongBits(number) < 0) {
+        writer.write('-');
       }
+      writer.write('0');
     } else {
-      int exposant = parseInt(doubleString, exponentIndex + 1, doubleStringLength);
-      final int decLength = exponentIndex - 2 - numberStartIndex;
-      final int decimalStartIndex = numberStartIndex + 2;
-      if (exposant >= 0) {
-        final int digits = decLength - exposant;
-        if (digits <= 0) {
-          // no decimal part,
-          writer.write(doubleString, numberStartIndex, 1);
-          writer.write(doubleString, decimalStartIndex, decLength);
-          for (int i = -digits; i > 0; i--) {
-            writer.write('0');
-          }
-        } else {
-          writer.write(doubleString, numberStartIndex, 1);
-          writer.write(doubleString, decimalStartIndex, exposant);
-          writer.write('.');
-          writer.write(doubleString, decimalStartIndex + exposant, decLength - exposant);
-        }
-      } else {
-        // Only a decimal part is supplied
-        exposant = -exposant;
-        final int digits = 19 - exposant + 1;
-        if (digits < 0) {
-          writer.write('0');
-        } else {
-          final int integerPart = doubleString.charAt(numberStartIndex) - '0';
-          if (digits == 0) {
-            write(writer, 19, 0L, integerPart);
-          } else if (decLength < digits) {
-            final long decP = integerPart * tenPow(decLength + 1)
-              + parseLong(doubleString, decimalStartIndex, exponentIndex) * 10;
-            write(writer, exposant + decLength, 0L, decP);
-          } else {
-            final long subDecP = parseLong(doubleString, decimalStartIndex,
-              decimalStartIndex + digits);
-            final long decP = integerPart * tenPow(digits) + subDecP;
-            write(writer, 19, 0L, decP);
-          }
-        }
-      }
+      append(writer, number);
     }
   }
 
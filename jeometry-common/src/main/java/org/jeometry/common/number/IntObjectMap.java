@@ -0,0 +1,318 @@
+package org.jeometry.common.number;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.jeometry.common.function.IntObjectConsumer;
+
+/**
+ * A map from primitive int keys to object values using open addressing with
+ * linear probing. Keys are stored in an int[] and values in a parallel
+ * Object[] so no boxing is performed on put or get. Null values are not
+ * supported, {@link #get(int)} returns null for missing keys.
+ *
+ * This class is not thread safe. A map that is not modified after it is
+ * safely published can be read by multiple threads.
+ *
+ * @param <V> The type of value.
+ */
+public class IntObjectMap<V> {
+  private static final int FREE_KEY = 0;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private static int hash(final int key) {
+    final int hash = key * 0x9E3779B9;
+    return hash ^ hash >>> 16;
+  }
+
+  private static int tableSize(final int expectedSize) {
+    final long minimumSize = (long)Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+    if (minimumSize >= MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    } else {
+      return Integer.highestOneBit((int)minimumSize - 1) << 1;
+    }
+  }
+
+  private boolean hasFreeKey;
+
+  private V freeValue;
+
+  private int[] keys;
+
+  private int mask;
+
+  private int resizeThreshold;
+
+  private int size;
+
+  private Object[] values;
+
+  public IntObjectMap() {
+    this(16);
+  }
+
+  public IntObjectMap(final int expectedSize) {
+    allocate(tableSize(expectedSize));
+  }
+
+  private void allocate(final int capacity) {
+    this.keys = new int[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = (int)(capacity * LOAD_FACTOR);
+  }
+
+  public void clear() {
+    Arrays.fill(this.keys, FREE_KEY);
+    Arrays.fill(this.values, null);
+    this.hasFreeKey = false;
+    this.freeValue = null;
+    this.size = 0;
+  }
+
+  /**
+   * Get the value for the key, if there isn't one create a new value using the
+   * factory and add it to the map.
+   *
+   * @param key The key.
+   * @param factory The factory to create the value.
+   * @return The value.
+   */
+  public V computeIfAbsent(final int key, final IntFunction<? extends V> factory) {
+    V value = get(key);
+    if (value == null) {
+      value = factory.apply(key);
+      if (value != null) {
+        put(key, value);
+      }
+    }
+    return value;
+  }
+
+  public boolean containsKey(final int key) {
+    return get(key) != null;
+  }
+
+  public void forEach(final IntObjectConsumer<? super V> action) {
+    if (this.hasFreeKey) {
+      action.accept(FREE_KEY, this.freeValue);
+    }
+    final int[] keys = this.keys;
+    final Object[] values = this.values;
+    for (int i = 0; i < keys.length; i++) {
+      final int key = keys[i];
+      if (key != FREE_KEY) {
+        @SuppressWarnings("unchecked")
+        final V value = (V)values[i];
+        action.accept(key, value);
+      }
+    }
+  }
+
+  public void forEachValue(final Consumer<? super V> action) {
+    if (this.hasFreeKey) {
+      action.accept(this.freeValue);
+    }
+    final int[] keys = this.keys;
+    final Object[] values = this.values;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE_KEY) {
+        @SuppressWarnings("unchecked")
+        final V value = (V)values[i];
+        action.accept(value);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(final int key) {
+    if (key == FREE_KEY) {
+      return this.freeValue;
+    } else {
+      final int[] keys = this.keys;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final int currentKey = keys[index];
+        if (currentKey == key) {
+          return (V)this.values[index];
+        } else if (currentKey == FREE_KEY) {
+          return null;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  public V getOrDefault(final int key, final V defaultValue) {
+    final V value = get(key);
+    if (value == null) {
+      return defaultValue;
+    } else {
+      return value;
+    }
+  }
+
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Get the keys in the map in no particular order.
+   *
+   * @return The keys.
+   */
+  public int[] keys() {
+    final int[] keys = new int[this.size];
+    int keyIndex = 0;
+    if (this.hasFreeKey) {
+      keys[keyIndex++] = FREE_KEY;
+    }
+    for (final int key : this.keys) {
+      if (key != FREE_KEY) {
+        keys[keyIndex++] = key;
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Add the value to the map, returning the previous value for the key.
+   *
+   * @param key The key.
+   * @param value The value, must not be null.
+   * @return The previous value or null if there wasn't one.
+   */
+  @SuppressWarnings("unchecked")
+  public V put(final int key, final V value) {
+    if (value == null) {
+      throw new NullPointerException("IntObjectMap does not support null values for key=" + key);
+    }
+    if (key == FREE_KEY) {
+      final V oldValue = this.freeValue;
+      if (!this.hasFreeKey) {
+        this.hasFreeKey = true;
+        this.size++;
+      }
+      this.freeValue = value;
+      return oldValue;
+    } else {
+      final int[] keys = this.keys;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final int currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          keys[index] = key;
+          this.values[index] = value;
+          if (++this.size >= this.resizeThreshold) {
+            rehash(keys.length * 2);
+          }
+          return null;
+        } else if (currentKey == key) {
+          final V oldValue = (V)this.values[index];
+          this.values[index] = value;
+          return oldValue;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  private void rehash(final int capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalStateException("IntObjectMap cannot hold more than " + MAX_CAPACITY / 2
+        + " entries");
+    }
+    final int[] oldKeys = this.keys;
+    final Object[] oldValues = this.values;
+    allocate(capacity);
+    final int[] keys = this.keys;
+    final Object[] values = this.values;
+    final int mask = this.mask;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final int key = oldKeys[i];
+      if (key != FREE_KEY) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+          index = index + 1 & mask;
+        }
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Remove the key from the map. The following entries in the probe sequence
+   * are shifted back so that no tombstones are required.
+   *
+   * @param key The key.
+   * @return The removed value or null if there wasn't one.
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(final int key) {
+    if (key == FREE_KEY) {
+      final V oldValue = this.freeValue;
+      if (this.hasFreeKey) {
+        this.hasFreeKey = false;
+        this.freeValue = null;
+        this.size--;
+      }
+      return oldValue;
+    } else {
+      final int[] keys = this.keys;
+      final Object[] values = this.values;
+      final int mask = this.mask;
+      int index = hash(key) & mask;
+      while (true) {
+        final int currentKey = keys[index];
+        if (currentKey == FREE_KEY) {
+          return null;
+        } else if (currentKey == key) {
+          final V oldValue = (V)values[index];
+          this.size--;
+          int gap = index;
+          int next = gap + 1 & mask;
+          while (keys[next] != FREE_KEY) {
+            final int home = hash(keys[next]) & mask;
+            if ((next - home & mask) >= (next - gap & mask)) {
+              keys[gap] = keys[next];
+              values[gap] = values[next];
+              gap = next;
+            }
+            next = next + 1 & mask;
+          }
+          keys[gap] = FREE_KEY;
+          values[gap] = null;
+          return oldValue;
+        }
+        index = index + 1 & mask;
+      }
+    }
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder string = new StringBuilder("{");
+    forEach((key, value) -> {
+      if (string.length() > 1) {
+        string.append(", ");
+      }
+      string.append(key);
+      string.append('=');
+      string.append(value);
+    });
+    string.append('}');
+    return string.toString();
+  }
+}
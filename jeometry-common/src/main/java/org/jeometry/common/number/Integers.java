@@ -100,6 +100,70 @@ public class Integers {
     }
   }
 
+  public static int parseInt(final byte[] bytes, final int offset, final int length) {
+    return parseIntChars(bytes, offset, length);
+  }
+
+  public static int parseInt(final char[] chars, final int offset, final int length) {
+    return parseIntChars(chars, offset, length);
+  }
+
+  /**
+   * Parse the int from the characters without creating any objects.
+   *
+   * @param chars The characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return The int.
+   * @throws NumberFormatException If the characters are not a valid int.
+   */
+  public static int parseInt(final CharSequence chars, final int offset, final int length) {
+    return parseIntChars(chars, offset, length);
+  }
+
+  private static int parseIntChars(final Object chars, final int offset, final int length) {
+    final int end = offset + length;
+    int index = offset;
+    boolean negative = false;
+    int limit = -Integer.MAX_VALUE;
+    if (length > 0) {
+      final char firstChar = NumberChars.charAt(chars, index);
+      if (firstChar == '-') {
+        negative = true;
+        limit = Integer.MIN_VALUE;
+        index++;
+      } else if (firstChar == '+') {
+        index++;
+      }
+    }
+    if (index == end) {
+      throw new NumberFormatException(
+        NumberChars.toString(chars, offset, length) + " is not a valid int");
+    }
+    final int multmin = limit / 10;
+    int result = 0;
+    for (; index < end; index++) {
+      final char character = NumberChars.charAt(chars, index);
+      if (character >= '0' && character <= '9' && result >= multmin) {
+        final int digit = character - '0';
+        result *= 10;
+        if (result < limit + digit) {
+          throw new NumberFormatException(
+            NumberChars.toString(chars, offset, length) + " is not a valid int");
+        }
+        result -= digit;
+      } else {
+        throw new NumberFormatException(
+          NumberChars.toString(chars, offset, length) + " is not a valid int");
+      }
+    }
+    if (negative) {
+      return result;
+    } else {
+      return -result;
+    }
+  }
+
   public static int sgn(final int x) {
     if (x > 0) {
       return 1;
@@ -139,8 +203,48 @@ public class Integers {
     return ints;
   }
 
+  /**
+   * Split the string on the separator and parse the values. As for
+   * {@link String#split(String)} trailing empty values are ignored.
+   *
+   * @param value The string.
+   * @param separator The separator.
+   * @return The values.
+   */
+  public static int[] toIntArraySplit(final String value, final char separator) {
+    int end = value.length();
+    while (end > 0 && value.charAt(end - 1) == separator) {
+      end--;
+    }
+    if (end == 0 && value.length() > 0) {
+      return EMPTY_ARRAY;
+    } else {
+      int count = 1;
+      for (int i = 0; i < end; i++) {
+        if (value.charAt(i) == separator) {
+          count++;
+        }
+      }
+      final int[] ints = new int[count];
+      int startIndex = 0;
+      for (int i = 0; i < count; i++) {
+        int endIndex = value.indexOf(separator, startIndex);
+        if (endIndex == -1 || endIndex > end) {
+          endIndex = end;
+        }
+        ints[i] = parseInt(value, startIndex, endIndex - startIndex);
+        startIndex = endIndex + 1;
+      }
+      return ints;
+    }
+  }
+
   public static int[] toIntArraySplit(final String value, final String regex) {
-    return toIntArray(value.split(regex));
+    if (Numbers.isLiteralSeparator(regex)) {
+      return toIntArraySplit(value, regex.charAt(0));
+    } else {
+      return toIntArray(value.split(regex));
+    }
   }
 
   /**
@@ -203,65 +307,10 @@ public class Integers {
    * @return the converted value.
    */
   public static Integer toValid(final String string) {
-    if (string == null) {
+    if (string == null || string.length() == 0) {
       return null;
     } else {
-      boolean negative = false;
-      int index = 0;
-      final int length = string.length();
-      int limit = -Integer.MAX_VALUE;
-
-      if (length == 0) {
-        return null;
-      } else {
-        final char firstChar = string.charAt(0);
-        switch (firstChar) {
-          case '-':
-            negative = true;
-            limit = Integer.MIN_VALUE;
-          case '+':
-            // The following applies to both + and - prefixes
-            if (length == 1) {
-              throw new IllegalArgumentException(string + " is not a valid int");
-            }
-            index++;
-          break;
-        }
-        final int multmin = limit / 10;
-        int result = 0;
-        for (; index < length; index++) {
-          final char character = string.charAt(index);
-          switch (character) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-              if (result < multmin) {
-                throw new IllegalArgumentException(string + " is not a valid int");
-              }
-              final int digit = character - '0';
-              result *= 10;
-              if (result < limit + digit) {
-                throw new IllegalArgumentException(string + " is not a valid int");
-              }
-              result -= digit;
-            break;
-            default:
-              throw new IllegalArgumentException(string + " is not a valid int");
-          }
-        }
-        if (negative) {
-          return result;
-        } else {
-          return -result;
-        }
-      }
+      return parseInt(string, 0, string.length());
     }
   }
 
@@ -47,6 +47,70 @@ public class Longs {
     return left * right.longValue();
   }
 
+  public static long parseLong(final byte[] bytes, final int offset, final int length) {
+    return parseLongChars(bytes, offset, length);
+  }
+
+  public static long parseLong(final char[] chars, final int offset, final int length) {
+    return parseLongChars(chars, offset, length);
+  }
+
+  /**
+   * Parse the long from the characters without creating any objects.
+   *
+   * @param chars The characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return The long.
+   * @throws NumberFormatException If the characters are not a valid long.
+   */
+  public static long parseLong(final CharSequence chars, final int offset, final int length) {
+    return parseLongChars(chars, offset, length);
+  }
+
+  private static long parseLongChars(final Object chars, final int offset, final int length) {
+    final int end = offset + length;
+    int index = offset;
+    boolean negative = false;
+    long limit = -Long.MAX_VALUE;
+    if (length > 0) {
+      final char firstChar = NumberChars.charAt(chars, index);
+      if (firstChar == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+        index++;
+      } else if (firstChar == '+') {
+        index++;
+      }
+    }
+    if (index == end) {
+      throw new NumberFormatException(
+        NumberChars.toString(chars, offset, length) + " is not a valid long");
+    }
+    final long multmin = limit / 10;
+    long result = 0;
+    for (; index < end; index++) {
+      final char character = NumberChars.charAt(chars, index);
+      if (character >= '0' && character <= '9' && result >= multmin) {
+        final int digit = character - '0';
+        result *= 10;
+        if (result < limit + digit) {
+          throw new NumberFormatException(
+            NumberChars.toString(chars, offset, length) + " is not a valid long");
+        }
+        result -= digit;
+      } else {
+        throw new NumberFormatException(
+          NumberChars.toString(chars, offset, length) + " is not a valid long");
+      }
+    }
+    if (negative) {
+      return result;
+    } else {
+      return -result;
+    }
+  }
+
   public static int sgn(final long x) {
     if (x > 0L) {
       return 1;
@@ -104,65 +168,10 @@ public class Longs {
    * @return the converted value.
    */
   public static Long toValid(final String string) {
-    if (string == null) {
+    if (string == null || string.length() == 0) {
       return null;
     } else {
-      boolean negative = false;
-      int index = 0;
-      final int length = string.length();
-      long limit = -Long.MAX_VALUE;
-
-      if (length == 0) {
-        return null;
-      } else {
-        final char firstChar = string.charAt(0);
-        switch (firstChar) {
-          case '-':
-            negative = true;
-            limit = Long.MIN_VALUE;
-          case '+':
-            // The following applies to both + and - prefixes
-            if (length == 1) {
-              throw new IllegalArgumentException(string + " is not a valid int");
-            }
-            index++;
-          break;
-        }
-        final long multmin = limit / 10;
-        long result = 0;
-        for (; index < length; index++) {
-          final char character = string.charAt(index);
-          switch (character) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-              if (result < multmin) {
-                throw new IllegalArgumentException(string + " is not a valid int");
-              }
-              final int digit = character - '0';
-              result *= 10;
-              if (result < limit + digit) {
-                throw new IllegalArgumentException(string + " is not a valid int");
-              }
-              result -= digit;
-            break;
-            default:
-              throw new IllegalArgumentException(string + " is not a valid int");
-          }
-        }
-        if (negative) {
-          return result;
-        } else {
-          return (long)-result;
-        }
-      }
+      return parseLong(string, 0, string.length());
     }
   }
 
@@ -0,0 +1,33 @@
+package org.jeometry.common.number;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Character access for the number parsers so that a single implementation can
+ * read a {@link CharSequence}, char[] or ASCII byte[] without wrapping it in
+ * another object.
+ */
+final class NumberChars {
+  static char charAt(final Object chars, final int index) {
+    if (chars instanceof byte[]) {
+      return (char)(((byte[])chars)[index] & 0xff);
+    } else if (chars instanceof char[]) {
+      return ((char[])chars)[index];
+    } else {
+      return ((CharSequence)chars).charAt(index);
+    }
+  }
+
+  static String toString(final Object chars, final int offset, final int length) {
+    if (chars instanceof byte[]) {
+      return new String((byte[])chars, offset, length, StandardCharsets.ISO_8859_1);
+    } else if (chars instanceof char[]) {
+      return new String((char[])chars, offset, length);
+    } else {
+      return ((CharSequence)chars).subSequence(offset, offset + length).toString();
+    }
+  }
+
+  private NumberChars() {
+  }
+}
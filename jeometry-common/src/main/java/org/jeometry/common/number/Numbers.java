@@ -180,6 +180,17 @@ public interface Numbers {
     return number % 2 == 0;
   }
 
+  /**
+   * Check if the regular expression matches a single literal character so
+   * it can be split without a regular expression.
+   *
+   * @param regex The regular expression.
+   * @return True if the regex is a single literal character.
+   */
+  static boolean isLiteralSeparator(final String regex) {
+    return regex.length() == 1 && ".$|()[{^?*+\\".indexOf(regex.charAt(0)) == -1;
+  }
+
   static boolean isLong(final String part) {
     return toLong(part) != null;
   }
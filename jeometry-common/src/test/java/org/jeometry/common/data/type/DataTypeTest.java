@@ -0,0 +1,32 @@
+package org.jeometry.common.data.type;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DataTypeTest {
+
+  @Test
+  public void hashEqualValues() {
+    Assert.assertEquals(DataType.hash(1), DataType.hash("1"));
+    Assert.assertEquals(DataType.hash(1L), DataType.hash(1.0));
+    Assert.assertEquals(DataType.hash(0.1f), DataType.hash(0.1));
+    Assert.assertEquals(DataType.hash(0), DataType.hash(-0.0));
+    Assert.assertEquals(DataType.hash(12), DataType.hash(" 12 "));
+    Assert.assertEquals(DataType.hash(Boolean.TRUE), DataType.hash("true"));
+    Assert.assertEquals("1x".hashCode(), DataType.hash("1x"));
+  }
+
+  @Test
+  public void hashLargeIds() {
+    final Set<Integer> hashCodes = new HashSet<>();
+    final long firstId = 100_000_000L;
+    final int count = 10_000;
+    for (long id = firstId; id < firstId + count; id++) {
+      hashCodes.add(DataType.hash(id));
+    }
+    Assert.assertEquals(count, hashCodes.size());
+  }
+}
@@ -0,0 +1,176 @@
+package org.jeometry.common.date;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Check that patterns formatted or parsed by {@link DateTimeFormatters} give
+ * the same result as {@link SimpleDateFormat}, and that the other patterns are
+ * left to {@link SimpleDateFormat}.
+ */
+public class DateTimeFormattersTest {
+  private static final String[] ZONES = {
+    "UTC", "America/Vancouver", "Asia/Kolkata"
+  };
+
+  private static final long[] TIMES = {
+    0, //
+    1583302500123L, // 2020-03-04T06:15:00.123Z
+    1583366399999L, // 2020-03-04T23:59:59.999Z
+    1577707200000L, // 2019-12-30T12:00:00Z, week year 2020
+    1583661600000L, // 2020-03-08T10:00:00Z, after the Vancouver DST gap
+    1636277400000L, // 2021-11-07T09:30:00Z, in the Vancouver DST overlap
+    -14182940000L // 1969-07-20T20:17:40Z
+  };
+
+  /** Letters that SimpleDateFormat and DateTimeFormatter both support. */
+  private static final String LETTERS = "GyYMwWdDEuaHkKhmsSzZX";
+
+  private static final String[] PATTERNS = {
+    "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "dd/MM/yyyy",
+    "yyyy-MM-dd hh:mm a", "yyyy-MM-dd KK:mm a", "yyyy-MM-dd hh:mm", "yyyy-MM-dd K:mm",
+    "yyyy-MM-dd a", "yyyy-MM-dd HH", "yyyy-MM-dd mm:ss", "EEE, d MMM yyyy HH:mm:ss Z",
+    "EEEE MMMM d, yyyy G", "yyyyMMddHHmmss", "yyyy-MM-dd HH:mm z", "'Day' D 'of' yyyy",
+    "yyyy-MM-dd'T'HH:mm:ss.SZ", "yyyy-MM-dd[ HH:mm]"
+  };
+
+  private static Locale locale;
+
+  private static TimeZone timeZone;
+
+  private static void assertFormat(final String pattern, final Date date) {
+    final SimpleDateFormat format = newSimpleDateFormat(pattern);
+    if (format == null) {
+      return;
+    }
+    final String expected = format.format(date);
+    final String actual = DateTimeFormatters.format(pattern, date.getTime());
+    if (actual != null) {
+      Assert.assertEquals(message(pattern, date), expected, actual);
+    }
+  }
+
+  private static void assertParse(final String pattern, final Date date) {
+    final SimpleDateFormat format = newSimpleDateFormat(pattern);
+    if (format == null) {
+      return;
+    }
+    final String text = format.format(date);
+    Date expected;
+    try {
+      expected = format.parse(text);
+    } catch (final ParseException e) {
+      expected = null;
+    }
+    final long actual = DateTimeFormatters.parseEpochMillis(pattern, text);
+    if (actual != IsoDateTimes.INVALID) {
+      Assert.assertNotNull(message(pattern, date) + " " + text, expected);
+      Assert.assertEquals(message(pattern, date) + " " + text, expected.getTime(), actual);
+    }
+  }
+
+  private static String message(final String pattern, final Date date) {
+    return TimeZone.getDefault().getID() + " " + pattern + " " + date.getTime();
+  }
+
+  /**
+   * Get the SimpleDateFormat for the pattern or null if it's not valid (e.g.
+   * XXXX).
+   */
+  private static SimpleDateFormat newSimpleDateFormat(final String pattern) {
+    try {
+      return new SimpleDateFormat(pattern);
+    } catch (final IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static List<String> patterns() {
+    final List<String> patterns = new ArrayList<>();
+    for (final String pattern : PATTERNS) {
+      patterns.add(pattern);
+    }
+    for (int i = 0; i < LETTERS.length(); i++) {
+      final char letter = LETTERS.charAt(i);
+      String letters = "";
+      for (int count = 1; count <= 5; count++) {
+        letters += letter;
+        patterns.add(letters);
+        patterns.add("yyyy-MM-dd HH:mm:ss.SSS " + letters);
+      }
+    }
+    return patterns;
+  }
+
+  @BeforeClass
+  public static void setUp() {
+    locale = Locale.getDefault();
+    timeZone = TimeZone.getDefault();
+    Locale.setDefault(Locale.US);
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    Locale.setDefault(locale);
+    TimeZone.setDefault(timeZone);
+  }
+
+  @Test
+  public void compatiblePatterns() {
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    final Date date = new Date(TIMES[1]);
+    for (final String pattern : new String[] {
+      "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd hh:mm a", "EEE, d MMM yyyy HH:mm:ss Z"
+    }) {
+      final String text = new SimpleDateFormat(pattern).format(date);
+      Assert.assertEquals(pattern, text, DateTimeFormatters.format(pattern, date.getTime()));
+      Assert.assertNotEquals(pattern, IsoDateTimes.INVALID,
+        DateTimeFormatters.parseEpochMillis(pattern, text));
+    }
+  }
+
+  @Test
+  public void format() {
+    for (final String zone : ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(zone));
+      for (final String pattern : patterns()) {
+        for (final long time : TIMES) {
+          assertFormat(pattern, new Date(time));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void parse() {
+    for (final String zone : ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(zone));
+      for (final String pattern : patterns()) {
+        for (final long time : TIMES) {
+          assertParse(pattern, new Date(time));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void parseTimeWithoutAmPm() {
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    Assert.assertEquals(IsoDateTimes.INVALID,
+      DateTimeFormatters.parseEpochMillis("yyyy-MM-dd hh:mm", "2020-03-04 03:15"));
+    Assert.assertEquals(IsoDateTimes.INVALID,
+      DateTimeFormatters.parseEpochMillis("yyyy-MM-dd K:mm", "2020-03-04 3:15"));
+    Assert.assertEquals(IsoDateTimes.INVALID,
+      DateTimeFormatters.parseEpochMillis("yyyy-MM-dd a", "2020-03-04 PM"));
+  }
+}
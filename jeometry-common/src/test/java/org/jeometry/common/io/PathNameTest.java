@@ -0,0 +1,56 @@
+package org.jeometry.common.io;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PathNameTest {
+
+  private static final String[] PATHS = {
+    "/", "", " ", "a", "/a", "/a/", " /a/b ", "/a /b", "/a\t/b/c  /", "/a/ b", "/ a/b",
+    "\\a\\\\b\\", "//a//b//", "/a/  /b", "a b/c", "/a/b/c/d/e"
+  };
+
+  private static void assertSamePath(final String text, PathName expected, PathName actual) {
+    while (expected != null || actual != null) {
+      Assert.assertNotNull(text, expected);
+      Assert.assertNotNull(text, actual);
+      Assert.assertEquals(text, expected.getPath(), actual.getPath());
+      Assert.assertEquals(text, expected.getName(), actual.getName());
+      Assert.assertEquals(text, expected, actual);
+      Assert.assertEquals(text, actual, expected);
+      Assert.assertEquals(text, expected.hashCode(), actual.hashCode());
+      expected = expected.getParent();
+      actual = actual.getParent();
+    }
+  }
+
+  @Test
+  public void internMatchesNewPathName() {
+    for (final String path : PATHS) {
+      final PathName pathName = PathName.newPathName(path);
+      final PathName interned = PathName.intern(path);
+      Assert.assertTrue(path, interned.isInterned());
+      assertSamePath(path, pathName, interned);
+      Assert.assertSame(path, interned, pathName.intern());
+      Assert.assertSame(path, interned, PathName.intern(pathName.getPath()));
+    }
+  }
+
+  @Test
+  public void trailingWhitespace() {
+    Assert.assertEquals("/a/b", PathName.newPathName("/a /b").getPath());
+    Assert.assertEquals("/a", PathName.intern("/a /b").getParent().getPath());
+    Assert.assertSame(PathName.intern("/a"), PathName.intern("/a  /b").getParent());
+    Assert.assertEquals("/a/b", PathName.newPathName("/a/  /b").getPath());
+  }
+
+  @Test
+  public void equalsIgnoresCase() {
+    final PathName interned = PathName.intern("/Schema/Table");
+    Assert.assertSame(interned, PathName.intern("/SCHEMA/table"));
+    Assert.assertEquals(interned, PathName.newPathName("/schema/TABLE"));
+    Assert.assertEquals(PathName.newPathName("/schema/TABLE"), interned);
+    Assert.assertTrue(interned.equals((Object)"/schema/table"));
+    Assert.assertNotEquals(interned, PathName.intern("/Schema/Table2"));
+  }
+}
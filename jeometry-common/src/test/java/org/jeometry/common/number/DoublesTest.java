@@ -0,0 +1,29 @@
+package org.jeometry.common.number;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoublesTest {
+
+  private static void assertIsDouble(final String text) {
+    boolean expected;
+    try {
+      Double.parseDouble(text);
+      expected = true;
+    } catch (final NumberFormatException e) {
+      expected = false;
+    }
+    Assert.assertEquals(text, expected, Doubles.isDouble(text, 0, text.length()));
+  }
+
+  @Test
+  public void isDouble() {
+    for (final String text : new String[] {
+      "", " ", "1", "-1", "+.5", "1.", ".", "1e5", "1e", "1e+", "-1.5E-3", " 12 ", "1f", "1D",
+      "1fd", "NaN", "-Infinity", "NaNd", "Inf", "0x1p3", "0x1.8P-1f", "0x1", "0xp1", "1x", "--1",
+      "1 2"
+    }) {
+      assertIsDouble(text);
+    }
+  }
+}
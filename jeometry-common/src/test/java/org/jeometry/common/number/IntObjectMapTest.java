@@ -0,0 +1,93 @@
+package org.jeometry.common.number;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntObjectMapTest {
+
+  private static void assertSame(final Map<Integer, String> expected,
+    final IntObjectMap<String> actual) {
+    Assert.assertEquals(expected.size(), actual.size());
+    for (final Map.Entry<Integer, String> entry : expected.entrySet()) {
+      final int key = entry.getKey();
+      Assert.assertTrue(Integer.toString(key), actual.containsKey(key));
+      Assert.assertEquals(Integer.toString(key), entry.getValue(), actual.get(key));
+    }
+    final int[] keys = actual.keys();
+    Arrays.sort(keys);
+    final int[] expectedKeys = expected.keySet()
+      .stream()
+      .mapToInt(Integer::intValue)
+      .sorted()
+      .toArray();
+    Assert.assertArrayEquals(expectedKeys, keys);
+    final Map<Integer, String> values = new HashMap<>();
+    actual.forEach((key, value) -> values.put(key, value));
+    Assert.assertEquals(expected, values);
+  }
+
+  @Test
+  public void computeIfAbsent() {
+    final IntObjectMap<String> map = new IntObjectMap<>();
+    Assert.assertEquals("a", map.computeIfAbsent(3, key -> "a"));
+    Assert.assertEquals("a", map.computeIfAbsent(3, key -> "b"));
+    Assert.assertEquals("0", map.computeIfAbsent(0, Integer::toString));
+    Assert.assertEquals(2, map.size());
+  }
+
+  @Test
+  public void freeKey() {
+    final IntObjectMap<String> map = new IntObjectMap<>();
+    Assert.assertNull(map.get(0));
+    Assert.assertFalse(map.containsKey(0));
+    Assert.assertNull(map.put(0, "zero"));
+    Assert.assertEquals("zero", map.put(0, "0"));
+    Assert.assertEquals("0", map.get(0));
+    Assert.assertEquals(1, map.size());
+    Assert.assertEquals("0", map.remove(0));
+    Assert.assertNull(map.remove(0));
+    Assert.assertTrue(map.isEmpty());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullValue() {
+    new IntObjectMap<String>().put(1, null);
+  }
+
+  /**
+   * Apply the same random puts and removes to a {@link HashMap}. The small key
+   * range forces long probe sequences, removals from the middle of them and
+   * rehashing.
+   */
+  @Test
+  public void randomOperations() {
+    final Random random = new Random(27);
+    for (final int keyRange : new int[] {
+      8, 100, 5000
+    }) {
+      final Map<Integer, String> expected = new HashMap<>();
+      final IntObjectMap<String> actual = new IntObjectMap<>(2);
+      for (int i = 0; i < 20000; i++) {
+        final int key = random.nextInt(keyRange) - keyRange / 2;
+        if (random.nextInt(3) == 0) {
+          Assert.assertEquals(expected.remove(key), actual.remove(key));
+        } else {
+          final String value = Integer.toString(i);
+          Assert.assertEquals(expected.put(key, value), actual.put(key, value));
+        }
+        if (i % 1000 == 0) {
+          assertSame(expected, actual);
+        }
+      }
+      assertSame(expected, actual);
+      actual.clear();
+      Assert.assertTrue(actual.isEmpty());
+      Assert.assertNull(actual.get(1));
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.jeometry.coordinatesystem.event;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The read of a coordinate system catalog resource file, from when it was
+ * opened to when it was closed.
+ */
+@Name("org.jeometry.coordinatesystem.CatalogLoad")
+@Label("Catalog Load")
+@Category({
+  "Jeometry", "Coordinate System"
+})
+@Description("Read of a coordinate system catalog resource file")
+@Enabled(false)
+@StackTrace(false)
+public final class CatalogLoadEvent extends Event {
+  private static final class EventInputStream extends FilterInputStream {
+    private long byteCount;
+
+    private final CatalogLoadEvent event;
+
+    private EventInputStream(final InputStream in, final CatalogLoadEvent event) {
+      super(in);
+      this.event = event;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        this.event.commit(this.byteCount);
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int b = super.read();
+      if (b != -1) {
+        this.byteCount++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+      final int count = super.read(buffer, offset, length);
+      if (count > 0) {
+        this.byteCount += count;
+      }
+      return count;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+      final long skipCount = super.skip(count);
+      this.byteCount += skipCount;
+      return skipCount;
+    }
+  }
+
+  /**
+   * Wrap the resource input stream so that an event is committed when it is
+   * closed. If the event is disabled the input stream is returned unchanged.
+   *
+   * @param authority The catalog authority (e.g. EPSG).
+   * @param resource The resource file name.
+   * @param in The input stream, may be null.
+   * @return The input stream.
+   */
+  public static InputStream newInputStream(final String authority, final String resource,
+    final InputStream in) {
+    if (in != null) {
+      final CatalogLoadEvent event = new CatalogLoadEvent();
+      if (event.isEnabled()) {
+        event.authority = authority;
+        event.resource = resource;
+        event.begin();
+        return new EventInputStream(in, event);
+      }
+    }
+    return in;
+  }
+
+  @Label("Authority")
+  private String authority;
+
+  @Label("Resource")
+  private String resource;
+
+  @Label("Bytes Read")
+  @DataAmount
+  private long byteCount;
+
+  private void commit(final long byteCount) {
+    if (shouldCommit()) {
+      this.byteCount = byteCount;
+      commit();
+    }
+  }
+}
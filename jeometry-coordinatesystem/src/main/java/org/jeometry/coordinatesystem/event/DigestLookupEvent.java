@@ -0,0 +1,62 @@
+package org.jeometry.coordinatesystem.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The lookup of the coordinate system ids that have a digest. A lookup that
+ * isn't cached scans the digest resource file until the digest is found.
+ */
+@Name("org.jeometry.coordinatesystem.DigestLookup")
+@Label("Digest Lookup")
+@Category({
+  "Jeometry", "Coordinate System"
+})
+@Description("Lookup of coordinate system ids by digest")
+@Enabled(false)
+@StackTrace(false)
+public final class DigestLookupEvent extends Event {
+  @Label("Authority")
+  private String authority;
+
+  @Label("Coordinate System Type")
+  private String coordinateSystemType;
+
+  @Label("Cached")
+  @Description("The ids were found in the cache")
+  private boolean cached;
+
+  @Label("Records Scanned")
+  private int scanCount;
+
+  @Label("Id Count")
+  private int idCount;
+
+  /**
+   * Commit the event if it is enabled and over the threshold.
+   *
+   * @param authority The catalog authority (e.g. ESRI).
+   * @param coordinateSystemType The type of coordinate system.
+   * @param cached True if the ids were found in the cache.
+   * @param scanCount The number of digest records read.
+   * @param idCount The number of ids found.
+   */
+  public void commit(final String authority, final Object coordinateSystemType,
+    final boolean cached, final int scanCount, final int idCount) {
+    if (shouldCommit()) {
+      this.authority = authority;
+      if (coordinateSystemType != null) {
+        this.coordinateSystemType = coordinateSystemType.toString();
+      }
+      this.cached = cached;
+      this.scanCount = scanCount;
+      this.idCount = idCount;
+      commit();
+    }
+  }
+}
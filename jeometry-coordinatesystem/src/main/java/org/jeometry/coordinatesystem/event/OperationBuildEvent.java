@@ -0,0 +1,60 @@
+package org.jeometry.coordinatesystem.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The creation of the operation to convert coordinates between two coordinate
+ * systems on a cache miss.
+ */
+@Name("org.jeometry.coordinatesystem.OperationBuild")
+@Label("Operation Build")
+@Category({
+  "Jeometry", "Coordinate System"
+})
+@Description("Creation of a coordinates operation between coordinate systems")
+@Enabled(false)
+@StackTrace(false)
+public final class OperationBuildEvent extends Event {
+  @Label("Source Id")
+  private int sourceId;
+
+  @Label("Source Name")
+  private String sourceName;
+
+  @Label("Target Id")
+  private int targetId;
+
+  @Label("Target Name")
+  private String targetName;
+
+  @Label("Chain Length")
+  @Description("The number of operations, 0 if no conversion is required or possible")
+  private int chainLength;
+
+  /**
+   * Commit the event if it is enabled and over the threshold.
+   *
+   * @param sourceId The source coordinate system id.
+   * @param sourceName The source coordinate system name.
+   * @param targetId The target coordinate system id.
+   * @param targetName The target coordinate system name.
+   * @param chainLength The number of operations in the chain.
+   */
+  public void commit(final int sourceId, final String sourceName, final int targetId,
+    final String targetName, final int chainLength) {
+    if (shouldCommit()) {
+      this.sourceId = sourceId;
+      this.sourceName = sourceName;
+      this.targetId = targetId;
+      this.targetName = targetName;
+      this.chainLength = chainLength;
+      commit();
+    }
+  }
+}
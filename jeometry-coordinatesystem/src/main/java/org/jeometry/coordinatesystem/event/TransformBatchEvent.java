@@ -0,0 +1,51 @@
+package org.jeometry.coordinatesystem.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The transform of a batch of points in a buffer or columns by a coordinates
+ * operation.
+ */
+@Name("org.jeometry.coordinatesystem.TransformBatch")
+@Label("Transform Batch")
+@Category({
+  "Jeometry", "Coordinate System"
+})
+@Description("Transform of a batch of points by a coordinates operation")
+@Enabled(false)
+@StackTrace(false)
+public final class TransformBatchEvent extends Event {
+  @Label("Operation")
+  private String operation;
+
+  @Label("Layout")
+  @Description("The layout of the points (e.g. ByteBuffer, DoubleBuffer columns)")
+  private String layout;
+
+  @Label("Point Count")
+  private int pointCount;
+
+  /**
+   * Commit the event if it is enabled and over the threshold.
+   *
+   * @param operation The coordinates operation.
+   * @param layout The layout of the points.
+   * @param pointCount The number of points.
+   */
+  public void commit(final Object operation, final String layout, final int pointCount) {
+    if (shouldCommit()) {
+      if (operation != null) {
+        this.operation = operation.toString();
+      }
+      this.layout = layout;
+      this.pointCount = pointCount;
+      commit();
+    }
+  }
+}
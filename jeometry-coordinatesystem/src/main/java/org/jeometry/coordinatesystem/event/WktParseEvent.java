@@ -0,0 +1,49 @@
+package org.jeometry.coordinatesystem.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The parse of a coordinate system from WKT.
+ */
+@Name("org.jeometry.coordinatesystem.WktParse")
+@Label("WKT Parse")
+@Category({
+  "Jeometry", "Coordinate System"
+})
+@Description("Parse of a coordinate system from WKT")
+@Enabled(false)
+@StackTrace(false)
+public final class WktParseEvent extends Event {
+  @Label("WKT Length")
+  private int wktLength;
+
+  @Label("Coordinate System Id")
+  private int coordinateSystemId;
+
+  @Label("Coordinate System Name")
+  private String coordinateSystemName;
+
+  /**
+   * Commit the event if it is enabled and over the threshold.
+   *
+   * @param wktLength The number of characters in the WKT.
+   * @param coordinateSystemId The id of the parsed coordinate system or 0.
+   * @param coordinateSystemName The name of the parsed coordinate system or
+   * null if it couldn't be parsed.
+   */
+  public void commit(final int wktLength, final int coordinateSystemId,
+    final String coordinateSystemName) {
+    if (shouldCommit()) {
+      this.wktLength = wktLength;
+      this.coordinateSystemId = coordinateSystemId;
+      this.coordinateSystemName = coordinateSystemName;
+      commit();
+    }
+  }
+}
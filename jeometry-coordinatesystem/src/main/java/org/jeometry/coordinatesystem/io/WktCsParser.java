@@ -9,6 +9,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
+import org.jeometry.common.metrics.LatencyHistogram;
+import org.jeometry.common.metrics.MetricRegistry;
+import org.jeometry.coordinatesystem.event.WktParseEvent;
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.model.Axis;
 import org.jeometry.coordinatesystem.model.BaseAuthority;
@@ -31,14 +34,30 @@ import org.jeometry.coordinatesystem.model.unit.LinearUnit;
 
 public class WktCsParser {
 
+  private static final LatencyHistogram READ_TIME = MetricRegistry.getDefault()
+    .histogram("wkt.read");
+
   public static <C extends CoordinateSystem> C read(final String wkt) {
     if (wkt != null) {
+      final WktParseEvent event = new WktParseEvent();
+      event.begin();
+      final long startTime = System.nanoTime();
+      C coordinateSystem = null;
       try {
         final WktCsParser parser = new WktCsParser(wkt);
-        return parser.parse();
+        coordinateSystem = parser.parse();
       } catch (final StringIndexOutOfBoundsException e) {
-        return EsriCsGridParser.parse(wkt);
+        coordinateSystem = EsriCsGridParser.parse(wkt);
+      } finally {
+        READ_TIME.recordSince(startTime);
+        if (coordinateSystem == null) {
+          event.commit(wkt.length(), 0, null);
+        } else {
+          event.commit(wkt.length(), coordinateSystem.getCoordinateSystemId(),
+            coordinateSystem.getCoordinateSystemName());
+        }
       }
+      return coordinateSystem;
     } else {
       return null;
     }
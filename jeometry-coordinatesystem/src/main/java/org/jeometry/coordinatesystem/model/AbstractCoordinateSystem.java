@@ -5,12 +5,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jeometry.common.metrics.LatencyHistogram;
+import org.jeometry.common.metrics.MetricRegistry;
+import org.jeometry.coordinatesystem.event.OperationBuildEvent;
 import org.jeometry.coordinatesystem.operation.ChainedCoordinatesOperation;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
 import org.jeometry.coordinatesystem.operation.NoOpOperation;
 import org.slf4j.LoggerFactory;
 
 public abstract class AbstractCoordinateSystem implements CoordinateSystem {
+  private static final LatencyHistogram OPERATION_BUILD_TIME = MetricRegistry.getDefault()
+    .histogram("coordinateSystem.operationBuild");
 
   private final Area area;
 
@@ -138,6 +143,9 @@ public abstract class AbstractCoordinateSystem implements CoordinateSystem {
         CoordinatesOperation coordinatesOperation = this.coordinatesOperationByCoordinateSystem
           .get(coordinateSystem);
         if (coordinatesOperation == null) {
+          final OperationBuildEvent event = new OperationBuildEvent();
+          event.begin();
+          final long startTime = System.nanoTime();
           try {
             coordinatesOperation = newCoordinatesOperation(coordinateSystem);
           } catch (final IllegalArgumentException e) {
@@ -145,6 +153,20 @@ public abstract class AbstractCoordinateSystem implements CoordinateSystem {
             LoggerFactory.getLogger(getClass())
               .error("Cannot get conversion from " + this + " to " + coordinateSystem, e);
           }
+          OPERATION_BUILD_TIME.recordSince(startTime);
+          if (event.isEnabled()) {
+            final int chainLength;
+            if (coordinatesOperation == NoOpOperation.INSTANCE) {
+              chainLength = 0;
+            } else if (coordinatesOperation instanceof ChainedCoordinatesOperation) {
+              chainLength = ((ChainedCoordinatesOperation)coordinatesOperation).getOperationCount();
+            } else {
+              chainLength = 1;
+            }
+            event.commit(getCoordinateSystemId(), getCoordinateSystemName(),
+              coordinateSystem.getCoordinateSystemId(), coordinateSystem.getCoordinateSystemName(),
+              chainLength);
+          }
           this.coordinatesOperationByCoordinateSystem.put(coordinateSystem, coordinatesOperation);
         }
         if (coordinatesOperation == NoOpOperation.INSTANCE) {
@@ -4,22 +4,13 @@ import java.io.Serializable;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
 
-import org.jeometry.coordinatesystem.operation.projection.AlbersConicEqualArea;
 import org.jeometry.coordinatesystem.operation.projection.CoordinatesProjection;
-import org.jeometry.coordinatesystem.operation.projection.LambertConicConformal;
-import org.jeometry.coordinatesystem.operation.projection.LambertConicConformal1SP;
-import org.jeometry.coordinatesystem.operation.projection.Mercator1SP;
-import org.jeometry.coordinatesystem.operation.projection.Mercator1SPSpherical;
-import org.jeometry.coordinatesystem.operation.projection.Mercator2SP;
 import org.jeometry.coordinatesystem.operation.projection.ProjectionFactory;
-import org.jeometry.coordinatesystem.operation.projection.TransverseMercatorUsgs;
-import org.jeometry.coordinatesystem.operation.projection.WebMercator;
 import org.jeometry.coordinatesystem.util.Equals;
 import org.jeometry.coordinatesystem.util.Md5;
 
@@ -49,8 +40,6 @@ public class CoordinateOperationMethod
 
   public static final String TRANSVERSE_MERCATOR = "Transverse_Mercator";
 
-  private static final Map<String, Function<ProjectedCoordinateSystem, CoordinatesProjection>> FACTORY_BY_NAME = new HashMap<>();
-
   static {
     for (final String alias : Arrays.asList(ALBERS_EQUAL_AREA, "Albers", "Albers_Equal_Area_Conic",
       "Albers_Conic_Equal_Area")) {
@@ -72,17 +61,6 @@ public class CoordinateOperationMethod
     addAlias(MERCATOR_2SP, MERCATOR_2SP);
 
     addAlias(POPULAR_VISUALISATION_PSEUDO_MERCATOR, POPULAR_VISUALISATION_PSEUDO_MERCATOR);
-
-    registerCoordinatesProjection(AlbersConicEqualArea::new, ALBERS_EQUAL_AREA);
-    registerCoordinatesProjection(TransverseMercatorUsgs::new, TRANSVERSE_MERCATOR);
-    registerCoordinatesProjection(Mercator1SP::new, MERCATOR);
-    registerCoordinatesProjection(WebMercator::new, POPULAR_VISUALISATION_PSEUDO_MERCATOR);
-    registerCoordinatesProjection(Mercator1SP::new, MERCATOR_1SP);
-    registerCoordinatesProjection(Mercator2SP::new, MERCATOR_2SP);
-    registerCoordinatesProjection(Mercator1SPSpherical::new, MERCATOR_1SP_SPHERICAL);
-    registerCoordinatesProjection(LambertConicConformal1SP::new, LAMBERT_CONIC_CONFORMAL_1SP);
-    registerCoordinatesProjection(LambertConicConformal::new, LAMBERT_CONIC_CONFORMAL_2SP);
-    registerCoordinatesProjection(LambertConicConformal::new, LAMBERT_CONIC_CONFORMAL_2SP_BELGIUM);
   }
 
   public static void addAlias(final String name, final String alias) {
@@ -137,14 +115,6 @@ public class CoordinateOperationMethod
     return name.replaceAll(" ", "_").replaceAll("[^a-zA-Z0-9_]", "");
   }
 
-  private static void registerCoordinatesProjection(
-    final Function<ProjectedCoordinateSystem, CoordinatesProjection> factory,
-    final String... names) {
-    for (final String name : names) {
-      FACTORY_BY_NAME.put(name, factory);
-    }
-  }
-
   private Authority authority;
 
   private final String name;
@@ -157,20 +127,19 @@ public class CoordinateOperationMethod
 
   private List<ParameterName> parameterNames = new ArrayList<>();
 
-  private final List<Boolean> parameterReversal = new ArrayList<>();
-
-  private final Function<ProjectedCoordinateSystem, CoordinatesProjection> coordinatesProjectionFactory;
+  private boolean[] parameterReversal = new boolean[0];
 
   public CoordinateOperationMethod(final int id, final String name, final boolean reverse,
     final boolean deprecated, final List<ParameterName> parameterNames,
-    final List<Byte> parameterReversal) {
+    final byte[] parameterReversal) {
     this(name);
     this.authority = new EpsgAuthority(id);
     this.reverse = reverse;
     this.deprecated = deprecated;
     this.parameterNames = parameterNames;
-    for (final Byte reverseParamater : parameterReversal) {
-      this.parameterReversal.add(reverseParamater == 1);
+    this.parameterReversal = new boolean[parameterReversal.length];
+    for (int i = 0; i < parameterReversal.length; i++) {
+      this.parameterReversal[i] = parameterReversal[i] == 1;
     }
   }
 
@@ -184,8 +153,6 @@ public class CoordinateOperationMethod
       this.normalizedName = PROJECTION_ALIASES.getOrDefault(normalizedName.toLowerCase(),
         normalizedName);
     }
-
-    this.coordinatesProjectionFactory = FACTORY_BY_NAME.get(this.normalizedName);
   }
 
   @Override
@@ -243,12 +210,14 @@ public class CoordinateOperationMethod
     }
   }
 
-  public synchronized CoordinatesProjection newCoordinatesProjection(
+  public CoordinatesProjection newCoordinatesProjection(
     final ProjectedCoordinateSystem coordinateSystem) {
-    if (this.coordinatesProjectionFactory == null) {
-      return ProjectionFactory.newCoordinatesProjection(coordinateSystem);
+    final Function<ProjectedCoordinateSystem, CoordinatesProjection> factory = ProjectionFactory
+      .getFactory(this.normalizedName);
+    if (factory == null) {
+      return null;
     } else {
-      return this.coordinatesProjectionFactory.apply(coordinateSystem);
+      return factory.apply(coordinateSystem);
     }
   }
 
@@ -16,7 +16,9 @@ import org.jeometry.coordinatesystem.io.EpsgCsWktWriter;
 import org.jeometry.coordinatesystem.io.EsriCsWktWriter;
 import org.jeometry.coordinatesystem.model.systems.EsriCoordinateSystems;
 import org.jeometry.coordinatesystem.model.unit.LinearUnit;
+import org.jeometry.coordinatesystem.operation.ChainedCoordinatesOperation;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
+import org.jeometry.coordinatesystem.operation.RenderTransform;
 import org.jeometry.coordinatesystem.util.Md5;
 
 public interface CoordinateSystem extends HorizontalCoordinateSystemProxy, Code {
@@ -83,6 +85,50 @@ public interface CoordinateSystem extends HorizontalCoordinateSystemProxy, Code
     return digest.digest();
   }
 
+  /**
+   * Get a transform to float coordinates relative to a view origin in the
+   * target coordinate system. The transform uses the cached
+   * {@link #getCoordinatesOperation(CoordinateSystem)}. If that ends with the
+   * conversion from metres to the target's linear unit, the conversion is
+   * removed and fused with the view transform.
+   *
+   * @param coordinateSystem The target coordinate system.
+   * @param originX The x of the view origin in the target coordinate system.
+   * @param originY The y of the view origin in the target coordinate system.
+   * @param scaleX The pixels per target unit in the x direction.
+   * @param scaleY The pixels per target unit in the y direction.
+   * @return The transform.
+   */
+  default RenderTransform newRenderTransform(final CoordinateSystem coordinateSystem,
+    final double originX, final double originY, final double scaleX, final double scaleY) {
+    CoordinatesOperation operation = null;
+    double unitScale = 1;
+    if (coordinateSystem != null) {
+      operation = getCoordinatesOperation(coordinateSystem);
+      if (operation != null && coordinateSystem instanceof ProjectedCoordinateSystem) {
+        final LinearUnit linearUnit = coordinateSystem.getLinearUnit();
+        final CoordinatesOperation fromMetresOperation = linearUnit.fromMetresOperation;
+        if (operation == fromMetresOperation) {
+          operation = null;
+          unitScale = linearUnit.fromMetres(1.0);
+        } else if (operation instanceof ChainedCoordinatesOperation) {
+          final List<CoordinatesOperation> operations = ((ChainedCoordinatesOperation)operation)
+            .getOperations();
+          final int lastIndex = operations.size() - 1;
+          if (operations.get(lastIndex) == fromMetresOperation) {
+            if (lastIndex == 1) {
+              operation = operations.get(0);
+            } else {
+              operation = new ChainedCoordinatesOperation(operations.subList(0, lastIndex));
+            }
+            unitScale = linearUnit.fromMetres(1.0);
+          }
+        }
+      }
+    }
+    return new RenderTransform(operation, unitScale, originX, originY, scaleX, scaleY);
+  }
+
   default String toEpsgWkt() {
     try (
       StringWriter stringWriter = new StringWriter()) {
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.measure.Unit;
 import javax.measure.quantity.Length;
@@ -22,7 +23,11 @@ import org.jeometry.coordinatesystem.util.Equals;
 
 public class ProjectedCoordinateSystem extends AbstractHorizontalCoordinateSystem {
 
-  private CoordinatesProjection coordinatesProjection;
+  private static final AtomicReferenceFieldUpdater<ProjectedCoordinateSystem, CoordinatesProjection> COORDINATES_PROJECTION_UPDATER = AtomicReferenceFieldUpdater
+    .newUpdater(ProjectedCoordinateSystem.class, CoordinatesProjection.class,
+      "coordinatesProjection");
+
+  private volatile CoordinatesProjection coordinatesProjection;
 
   private final GeographicCoordinateSystem geographicCoordinateSystem;
 
@@ -197,11 +202,18 @@ public class ProjectedCoordinateSystem extends AbstractHorizontalCoordinateSyste
   }
 
   @SuppressWarnings("unchecked")
-  public synchronized <P extends CoordinatesProjection> P getCoordinatesProjection() {
-    if (this.coordinatesProjection == null) {
-      this.coordinatesProjection = this.coordinateOperationMethod.newCoordinatesProjection(this);
+  public <P extends CoordinatesProjection> P getCoordinatesProjection() {
+    CoordinatesProjection coordinatesProjection = this.coordinatesProjection;
+    if (coordinatesProjection == null) {
+      coordinatesProjection = this.coordinateOperationMethod.newCoordinatesProjection(this);
+      if (coordinatesProjection != null) {
+        // If another thread won the race use its projection so all callers share one instance
+        if (!COORDINATES_PROJECTION_UPDATER.compareAndSet(this, null, coordinatesProjection)) {
+          coordinatesProjection = this.coordinatesProjection;
+        }
+      }
     }
-    return (P)this.coordinatesProjection;
+    return (P)coordinatesProjection;
   }
 
   @Override
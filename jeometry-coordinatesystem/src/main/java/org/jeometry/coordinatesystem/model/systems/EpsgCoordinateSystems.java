@@ -5,6 +5,7 @@ import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,7 +18,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jeometry.common.metrics.LatencyHistogram;
+import org.jeometry.common.metrics.MetricRegistry;
+import org.jeometry.common.number.IntObjectMap;
+import org.jeometry.coordinatesystem.event.CatalogLoadEvent;
 import org.jeometry.coordinatesystem.model.Area;
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.model.Axis;
@@ -57,6 +66,14 @@ import org.jeometry.coordinatesystem.model.unit.TimeUnit;
 import org.jeometry.coordinatesystem.model.unit.UnitOfMeasure;
 import org.slf4j.LoggerFactory;
 
+/**
+ * The EPSG coordinate system catalog. The catalog is loaded on first use. If
+ * the system property {@value #PRELOAD_PROPERTY} is true the catalog is loaded
+ * when this class is initialized. The native-image.properties in the jar sets
+ * this property and initializes the catalog classes at build time so a
+ * GraalVM native image stores the catalog in the image heap and no resources
+ * are read at startup.
+ */
 public final class EpsgCoordinateSystems {
 
   public static class EpsgCoordinateSystemType {
@@ -97,68 +114,170 @@ public final class EpsgCoordinateSystems {
     }
   }
 
-  private static final HashMap<Integer, Area> AREA_BY_ID = new HashMap<>();
+  /**
+   * The coordinate systems loaded from the EPSG resources. A catalog is only
+   * modified by the thread running {@link EpsgCoordinateSystems#initialize()}
+   * and is read-only once published.
+   */
+  private static final class Catalog {
+    private static final Catalog EMPTY = new Catalog();
 
-  private static final Map<String, AxisName> AXIS_NAME_BY_NAME = new HashMap<>();
+    private final IntObjectMap<CoordinateSystem> coordinateSystemById = new IntObjectMap<>(8192);
+
+    private final Map<String, CoordinateSystem> coordinateSystemByName = new TreeMap<>();
+
+    private final IntObjectMap<List<CoordinateSystem>> coordinateSystemsByHashCode = new IntObjectMap<>(
+      8192);
+
+    private Set<CoordinateSystem> coordinateSystems = Collections.emptySet();
+
+    private void addCoordinateSystem(final CoordinateSystem coordinateSystem) {
+      if (coordinateSystem != null) {
+        final int id = coordinateSystem.getCoordinateSystemId();
+        final String name = coordinateSystem.getCoordinateSystemName();
+        this.coordinateSystemById.put(id, coordinateSystem);
+        final int hashCode = coordinateSystem.hashCode();
+        List<CoordinateSystem> coordinateSystems = this.coordinateSystemsByHashCode.get(hashCode);
+        if (coordinateSystems == null) {
+          coordinateSystems = new ArrayList<>(1);
+          this.coordinateSystemsByHashCode.put(hashCode, coordinateSystems);
+        }
+        coordinateSystems.add(coordinateSystem);
+        this.coordinateSystemByName.put(name, coordinateSystem);
+      }
+    }
 
-  private static final HashMap<Integer, AxisName> AXIS_NAMES = new HashMap<>();
+    private void addCoordinateSystemAlias(final int id, final int targetId) {
+      final CoordinateSystem coordinateSystem = this.coordinateSystemById.get(targetId);
+      if (coordinateSystem != null) {
+        this.coordinateSystemById.put(id, coordinateSystem);
+      }
+    }
 
-  private static final HashMap<Integer, CoordinateSystem> COORDINATE_SYSTEM_BY_ID = new HashMap<>();
+    private Catalog publish() {
+      final Set<CoordinateSystem> coordinateSystems = new LinkedHashSet<>();
+      this.coordinateSystemById.forEachValue(coordinateSystems::add);
+      this.coordinateSystems = Collections.unmodifiableSet(coordinateSystems);
+      return this;
+    }
+  }
+
+  private static final IntObjectMap<Area> AREA_BY_ID = new IntObjectMap<>();
 
-  private static final Map<String, CoordinateSystem> COORDINATE_SYSTEM_BY_NAME = new TreeMap<>();
+  private static final Map<String, AxisName> AXIS_NAME_BY_NAME = new HashMap<>();
 
-  private static final HashMap<Integer, EpsgCoordinateSystemType> COORDINATE_SYSTEM_TYPE_BY_ID = new HashMap<>();
+  private static final IntObjectMap<AxisName> AXIS_NAMES = new IntObjectMap<>();
 
-  private static final HashMap<Integer, List<CoordinateSystem>> COORDINATE_SYSTEMS_BY_HASH_CODE = new HashMap<>();
+  private static final IntObjectMap<EpsgCoordinateSystemType> COORDINATE_SYSTEM_TYPE_BY_ID = new IntObjectMap<>();
 
-  private static Set<CoordinateSystem> coordinateSystems;
+  private static volatile Catalog catalog;
 
-  private static final HashMap<Integer, Datum> DATUM_BY_ID = new HashMap<>();
+  private static final IntObjectMap<Datum> DATUM_BY_ID = new IntObjectMap<>();
 
   private static boolean initialized = false;
 
-  private static int nextSrid = 2000000;
+  private static final LatencyHistogram INITIALIZE_TIME = MetricRegistry.getDefault()
+    .histogram("epsg.initialize");
+
+  private static final AtomicInteger NEXT_SRID = new AtomicInteger(2000000);
 
-  private static final HashMap<Integer, CoordinateOperation> OPERATION_BY_ID = new HashMap<>();
+  private static final IntObjectMap<CoordinateOperation> OPERATION_BY_ID = new IntObjectMap<>();
 
-  private static final HashMap<Integer, ParameterName> PARAM_NAME_BY_ID = new HashMap<>();
+  /** User registered or derived coordinate systems not in the EPSG catalog. */
+  private static final Map<Integer, CoordinateSystem> OVERLAY_BY_ID = new ConcurrentHashMap<>();
 
-  private static final HashMap<Integer, PrimeMeridian> PRIME_MERIDIAN_BY_ID = new HashMap<>();;
+  private static final Map<String, CoordinateSystem> OVERLAY_BY_NAME = new ConcurrentSkipListMap<>();
+
+  private static final Map<Integer, List<CoordinateSystem>> OVERLAY_BY_HASH_CODE = new ConcurrentHashMap<>();
+
+  static final String RESOURCE_PATH = "/org/jeometry/coordinatesystem/epsg/";
+
+  /**
+   * Pre-linked copy of the EPSG *.bin test resources written at build time by
+   * the EpsgCatalogSnapshotWriter in the test sources.
+   */
+  static final String SNAPSHOT_FILE_NAME = "epsg.snapshot";
+
+  static final int SNAPSHOT_MAGIC = 0x45505347;
+
+  static final int SNAPSHOT_VERSION = 1;
+
+  public static final String PRELOAD_PROPERTY = "org.jeometry.coordinatesystem.epsg.preload";
+
+  private static final IntObjectMap<ParameterName> PARAM_NAME_BY_ID = new IntObjectMap<>();
+
+  private static final IntObjectMap<PrimeMeridian> PRIME_MERIDIAN_BY_ID = new IntObjectMap<>();;
 
   private static final EpsgSystemOfUnits SYSTEM_OF_UNITS = new EpsgSystemOfUnits();
 
-  private static final HashMap<Integer, UnitOfMeasure> UNIT_BY_ID = new HashMap<>();
+  private static final IntObjectMap<UnitOfMeasure> UNIT_BY_ID = new IntObjectMap<>();
 
   private static final Map<String, UnitOfMeasure> UNIT_BY_NAME = new TreeMap<>();
 
-  private static void addCoordinateSystem(final CoordinateSystem coordinateSystem) {
-    if (coordinateSystem != null) {
-      final Integer id = coordinateSystem.getCoordinateSystemId();
-      final String name = coordinateSystem.getCoordinateSystemName();
-      COORDINATE_SYSTEM_BY_ID.put(id, coordinateSystem);
-      final int hashCode = coordinateSystem.hashCode();
-      List<CoordinateSystem> coordinateSystems = COORDINATE_SYSTEMS_BY_HASH_CODE.get(hashCode);
-      if (coordinateSystems == null) {
-        coordinateSystems = new ArrayList<>();
-        COORDINATE_SYSTEMS_BY_HASH_CODE.put(hashCode, coordinateSystems);
+  private static volatile boolean unitsLoaded = false;
+
+  static {
+    if (Boolean.getBoolean(PRELOAD_PROPERTY)) {
+      initialize();
+    }
+  }
+
+  /**
+   * Add a coordinate system that isn't in the EPSG catalog. If another thread
+   * registered a coordinate system with the same name first that one is returned.
+   *
+   * @param coordinateSystem The coordinate system to add.
+   * @return The registered coordinate system.
+   */
+  private static CoordinateSystem addCoordinateSystem(final CoordinateSystem coordinateSystem) {
+    final String name = coordinateSystem.getCoordinateSystemName();
+    if (name != null) {
+      final CoordinateSystem existing = OVERLAY_BY_NAME.putIfAbsent(name, coordinateSystem);
+      if (existing != null) {
+        return existing;
       }
-      coordinateSystems.add(coordinateSystem);
-      COORDINATE_SYSTEM_BY_NAME.put(name, coordinateSystem);
     }
+    final Integer id = coordinateSystem.getCoordinateSystemId();
+    OVERLAY_BY_ID.putIfAbsent(id, coordinateSystem);
+    final int hashCode = coordinateSystem.hashCode();
+    OVERLAY_BY_HASH_CODE.computeIfAbsent(hashCode, key -> new CopyOnWriteArrayList<>())
+      .add(coordinateSystem);
+    return coordinateSystem;
   }
 
   public static void addCoordinateSystemAlias(final int id, final int targetId) {
-    final ProjectedCoordinateSystem worldMercator = (ProjectedCoordinateSystem)COORDINATE_SYSTEM_BY_ID
-      .get(targetId);
-    COORDINATE_SYSTEM_BY_ID.put(id, worldMercator);
+    final CoordinateSystem coordinateSystem = getCoordinateSystem(targetId);
+    if (coordinateSystem != null) {
+      OVERLAY_BY_ID.put(id, coordinateSystem);
+    }
   }
 
   public static synchronized void clear() {
     initialized = false;
-    coordinateSystems = null;
-    COORDINATE_SYSTEMS_BY_HASH_CODE.clear();
-    COORDINATE_SYSTEM_BY_ID.clear();
-    COORDINATE_SYSTEM_BY_NAME.clear();
+    catalog = null;
+    OVERLAY_BY_ID.clear();
+    OVERLAY_BY_NAME.clear();
+    OVERLAY_BY_HASH_CODE.clear();
+  }
+
+  private static CoordinateSystem findEqualCoordinateSystem(
+    final List<CoordinateSystem> coordinateSystems, final CoordinateSystem coordinateSystem,
+    CoordinateSystem matchedCoordinateSystem) {
+    if (coordinateSystems != null) {
+      for (final CoordinateSystem coordinateSystem3 : coordinateSystems) {
+        if (coordinateSystem3.equals(coordinateSystem)) {
+          if (matchedCoordinateSystem == null) {
+            matchedCoordinateSystem = coordinateSystem3;
+          } else if (coordinateSystem3.getCoordinateSystemId() < matchedCoordinateSystem
+            .getCoordinateSystemId()) {
+            if (!coordinateSystem3.isDeprecated() || matchedCoordinateSystem.isDeprecated()) {
+              matchedCoordinateSystem = coordinateSystem3;
+            }
+          }
+        }
+      }
+    }
+    return matchedCoordinateSystem;
   }
 
   public static AxisName getAxisName(final String name) {
@@ -174,16 +293,8 @@ public final class EpsgCoordinateSystems {
     }
   }
 
-  private static <V> V getCode(final HashMap<Integer, V> valueById, final int id) {
-    if (id == 0) {
-      return null;
-    } else {
-      final V value = valueById.get(id);
-      if (value == null) {
-        throw new IllegalArgumentException("Invalid code for id=" + id);
-      }
-      return value;
-    }
+  private static boolean getBoolean(final ByteBuffer buffer) {
+    return buffer.get() == (byte)1;
   }
 
   public static CompoundCoordinateSystem getCompound(final int horizontalCoordinateSystemId,
@@ -205,50 +316,46 @@ public final class EpsgCoordinateSystems {
     return getCoordinateSystem(compoundCoordinateSystem);
   }
 
+  private static Catalog getCatalog() {
+    Catalog catalog = EpsgCoordinateSystems.catalog;
+    if (catalog == null) {
+      initialize();
+      catalog = EpsgCoordinateSystems.catalog;
+      if (catalog == null) {
+        return Catalog.EMPTY;
+      }
+    }
+    return catalog;
+  }
+
   @SuppressWarnings("unchecked")
-  public synchronized static <C extends CoordinateSystem> C getCoordinateSystem(
-    final C coordinateSystem) {
-    initialize();
+  public static <C extends CoordinateSystem> C getCoordinateSystem(final C coordinateSystem) {
+    final Catalog catalog = getCatalog();
     if (coordinateSystem == null) {
       return null;
     } else {
       int srid = coordinateSystem.getCoordinateSystemId();
-      CoordinateSystem matchedCoordinateSystem = COORDINATE_SYSTEM_BY_ID.get(srid);
+      CoordinateSystem matchedCoordinateSystem = getCoordinateSystem(catalog, srid);
       if (matchedCoordinateSystem == null) {
-        matchedCoordinateSystem = COORDINATE_SYSTEM_BY_NAME
-          .get(coordinateSystem.getCoordinateSystemName());
+        final String name = coordinateSystem.getCoordinateSystemName();
+        matchedCoordinateSystem = getCoordinateSystem(catalog, name);
         if (matchedCoordinateSystem == null) {
           final int hashCode = coordinateSystem.hashCode();
-          int matchCoordinateSystemId = EsriCoordinateSystems.getIdUsingDigest(coordinateSystem);
+          final int matchCoordinateSystemId = EsriCoordinateSystems
+            .getIdUsingDigest(coordinateSystem);
           if (matchCoordinateSystemId > 0) {
-            matchedCoordinateSystem = getCoordinateSystem(matchCoordinateSystemId);
+            matchedCoordinateSystem = getCoordinateSystem(catalog, matchCoordinateSystemId);
           } else {
-            final List<CoordinateSystem> coordinateSystems = COORDINATE_SYSTEMS_BY_HASH_CODE
-              .get(hashCode);
-            if (coordinateSystems != null) {
-              for (final CoordinateSystem coordinateSystem3 : coordinateSystems) {
-                if (coordinateSystem3.equals(coordinateSystem)) {
-                  final int srid3 = coordinateSystem3.getCoordinateSystemId();
-                  if (matchedCoordinateSystem == null) {
-                    matchedCoordinateSystem = coordinateSystem3;
-                    matchCoordinateSystemId = srid3;
-                  } else if (srid3 < matchCoordinateSystemId) {
-                    if (!coordinateSystem3.isDeprecated()
-                      || matchedCoordinateSystem.isDeprecated()) {
-                      matchedCoordinateSystem = coordinateSystem3;
-                      matchCoordinateSystemId = srid3;
-                    }
-                  }
-                }
-              }
-            }
+            matchedCoordinateSystem = findEqualCoordinateSystem(
+              catalog.coordinateSystemsByHashCode.get(hashCode), coordinateSystem, null);
+            matchedCoordinateSystem = findEqualCoordinateSystem(OVERLAY_BY_HASH_CODE.get(hashCode),
+              coordinateSystem, matchedCoordinateSystem);
           }
 
           if (matchedCoordinateSystem == null) {
             if (srid <= 0) {
-              srid = nextSrid++;
+              srid = NEXT_SRID.getAndIncrement();
             }
-            final String name = coordinateSystem.getCoordinateSystemName();
             final List<Axis> axis = coordinateSystem.getAxis();
             final Area area = coordinateSystem.getArea();
             final Authority authority = coordinateSystem.getAuthority();
@@ -263,8 +370,7 @@ public final class EpsgCoordinateSystems {
               final GeographicCoordinateSystem newCs = new GeographicCoordinateSystem(srid, name,
                 geodeticDatum, primeMeridian, axis, area, sourceCoordinateSystem,
                 coordinateOperation, deprecated);
-              addCoordinateSystem(newCs);
-              return (C)newCs;
+              return (C)addCoordinateSystem(newCs);
             } else if (coordinateSystem instanceof ProjectedCoordinateSystem) {
               final ProjectedCoordinateSystem projectedCs = (ProjectedCoordinateSystem)coordinateSystem;
               GeographicCoordinateSystem geographicCs = projectedCs.getGeographicCoordinateSystem();
@@ -277,8 +383,7 @@ public final class EpsgCoordinateSystems {
               final ProjectedCoordinateSystem newCs = new ProjectedCoordinateSystem(srid, name,
                 geographicCs, area, coordinateOperationMethod, parameters, linearUnit, axis,
                 authority, deprecated);
-              addCoordinateSystem(newCs);
-              return (C)newCs;
+              return (C)addCoordinateSystem(newCs);
             }
             return coordinateSystem;
           }
@@ -288,11 +393,33 @@ public final class EpsgCoordinateSystems {
     }
   }
 
+  private static CoordinateSystem getCoordinateSystem(final Catalog catalog, final int crsId) {
+    final CoordinateSystem coordinateSystem = catalog.coordinateSystemById.get(crsId);
+    if (coordinateSystem == null) {
+      return OVERLAY_BY_ID.get(crsId);
+    } else {
+      return coordinateSystem;
+    }
+  }
+
+  private static CoordinateSystem getCoordinateSystem(final Catalog catalog, final String name) {
+    if (name == null) {
+      return null;
+    } else {
+      final CoordinateSystem coordinateSystem = catalog.coordinateSystemByName.get(name);
+      if (coordinateSystem == null) {
+        return OVERLAY_BY_NAME.get(name);
+      } else {
+        return coordinateSystem;
+      }
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public static <C extends CoordinateSystem> C getCoordinateSystem(final int crsId) {
     if (crsId > 0) {
-      initialize();
-      return (C)COORDINATE_SYSTEM_BY_ID.get(crsId);
+      final Catalog catalog = getCatalog();
+      return (C)getCoordinateSystem(catalog, crsId);
     } else {
       return null;
     }
@@ -300,13 +427,12 @@ public final class EpsgCoordinateSystems {
 
   @SuppressWarnings("unchecked")
   public static <C extends CoordinateSystem> C getCoordinateSystem(final String name) {
-    initialize();
-    return (C)COORDINATE_SYSTEM_BY_NAME.get(name);
+    final Catalog catalog = getCatalog();
+    return (C)getCoordinateSystem(catalog, name);
   }
 
   public static Set<CoordinateSystem> getCoordinateSystems() {
-    initialize();
-    return coordinateSystems;
+    return getCatalog().coordinateSystems;
   }
 
   /**
@@ -332,8 +458,24 @@ public final class EpsgCoordinateSystems {
   }
 
   public static Map<Integer, CoordinateSystem> getCoordinateSystemsById() {
-    initialize();
-    return new TreeMap<>(COORDINATE_SYSTEM_BY_ID);
+    final Catalog catalog = getCatalog();
+    final Map<Integer, CoordinateSystem> coordinateSystemById = new TreeMap<>(OVERLAY_BY_ID);
+    catalog.coordinateSystemById.forEach(coordinateSystemById::put);
+    return coordinateSystemById;
+  }
+
+  /**
+   * Get the coordinate systems ordered by name, EPSG coordinate systems are
+   * returned before user registered ones.
+   *
+   * @return The coordinate systems.
+   */
+  private static Iterable<CoordinateSystem> getCoordinateSystemsByName() {
+    final Catalog catalog = getCatalog();
+    final List<CoordinateSystem> coordinateSystems = new ArrayList<>(
+      catalog.coordinateSystemByName.values());
+    coordinateSystems.addAll(OVERLAY_BY_NAME.values());
+    return coordinateSystems;
   }
 
   public static int getCrsId(final CoordinateSystem coordinateSystem) {
@@ -362,13 +504,13 @@ public final class EpsgCoordinateSystems {
 
   @SuppressWarnings("unchecked")
   public static <D extends Datum> D getDatum(final int id) {
-    initialize();
+    getCatalog();
     return (D)DATUM_BY_ID.get(id);
   }
 
   public static List<GeographicCoordinateSystem> getGeographicCoordinateSystems() {
     final List<GeographicCoordinateSystem> coordinateSystems = new ArrayList<>();
-    for (final CoordinateSystem coordinateSystem : COORDINATE_SYSTEM_BY_NAME.values()) {
+    for (final CoordinateSystem coordinateSystem : getCoordinateSystemsByName()) {
       if (coordinateSystem instanceof GeographicCoordinateSystem) {
         final GeographicCoordinateSystem geographicCoordinateSystem = (GeographicCoordinateSystem)coordinateSystem;
         coordinateSystems.add(geographicCoordinateSystem);
@@ -377,6 +519,23 @@ public final class EpsgCoordinateSystems {
     return coordinateSystems;
   }
 
+  /**
+   * Get the value at the index in a snapshot table. An index of -1 is used for
+   * no value.
+   *
+   * @throws IllegalStateException If the index isn't in the table.
+   */
+  private static <V> V getIndexed(final String table, final V[] values, final int index) {
+    if (index == -1) {
+      return null;
+    } else if (index < 0 || index >= values.length) {
+      throw new IllegalStateException(SNAPSHOT_FILE_NAME + " " + table + " index " + index
+        + " is not in the range 0.." + (values.length - 1));
+    } else {
+      return values[index];
+    }
+  }
+
   public static HorizontalCoordinateSystem getHorizontalCoordinateSystem(final int crsId) {
     final CoordinateSystem coordinateSystem = getCoordinateSystem(crsId);
     if (coordinateSystem instanceof HorizontalCoordinateSystem) {
@@ -388,7 +547,7 @@ public final class EpsgCoordinateSystems {
 
   public static List<HorizontalCoordinateSystem> getHorizontalCoordinateSystems() {
     final List<HorizontalCoordinateSystem> coordinateSystems = new ArrayList<>();
-    for (final CoordinateSystem coordinateSystem : COORDINATE_SYSTEM_BY_NAME.values()) {
+    for (final CoordinateSystem coordinateSystem : getCoordinateSystemsByName()) {
       if (coordinateSystem instanceof HorizontalCoordinateSystem) {
         final HorizontalCoordinateSystem projectedCoordinateSystem = (HorizontalCoordinateSystem)coordinateSystem;
         coordinateSystems.add(projectedCoordinateSystem);
@@ -405,7 +564,7 @@ public final class EpsgCoordinateSystems {
 
   public static List<ProjectedCoordinateSystem> getProjectedCoordinateSystems() {
     final List<ProjectedCoordinateSystem> coordinateSystems = new ArrayList<>();
-    for (final CoordinateSystem coordinateSystem : COORDINATE_SYSTEM_BY_NAME.values()) {
+    for (final CoordinateSystem coordinateSystem : getCoordinateSystemsByName()) {
       if (coordinateSystem instanceof ProjectedCoordinateSystem) {
         final ProjectedCoordinateSystem projectedCoordinateSystem = (ProjectedCoordinateSystem)coordinateSystem;
         coordinateSystems.add(projectedCoordinateSystem);
@@ -414,6 +573,17 @@ public final class EpsgCoordinateSystems {
     return coordinateSystems;
   }
 
+  private static String getString(final ByteBuffer buffer) {
+    final int byteCount = buffer.getInt();
+    if (byteCount < 0) {
+      return null;
+    } else {
+      final int position = buffer.position();
+      buffer.position(position + byteCount);
+      return new String(buffer.array(), position, byteCount, StandardCharsets.UTF_8);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public static <U extends UnitOfMeasure> U getUnit(final int id) {
     loadUnitOfMeasure();
@@ -431,7 +601,7 @@ public final class EpsgCoordinateSystems {
 
   public static List<VerticalCoordinateSystem> getVerticalCoordinateSystems() {
     final List<VerticalCoordinateSystem> coordinateSystems = new ArrayList<>();
-    for (final CoordinateSystem coordinateSystem : COORDINATE_SYSTEM_BY_NAME.values()) {
+    for (final CoordinateSystem coordinateSystem : getCoordinateSystemsByName()) {
       if (coordinateSystem instanceof VerticalCoordinateSystem) {
         final VerticalCoordinateSystem projectedCoordinateSystem = (VerticalCoordinateSystem)coordinateSystem;
         coordinateSystems.add(projectedCoordinateSystem);
@@ -440,536 +610,332 @@ public final class EpsgCoordinateSystems {
     return coordinateSystems;
   }
 
-  public synchronized static void initialize() {
-    if (!initialized) {
-      initialized = true;
-      try {
-        loadUnitOfMeasure();
-        loadCoordinateAxisNames();
-        final HashMap<Integer, List<Axis>> axisMap = loadCoordinateAxis();
-        loadArea();
-        loadPrimeMeridians();
-        loadDatum();
-        loadCoordOperationParam();
-        final HashMap<Integer, List<ParameterName>> paramOrderByMethodId = new HashMap<>();
-        final HashMap<Integer, List<Byte>> paramReversalByMethodId = new HashMap<>();
-        loadCoordOperationParamUsage(paramOrderByMethodId, paramReversalByMethodId);
-        final HashMap<Integer, CoordinateOperationMethod> methodById = loadCoordOperationMethod(
-          paramOrderByMethodId, paramReversalByMethodId);
-        final HashMap<Integer, Map<ParameterName, ParameterValue>> operationParameters = new HashMap<>();
-        loadCoordOperationParamValue(methodById, operationParameters, paramReversalByMethodId);
-        loadCoordOperation(methodById, operationParameters, paramReversalByMethodId);
-        loadCoordinateSystem();
-        loadCoordinateReferenceSystem(axisMap);
-
-        addCoordinateSystemAlias(42102, 3005);
-        addCoordinateSystemAlias(900913, 3857);
-        coordinateSystems = Collections
-          .unmodifiableSet(new LinkedHashSet<>(COORDINATE_SYSTEM_BY_ID.values()));
-      } catch (final Throwable t) {
-        t.printStackTrace();
-      }
-    }
-  }
-
-  private static void loadArea() {
-    try (
-      DataInputStream reader = newDataInputStream("area")) {
-      if (reader != null) {
-        while (true) {
-          final int code = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-          double minX = reader.readDouble();
-          final double minY = reader.readDouble();
-          final double maxX = reader.readDouble();
-          final double maxY = reader.readDouble();
-          final boolean deprecated = readBoolean(reader);
-          final Authority authority = new EpsgAuthority(code);
-
-          if (minX > maxX) {
-            if (minX > 0) {
-              minX -= 360;
-            }
+  public static void initialize() {
+    if (catalog == null) {
+      synchronized (EpsgCoordinateSystems.class) {
+        if (!initialized) {
+          initialized = true;
+          final long startTime = System.nanoTime();
+          final Catalog catalog = new Catalog();
+          try {
+            loadUnitOfMeasure();
+            loadSnapshot(catalog);
+            catalog.addCoordinateSystemAlias(42102, 3005);
+            catalog.addCoordinateSystemAlias(900913, 3857);
+          } catch (final Throwable t) {
+            t.printStackTrace();
           }
-          final Area area = new Area(name, minX, minY, maxX, maxY, authority, deprecated);
-          AREA_BY_ID.put(code, area);
+          EpsgCoordinateSystems.catalog = catalog.publish();
+          INITIALIZE_TIME.recordSince(startTime);
         }
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("area", e);
     }
   }
 
-  private static HashMap<Integer, List<Axis>> loadCoordinateAxis() {
-    final HashMap<Integer, List<Axis>> axisesByCoordinateSystemId = new HashMap<>();
+  private static void loadSnapshot(final Catalog catalog) {
+    final ByteBuffer buffer;
     try (
-      DataInputStream reader = newDataInputStream("coordinateAxis")) {
-      if (reader != null) {
-        while (true) {
-          final int coordinateSystemId = reader.readInt();
-          final AxisName axisName = readCode(reader, AXIS_NAMES);
-          final String orientation = readStringUtf8ByteCount(reader);
-          final Character abbreviation = (char)reader.readByte();
-          final UnitOfMeasure unitOfMeasure = readCode(reader, UNIT_BY_ID);
-
-          final Axis axis = new Axis(axisName, orientation, abbreviation.toString(), unitOfMeasure);
-          List<Axis> axises = axisesByCoordinateSystemId.get(coordinateSystemId);
-          if (axises == null) {
-            axises = new ArrayList<>();
-            axisesByCoordinateSystemId.put(coordinateSystemId, axises);
-          }
-          axises.add(axis);
-        }
+      InputStream in = CatalogLoadEvent.newInputStream("EPSG", SNAPSHOT_FILE_NAME,
+        EpsgCoordinateSystems.class.getResourceAsStream(RESOURCE_PATH + SNAPSHOT_FILE_NAME))) {
+      if (in == null) {
+        throw new IllegalStateException(SNAPSHOT_FILE_NAME + " resource not found");
+      } else {
+        buffer = ByteBuffer.wrap(in.readAllBytes());
       }
-    } catch (final EOFException e) {
     } catch (final IOException e) {
-      log("coordinateAxis", e);
+      throw new IllegalStateException("Unable to read " + SNAPSHOT_FILE_NAME, e);
     }
-    return axisesByCoordinateSystemId;
-  }
-
-  private static void loadCoordinateAxisNames() {
-    try (
-      DataInputStream reader = newDataInputStream("coordinateAxisName")) {
-      if (reader != null) {
-        while (true) {
-          final int code = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-
-          final AxisName axisName = new AxisName(code, name);
-          AXIS_NAMES.put(code, axisName);
-          AXIS_NAME_BY_NAME.put(name.toLowerCase(), axisName);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordinateAxisName", e);
+    if (buffer.remaining() < 8 || buffer.getInt() != SNAPSHOT_MAGIC
+      || buffer.getInt() != SNAPSHOT_VERSION) {
+      throw new IllegalStateException(SNAPSHOT_FILE_NAME + " is not a supported snapshot version");
     }
-  }
 
-  private static void loadCoordinateReferenceSystem(final HashMap<Integer, List<Axis>> axisMap) {
-    try (
-      DataInputStream reader = newDataInputStream("coordinateReferenceSystem")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-          final Area area = readCode(reader, AREA_BY_ID);
-          final int type = reader.readByte();
-          final EpsgCoordinateSystemType coordinateSystemType = readCode(reader,
-            COORDINATE_SYSTEM_TYPE_BY_ID);
-          final Datum datum = readCode(reader, DATUM_BY_ID);
-          final CoordinateSystem sourceCoordinateSystem = readCode(reader, COORDINATE_SYSTEM_BY_ID);
-
-          final CoordinateOperation operation = readCode(reader, OPERATION_BY_ID);
-
-          final HorizontalCoordinateSystem horizontalCoordinateSystem = (HorizontalCoordinateSystem)readCode(
-            reader, COORDINATE_SYSTEM_BY_ID);
-          final VerticalCoordinateSystem verticalCoordinateSystem = (VerticalCoordinateSystem)readCode(
-            reader, COORDINATE_SYSTEM_BY_ID);
-          final boolean deprecated = readBoolean(reader);
-          final List<Axis> axis;
-          if (coordinateSystemType == null) {
-            axis = null;
-          } else {
-            axis = axisMap.get(coordinateSystemType.getId());
-          }
-          CoordinateSystem coordinateSystem = null;
-          if (type == 0) {
-            // geocentric
-            coordinateSystem = newCoordinateSystemGeocentric(id, name, datum, axis, area,
-              deprecated);
-          } else if (type == 1) {
-            // geographic 3D
-            coordinateSystem = new GeographicCoordinateSystem(id, name, (GeodeticDatum)datum, axis,
-              area, sourceCoordinateSystem, operation, deprecated);
-          } else if (type == 2) {
-            // geographic 2D
-            coordinateSystem = new GeographicCoordinateSystem(id, name, (GeodeticDatum)datum, axis,
-              area, sourceCoordinateSystem, operation, deprecated);
-          } else if (type == 3) {
-            // projected
-            coordinateSystem = newCoordinateSystemProjected(id, name, area, sourceCoordinateSystem,
-              operation, axis, deprecated);
-          } else if (type == 4) {
-            // engineering
-            coordinateSystem = new EngineeringCoordinateSystem(id, name, (EngineeringDatum)datum,
-              axis, area, deprecated);
-          } else if (type == 5) {
-            // vertical
-            coordinateSystem = new VerticalCoordinateSystem(id, name, (VerticalDatum)datum, axis,
-              area, deprecated);
-          } else if (type == 6) {
-            coordinateSystem = new CompoundCoordinateSystem(id, name, horizontalCoordinateSystem,
-              verticalCoordinateSystem, area, deprecated);
-          } else {
-            coordinateSystem = null;
-          }
-
-          addCoordinateSystem(coordinateSystem);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordinateReferenceSystem", e);
+    final UnitOfMeasure[] units = new UnitOfMeasure[buffer.getInt()];
+    for (int i = 0; i < units.length; i++) {
+      units[i] = UNIT_BY_ID.get(buffer.getInt());
     }
-  }
 
-  private static void loadCoordinateSystem() {
-    try (
-      DataInputStream reader = newDataInputStream("coordinateSystem")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          final int type = reader.readByte();
-          final boolean deprecated = readBoolean(reader);
-
-          final EpsgCoordinateSystemType coordinateSystemType = new EpsgCoordinateSystemType(id,
-            type, deprecated);
-          COORDINATE_SYSTEM_TYPE_BY_ID.put(id, coordinateSystemType);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordinateSystem", e);
+    final AxisName[] axisNames = new AxisName[buffer.getInt()];
+    for (int i = 0; i < axisNames.length; i++) {
+      final int code = buffer.getInt();
+      final String name = getString(buffer);
+      final AxisName axisName = new AxisName(code, name);
+      axisNames[i] = axisName;
+      AXIS_NAMES.put(code, axisName);
+      AXIS_NAME_BY_NAME.put(name.toLowerCase(), axisName);
     }
-  }
-
-  private static void loadCoordOperation(
-    final HashMap<Integer, CoordinateOperationMethod> methodById,
-    final HashMap<Integer, Map<ParameterName, ParameterValue>> operationParameters,
-    final HashMap<Integer, List<Byte>> paramReversal) {
-    try (
-      DataInputStream reader = newDataInputStream("coordOperation")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          final CoordinateOperationMethod method = readCode(reader, methodById);
-          final String name = readStringUtf8ByteCount(reader);
-          final byte type = reader.readByte();
-          final int sourceCrsCode = reader.readInt();
-          final int targetCrsCode = reader.readInt();
-          final String transformationVersion = readStringUtf8ByteCount(reader);
-          final int variant = reader.readInt();
-          final Area area = readCode(reader, AREA_BY_ID);
-          final double accuracy = reader.readDouble();
-          final boolean deprecated = readBoolean(reader);
-
-          final Map<ParameterName, ParameterValue> parameters = operationParameters.getOrDefault(id,
-            Collections.emptyMap());
-          final CoordinateOperation coordinateOperation = new CoordinateOperation(id, method, name,
-            type, sourceCrsCode, targetCrsCode, transformationVersion, variant, area, accuracy,
-            parameters, deprecated);
-          OPERATION_BY_ID.put(id, coordinateOperation);
 
+    final int coordinateSystemTypeCount = buffer.getInt();
+    final EpsgCoordinateSystemType[] coordinateSystemTypes = new EpsgCoordinateSystemType[coordinateSystemTypeCount];
+    final List<List<Axis>> axisLists = new ArrayList<>(coordinateSystemTypeCount);
+    for (int i = 0; i < coordinateSystemTypeCount; i++) {
+      final int id = buffer.getInt();
+      final int type = buffer.get();
+      final boolean deprecated = getBoolean(buffer);
+      final int axisCount = buffer.getInt();
+      List<Axis> axises = null;
+      if (axisCount >= 0) {
+        axises = new ArrayList<>(axisCount);
+        for (int j = 0; j < axisCount; j++) {
+          final AxisName axisName = getIndexed("coordinateAxisName", axisNames,
+            buffer.getInt());
+          final String orientation = getString(buffer);
+          final Character abbreviation = (char)buffer.get();
+          final UnitOfMeasure unitOfMeasure = getIndexed("unitOfMeasure", units,
+            buffer.getInt());
+          axises.add(new Axis(axisName, orientation, abbreviation.toString(), unitOfMeasure));
         }
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordOperation", e);
+      final EpsgCoordinateSystemType coordinateSystemType = new EpsgCoordinateSystemType(id, type,
+        deprecated);
+      coordinateSystemTypes[i] = coordinateSystemType;
+      axisLists.add(axises);
+      COORDINATE_SYSTEM_TYPE_BY_ID.put(id, coordinateSystemType);
     }
-  }
 
-  private static HashMap<Integer, CoordinateOperationMethod> loadCoordOperationMethod(
-    final HashMap<Integer, List<ParameterName>> paramOrderByMethodId,
-    final HashMap<Integer, List<Byte>> paramReversalByMethodId) {
-    final HashMap<Integer, CoordinateOperationMethod> methodById = new HashMap<>();
+    final Area[] areas = new Area[buffer.getInt()];
+    for (int i = 0; i < areas.length; i++) {
+      final int code = buffer.getInt();
+      final String name = getString(buffer);
+      final double minX = buffer.getDouble();
+      final double minY = buffer.getDouble();
+      final double maxX = buffer.getDouble();
+      final double maxY = buffer.getDouble();
+      final boolean deprecated = getBoolean(buffer);
+      final Area area = newArea(code, name, minX, minY, maxX, maxY, deprecated);
+      areas[i] = area;
+      AREA_BY_ID.put(code, area);
+    }
 
-    try (
-      DataInputStream reader = newDataInputStream("coordOperationMethod")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-          final boolean reverse = readBoolean(reader);
-          final boolean deprecated = readBoolean(reader);
+    final PrimeMeridian[] primeMeridians = new PrimeMeridian[buffer.getInt()];
+    for (int i = 0; i < primeMeridians.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final AngularUnit unit = (AngularUnit)getIndexed("unitOfMeasure", units, buffer.getInt());
+      final double longitude = buffer.getDouble();
+      final PrimeMeridian primeMeridian = newPrimeMeridian(id, name, unit, longitude);
+      primeMeridians[i] = primeMeridian;
+      PRIME_MERIDIAN_BY_ID.put(id, primeMeridian);
+    }
 
-          final List<ParameterName> parameterNames = paramOrderByMethodId.getOrDefault(id,
-            Collections.emptyList());
-          final List<Byte> parameterReversal = paramReversalByMethodId.getOrDefault(id,
-            Collections.emptyList());
-          final CoordinateOperationMethod method = new CoordinateOperationMethod(id, name, reverse,
-            deprecated, parameterNames, parameterReversal);
-          methodById.put(id, method);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordOperationMethod", e);
+    final Ellipsoid[] ellipsoids = new Ellipsoid[buffer.getInt()];
+    for (int i = 0; i < ellipsoids.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final LinearUnit unit = (LinearUnit)getIndexed("unitOfMeasure", units, buffer.getInt());
+      final double semiMinorAxis = buffer.getDouble();
+      final double semiMajorAxis = buffer.getDouble();
+      final double inverseFlattening = buffer.getDouble();
+      final boolean deprecated = getBoolean(buffer);
+      ellipsoids[i] = newEllipsoid(id, name, unit, semiMinorAxis, semiMajorAxis,
+        inverseFlattening, deprecated);
     }
-    return methodById;
-  }
 
-  private static void loadCoordOperationParam() {
-    try (
-      DataInputStream reader = newDataInputStream("coordOperationParam")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          String name = readStringUtf8ByteCount(reader);
-          if (name != null) {
-            name = name.toLowerCase().replaceAll(" ", "_");
-          }
-          readBoolean(reader);
-          final ParameterName parameterName = ParameterNames.getParameterName(id, name);
-          PARAM_NAME_BY_ID.put(id, parameterName);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordOperationParam", e);
+    final Datum[] datums = new Datum[buffer.getInt()];
+    for (int i = 0; i < datums.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final int datumType = buffer.get();
+      final Ellipsoid ellipsoid = getIndexed("ellipsoid", ellipsoids, buffer.getInt());
+      final PrimeMeridian primeMeridian = getIndexed("primeMeridian", primeMeridians,
+        buffer.getInt());
+      final Area area = getIndexed("area", areas, buffer.getInt());
+      final boolean deprecated = getBoolean(buffer);
+      final Datum datum = newDatum(id, name, datumType, ellipsoid, primeMeridian, area,
+        deprecated);
+      datums[i] = datum;
+      DATUM_BY_ID.put(id, datum);
     }
-  }
 
-  private static void loadCoordOperationParamUsage(
-    final HashMap<Integer, List<ParameterName>> paramOrderByMethodId,
-    final HashMap<Integer, List<Byte>> paramReversal) {
-    try (
-      DataInputStream reader = newDataInputStream("coordOperationParamUsage")) {
-      if (reader != null) {
-        while (true) {
-          final int methodId = reader.readInt();
-          final ParameterName parameterName = readCode(reader, PARAM_NAME_BY_ID);
-          @SuppressWarnings("unused")
-          final int sortOrder = reader.readInt();
-          final byte signReversal = reader.readByte();
-          List<ParameterName> names = paramOrderByMethodId.get(methodId);
-          if (names == null) {
-            names = new ArrayList<>();
-            paramOrderByMethodId.put(methodId, names);
-          }
-          names.add(parameterName);
+    final ParameterName[] parameterNames = new ParameterName[buffer.getInt()];
+    for (int i = 0; i < parameterNames.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final ParameterName parameterName = ParameterNames.getParameterName(id, name);
+      parameterNames[i] = parameterName;
+      PARAM_NAME_BY_ID.put(id, parameterName);
+    }
 
-          List<Byte> reversals = paramReversal.get(methodId);
-          if (reversals == null) {
-            reversals = new ArrayList<>();
-            paramReversal.put(methodId, reversals);
-          }
-          reversals.add(signReversal);
-        }
+    final CoordinateOperationMethod[] methods = new CoordinateOperationMethod[buffer.getInt()];
+    for (int i = 0; i < methods.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final boolean reverse = getBoolean(buffer);
+      final boolean deprecated = getBoolean(buffer);
+      final int parameterCount = buffer.getInt();
+      final List<ParameterName> methodParameterNames = new ArrayList<>(parameterCount);
+      final byte[] parameterReversal = new byte[parameterCount];
+      for (int j = 0; j < parameterCount; j++) {
+        methodParameterNames
+          .add(getIndexed("coordOperationParam", parameterNames, buffer.getInt()));
+        parameterReversal[j] = buffer.get();
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordOperationParamUsage", e);
+      methods[i] = new CoordinateOperationMethod(id, name, reverse, deprecated,
+        methodParameterNames, parameterReversal);
     }
-  }
 
-  private static void loadCoordOperationParamValue(
-    final HashMap<Integer, CoordinateOperationMethod> methodById,
-    final HashMap<Integer, Map<ParameterName, ParameterValue>> operationParameters,
-    final HashMap<Integer, List<Byte>> paramReversal) {
-    try (
-      DataInputStream reader = newDataInputStream("coordOperationParamValue")) {
-      if (reader != null) {
-        while (true) {
-          final int operationId = reader.readInt();
-          final CoordinateOperationMethod method = readCode(reader, methodById);
-          final ParameterName parameterName = readCode(reader, PARAM_NAME_BY_ID);
-          final double value = reader.readDouble();
-          final String fileRef = readStringUtf8ByteCount(reader);
-          final UnitOfMeasure unit = readCode(reader, UNIT_BY_ID);
+    final CoordinateOperation[] operations = new CoordinateOperation[buffer.getInt()];
+    for (int i = 0; i < operations.length; i++) {
+      final int id = buffer.getInt();
+      final CoordinateOperationMethod method = getIndexed("coordOperationMethod", methods,
+        buffer.getInt());
+      final String name = getString(buffer);
+      final byte type = buffer.get();
+      final int sourceCrsCode = buffer.getInt();
+      final int targetCrsCode = buffer.getInt();
+      final String transformationVersion = getString(buffer);
+      final int variant = buffer.getInt();
+      final Area area = getIndexed("area", areas, buffer.getInt());
+      final double accuracy = buffer.getDouble();
+      final boolean deprecated = getBoolean(buffer);
+      final int parameterCount = buffer.getInt();
+      final Map<ParameterName, ParameterValue> parameters;
+      if (parameterCount < 0) {
+        parameters = Collections.emptyMap();
+      } else {
+        parameters = new LinkedHashMap<>();
+        for (int j = 0; j < parameterCount; j++) {
+          final ParameterName parameterName = getIndexed("coordOperationParam", parameterNames,
+            buffer.getInt());
+          final byte valueType = buffer.get();
           final ParameterValue parameterValue;
-          if (Double.isFinite(value)) {
-            if (fileRef != null) {
-              throw new IllegalArgumentException(
-                "Cannot have a value and fileRef for coordOperationParamValue=" + operationId + " "
-                  + parameterName);
-            } else {
-              parameterValue = new ParameterValueNumber(unit, value);
-            }
+          if (valueType == 1) {
+            final double value = buffer.getDouble();
+            final UnitOfMeasure unit = getIndexed("unitOfMeasure", units, buffer.getInt());
+            parameterValue = new ParameterValueNumber(unit, value);
+          } else if (valueType == 2) {
+            parameterValue = new ParameterValueString(getString(buffer));
           } else {
-            if (fileRef != null) {
-              parameterValue = new ParameterValueString(fileRef);
-            } else {
-              parameterValue = null;
-            }
-          }
-          Map<ParameterName, ParameterValue> parameterValues = operationParameters.get(operationId);
-          if (parameterValues == null) {
-            parameterValues = new LinkedHashMap<>();
-            final List<ParameterName> parameterOrder = method.getParameterNames();
-            for (final ParameterName orderParameterName : parameterOrder) {
-              parameterValues.put(orderParameterName, null);
-            }
-            operationParameters.put(operationId, parameterValues);
+            parameterValue = null;
           }
-          method.setParameter(parameterValues, parameterName, parameterValue);
+          parameters.put(parameterName, parameterValue);
         }
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("coordOperationParamValue", e);
+      final CoordinateOperation coordinateOperation = new CoordinateOperation(id, method, name,
+        type, sourceCrsCode, targetCrsCode, transformationVersion, variant, area, accuracy,
+        parameters, deprecated);
+      operations[i] = coordinateOperation;
+      OPERATION_BY_ID.put(id, coordinateOperation);
     }
-  }
-
-  private static void loadDatum() {
-    final HashMap<Integer, Ellipsoid> ellipsoids = loadEllipsoid();
-
-    try (
-      DataInputStream reader = newDataInputStream("datum")) {
-      if (reader != null) {
-        while (true) {
-
-          final int id = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-          final int datumType = reader.readByte();
-          final Ellipsoid ellipsoid = readCode(reader, ellipsoids);
-          final PrimeMeridian primeMeridian = readCode(reader, PRIME_MERIDIAN_BY_ID);
-          final Area area = readCode(reader, AREA_BY_ID);
-
-          final boolean deprecated = readBoolean(reader);
-          final EpsgAuthority authority = new EpsgAuthority(id);
 
-          Datum datum;
-          if (datumType == 0) {
-            datum = new GeodeticDatum(authority, name, area, deprecated, ellipsoid, primeMeridian);
-          } else if (datumType == 1) {
-            datum = new VerticalDatum(authority, name, area, deprecated);
-          } else if (datumType == 2) {
-            datum = new EngineeringDatum(authority, name, area, deprecated);
-          } else {
-            throw new IllegalArgumentException("Unknown datumType=" + datumType);
-          }
-          DATUM_BY_ID.put(id, datum);
-
-        }
+    final CoordinateSystem[] coordinateSystems = new CoordinateSystem[buffer.getInt()];
+    for (int i = 0; i < coordinateSystems.length; i++) {
+      final int id = buffer.getInt();
+      final String name = getString(buffer);
+      final Area area = getIndexed("area", areas, buffer.getInt());
+      final int type = buffer.get();
+      final int coordinateSystemTypeIndex = buffer.getInt();
+      final Datum datum = getIndexed("datum", datums, buffer.getInt());
+      final CoordinateSystem sourceCoordinateSystem = getIndexed("coordinateReferenceSystem",
+        coordinateSystems, buffer.getInt());
+      final CoordinateOperation operation = getIndexed("coordOperation", operations,
+        buffer.getInt());
+      final HorizontalCoordinateSystem horizontalCoordinateSystem = (HorizontalCoordinateSystem)getIndexed(
+        "coordinateReferenceSystem", coordinateSystems, buffer.getInt());
+      final VerticalCoordinateSystem verticalCoordinateSystem = (VerticalCoordinateSystem)getIndexed(
+        "coordinateReferenceSystem", coordinateSystems, buffer.getInt());
+      final boolean deprecated = getBoolean(buffer);
+      final List<Axis> axis;
+      if (coordinateSystemTypeIndex < 0) {
+        axis = null;
+      } else {
+        axis = axisLists.get(coordinateSystemTypeIndex);
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("datum", e);
+      final CoordinateSystem coordinateSystem = newCoordinateSystem(id, name, area, type, axis,
+        datum, sourceCoordinateSystem, operation, horizontalCoordinateSystem,
+        verticalCoordinateSystem, deprecated);
+      coordinateSystems[i] = coordinateSystem;
+      catalog.addCoordinateSystem(coordinateSystem);
     }
   }
 
-  private static HashMap<Integer, Ellipsoid> loadEllipsoid() {
-    final HashMap<Integer, Ellipsoid> ellipsoids = new HashMap<>();
-    try (
-      DataInputStream reader = newDataInputStream("ellipsoid")) {
-      if (reader != null) {
-        while (true) {
-          final int id = reader.readInt();
-          final String name = readStringUtf8ByteCount(reader);
-          final int unitId = reader.readInt();
-          final LinearUnit unit = (LinearUnit)UNIT_BY_ID.get(unitId);
-          final double semiMinorAxis = unit.toBase(reader.readDouble());
-          final double semiMajorAxis = unit.toBase(reader.readDouble());
-          final double inverseFlattening = unit.toBase(reader.readDouble());
-          @SuppressWarnings("unused")
-          final int ellipsoidShape = reader.readByte();
-          final boolean deprecated = readBoolean(reader);
-          final EpsgAuthority authority = new EpsgAuthority(id);
-          final Ellipsoid ellipsoid = new Ellipsoid(name, semiMajorAxis, semiMinorAxis,
-            inverseFlattening, authority, deprecated);
-          ellipsoids.put(id, ellipsoid);
+  private static void loadUnitOfMeasure() {
+    if (!unitsLoaded) {
+      synchronized (UNIT_BY_ID) {
+        if (!unitsLoaded) {
+          readUnitOfMeasure();
+          unitsLoaded = true;
         }
       }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("ellipsoid", e);
     }
-    return ellipsoids;
   }
 
-  private static void loadPrimeMeridians() {
+  private static void readUnitOfMeasure() {
     try (
-      DataInputStream reader = newDataInputStream("primeMeridian")) {
+      DataInputStream reader = newDataInputStream("unitOfMeasure")) {
       if (reader != null) {
         while (true) {
           final int id = reader.readInt();
+          final byte type = reader.readByte();
+          final int baseId = reader.readInt();
+          final boolean deprecated = readBoolean(reader);
+          final double conversionFactorB = reader.readDouble();
+          final double conversionFactorC = reader.readDouble();
+          double conversionFactor;
+          if (Double.isFinite(conversionFactorB)) {
+            if (Double.isFinite(conversionFactorC)) {
+              conversionFactor = conversionFactorB / conversionFactorC;
+            } else {
+              conversionFactor = conversionFactorB;
+            }
+          } else {
+            conversionFactor = conversionFactorC;
+          }
+
           final String name = readStringUtf8ByteCount(reader);
-          final AngularUnit unit = (AngularUnit)readCode(reader, UNIT_BY_ID);
-          final double longitude = reader.readDouble();
-          final double longitudeDegrees = unit.toDegrees(longitude);
           final EpsgAuthority authority = new EpsgAuthority(id);
-          final PrimeMeridian primeMeridian = new PrimeMeridian(name, longitudeDegrees, authority,
-            false);
-          PRIME_MERIDIAN_BY_ID.put(id, primeMeridian);
-        }
-      }
-    } catch (final EOFException e) {
-    } catch (final IOException e) {
-      log("primeMeridian", e);
-    }
-  }
 
-  private static void loadUnitOfMeasure() {
-    if (UNIT_BY_ID.isEmpty()) {
-      try (
-        DataInputStream reader = newDataInputStream("unitOfMeasure")) {
-        if (reader != null) {
-          while (true) {
-            final int id = reader.readInt();
-            final byte type = reader.readByte();
-            final int baseId = reader.readInt();
-            final boolean deprecated = readBoolean(reader);
-            final double conversionFactorB = reader.readDouble();
-            final double conversionFactorC = reader.readDouble();
-            double conversionFactor;
-            if (Double.isFinite(conversionFactorB)) {
-              if (Double.isFinite(conversionFactorC)) {
-                conversionFactor = conversionFactorB / conversionFactorC;
+          UnitOfMeasure unit;
+          switch (type) {
+            case 0:
+              final ScaleUnit baseScaleUnit = (ScaleUnit)UNIT_BY_ID.get(baseId);
+              unit = new ScaleUnit(name, baseScaleUnit, conversionFactor, authority, deprecated);
+            break;
+            case 1:
+              final LinearUnit baseLinearUnit = (LinearUnit)UNIT_BY_ID.get(baseId);
+              if (id == 9001) {
+                unit = new Metre(name, baseLinearUnit, conversionFactor, authority, deprecated);
               } else {
-                conversionFactor = conversionFactorB;
+                unit = new LinearUnit(name, baseLinearUnit, conversionFactor, authority,
+                  deprecated);
               }
-            } else {
-              conversionFactor = conversionFactorC;
-            }
+            break;
+            case 2:
+              final AngularUnit baseAngularUnit = (AngularUnit)UNIT_BY_ID.get(baseId);
+              if (id == 9101) {
+                unit = new Radian(name, baseAngularUnit, conversionFactor, authority, deprecated);
+              } else if (id == 9102) {
+                unit = new Degree(name, baseAngularUnit, conversionFactor, authority, deprecated);
+                SYSTEM_OF_UNITS.addUnit(unit, "Degree", "deg");
+              } else if (id == 9105) {
+                unit = new Grad(name, baseAngularUnit, conversionFactor, authority, deprecated);
+              } else if (id == 9110) {
+                unit = new DegreeSexagesimalDMS(name, baseAngularUnit, conversionFactor,
+                  authority, deprecated);
+              } else if (id == 9122) {
+                unit = new Degree(name, baseAngularUnit, conversionFactor, authority, deprecated);
+              } else {
+                unit = new AngularUnit(name, baseAngularUnit, conversionFactor, authority,
+                  deprecated);
+              }
+            break;
+            case 3:
+              final TimeUnit baseTimeUnit = (TimeUnit)UNIT_BY_ID.get(baseId);
+              unit = new TimeUnit(name, baseTimeUnit, conversionFactor, authority, deprecated);
 
-            final String name = readStringUtf8ByteCount(reader);
-            final EpsgAuthority authority = new EpsgAuthority(id);
-
-            UnitOfMeasure unit;
-            switch (type) {
-              case 0:
-                final ScaleUnit baseScaleUnit = (ScaleUnit)UNIT_BY_ID.get(baseId);
-                unit = new ScaleUnit(name, baseScaleUnit, conversionFactor, authority, deprecated);
-              break;
-              case 1:
-                final LinearUnit baseLinearUnit = (LinearUnit)UNIT_BY_ID.get(baseId);
-                if (id == 9001) {
-                  unit = new Metre(name, baseLinearUnit, conversionFactor, authority, deprecated);
-                } else {
-                  unit = new LinearUnit(name, baseLinearUnit, conversionFactor, authority,
-                    deprecated);
-                }
-              break;
-              case 2:
-                final AngularUnit baseAngularUnit = (AngularUnit)UNIT_BY_ID.get(baseId);
-                if (id == 9101) {
-                  unit = new Radian(name, baseAngularUnit, conversionFactor, authority, deprecated);
-                } else if (id == 9102) {
-                  unit = new Degree(name, baseAngularUnit, conversionFactor, authority, deprecated);
-                  SYSTEM_OF_UNITS.addUnit(unit, "Degree", "deg");
-                } else if (id == 9105) {
-                  unit = new Grad(name, baseAngularUnit, conversionFactor, authority, deprecated);
-                } else if (id == 9110) {
-                  unit = new DegreeSexagesimalDMS(name, baseAngularUnit, conversionFactor,
-                    authority, deprecated);
-                } else if (id == 9122) {
-                  unit = new Degree(name, baseAngularUnit, conversionFactor, authority, deprecated);
-                } else {
-                  unit = new AngularUnit(name, baseAngularUnit, conversionFactor, authority,
-                    deprecated);
-                }
-              break;
-              case 3:
-                final TimeUnit baseTimeUnit = (TimeUnit)UNIT_BY_ID.get(baseId);
-                unit = new TimeUnit(name, baseTimeUnit, conversionFactor, authority, deprecated);
-
-              break;
-
-              default:
-                throw new IllegalArgumentException("Invalid unitId=" + id);
-            }
-            UNIT_BY_NAME.put(name, unit);
-            UNIT_BY_ID.put(id, unit);
+            break;
 
+            default:
+              throw new IllegalArgumentException("Invalid unitId=" + id);
           }
+          UNIT_BY_NAME.put(name, unit);
+          UNIT_BY_ID.put(id, unit);
+
         }
-      } catch (final EOFException e) {
-      } catch (final IOException e) {
-        log("unitOfMeasure", e);
       }
+    } catch (final EOFException e) {
+    } catch (final IOException e) {
+      log("unitOfMeasure", e);
     }
   }
 
@@ -981,6 +947,52 @@ public final class EpsgCoordinateSystems {
     LoggerFactory.getLogger(EpsgCoordinateSystems.class).error(message, e);
   }
 
+  private static Area newArea(final int id, final String name, double minX, final double minY,
+    final double maxX, final double maxY, final boolean deprecated) {
+    final Authority authority = new EpsgAuthority(id);
+    if (minX > maxX) {
+      if (minX > 0) {
+        minX -= 360;
+      }
+    }
+    return new Area(name, minX, minY, maxX, maxY, authority, deprecated);
+  }
+
+  private static CoordinateSystem newCoordinateSystem(final int id, final String name,
+    final Area area, final int type, final List<Axis> axis, final Datum datum,
+    final CoordinateSystem sourceCoordinateSystem, final CoordinateOperation operation,
+    final HorizontalCoordinateSystem horizontalCoordinateSystem,
+    final VerticalCoordinateSystem verticalCoordinateSystem, final boolean deprecated) {
+    if (type == 0) {
+      // geocentric
+      return newCoordinateSystemGeocentric(id, name, datum, axis, area, deprecated);
+    } else if (type == 1) {
+      // geographic 3D
+      return new GeographicCoordinateSystem(id, name, (GeodeticDatum)datum, axis, area,
+        sourceCoordinateSystem, operation, deprecated);
+    } else if (type == 2) {
+      // geographic 2D
+      return new GeographicCoordinateSystem(id, name, (GeodeticDatum)datum, axis, area,
+        sourceCoordinateSystem, operation, deprecated);
+    } else if (type == 3) {
+      // projected
+      return newCoordinateSystemProjected(id, name, area, sourceCoordinateSystem, operation, axis,
+        deprecated);
+    } else if (type == 4) {
+      // engineering
+      return new EngineeringCoordinateSystem(id, name, (EngineeringDatum)datum, axis, area,
+        deprecated);
+    } else if (type == 5) {
+      // vertical
+      return new VerticalCoordinateSystem(id, name, (VerticalDatum)datum, axis, area, deprecated);
+    } else if (type == 6) {
+      return new CompoundCoordinateSystem(id, name, horizontalCoordinateSystem,
+        verticalCoordinateSystem, area, deprecated);
+    } else {
+      return null;
+    }
+  }
+
   private static GeocentricCoordinateSystem newCoordinateSystemGeocentric(final int id,
     final String name, final Datum datum, final List<Axis> axis, final Area area,
     final boolean deprecated) {
@@ -1010,24 +1022,49 @@ public final class EpsgCoordinateSystems {
     }
   }
 
+  private static Datum newDatum(final int id, final String name, final int datumType,
+    final Ellipsoid ellipsoid, final PrimeMeridian primeMeridian, final Area area,
+    final boolean deprecated) {
+    final EpsgAuthority authority = new EpsgAuthority(id);
+    if (datumType == 0) {
+      return new GeodeticDatum(authority, name, area, deprecated, ellipsoid, primeMeridian);
+    } else if (datumType == 1) {
+      return new VerticalDatum(authority, name, area, deprecated);
+    } else if (datumType == 2) {
+      return new EngineeringDatum(authority, name, area, deprecated);
+    } else {
+      throw new IllegalArgumentException("Unknown datumType=" + datumType);
+    }
+  }
+
   private static DataInputStream newDataInputStream(final String fileName) {
     final InputStream in = EpsgCoordinateSystems.class
-      .getResourceAsStream("/org/jeometry/coordinatesystem/epsg/" + fileName + ".bin");
-    final BufferedInputStream bufferedIn = new BufferedInputStream(in);
+      .getResourceAsStream(RESOURCE_PATH + fileName + ".bin");
+    final BufferedInputStream bufferedIn = new BufferedInputStream(
+      CatalogLoadEvent.newInputStream("EPSG", fileName + ".bin", in));
     return new DataInputStream(bufferedIn);
   }
 
-  private static boolean readBoolean(final DataInputStream reader) throws IOException {
-    return reader.readByte() == (byte)1;
+  private static Ellipsoid newEllipsoid(final int id, final String name, final LinearUnit unit,
+    final double semiMinorAxis, final double semiMajorAxis, final double inverseFlattening,
+    final boolean deprecated) {
+    final EpsgAuthority authority = new EpsgAuthority(id);
+    return new Ellipsoid(name, unit.toBase(semiMajorAxis), unit.toBase(semiMinorAxis),
+      unit.toBase(inverseFlattening), authority, deprecated);
   }
 
-  private static <V> V readCode(final DataInputStream reader, final HashMap<Integer, V> valueById)
-    throws IOException {
-    final int id = reader.readInt();
-    return getCode(valueById, id);
+  private static PrimeMeridian newPrimeMeridian(final int id, final String name,
+    final AngularUnit unit, final double longitude) {
+    final double longitudeDegrees = unit.toDegrees(longitude);
+    final EpsgAuthority authority = new EpsgAuthority(id);
+    return new PrimeMeridian(name, longitudeDegrees, authority, false);
+  }
+
+  static boolean readBoolean(final DataInputStream reader) throws IOException {
+    return reader.readByte() == (byte)1;
   }
 
-  private static String readStringUtf8ByteCount(final DataInputStream reader) throws IOException {
+  static String readStringUtf8ByteCount(final DataInputStream reader) throws IOException {
     final int byteCount = reader.readInt();
     if (byteCount < 0) {
       return null;
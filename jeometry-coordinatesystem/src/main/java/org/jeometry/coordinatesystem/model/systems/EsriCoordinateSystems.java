@@ -15,6 +15,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 
+import org.jeometry.common.metrics.Counter;
+import org.jeometry.common.metrics.LatencyHistogram;
+import org.jeometry.common.metrics.MetricRegistry;
+import org.jeometry.coordinatesystem.event.CatalogLoadEvent;
+import org.jeometry.coordinatesystem.event.DigestLookupEvent;
 import org.jeometry.coordinatesystem.io.WktCsParser;
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.model.BaseAuthority;
@@ -45,6 +50,12 @@ public class EsriCoordinateSystems {
 
   private static final Map<String, LinearUnit> LINEAR_UNITS_BY_NAME = new TreeMap<>();
 
+  private static final LatencyHistogram DIGEST_LOOKUP_TIME = MetricRegistry.getDefault()
+    .histogram("esri.digestLookup");
+
+  private static final Counter DIGEST_FILE_READ_COUNT = MetricRegistry.getDefault()
+    .counter("esri.digestFileRead");
+
   private static Map<ParameterName, ParameterValue> convertParameters(
     final Map<String, String> parameters) {
     final Map<ParameterName, ParameterValue> parameterValues = new LinkedHashMap<>();
@@ -80,20 +91,25 @@ public class EsriCoordinateSystems {
 
   private static List<Integer> getCoordinateSystemIdsByDigest(
     final CoordinateSystem coordinateSystem, final ByteArray digest) {
+    final DigestLookupEvent event = new DigestLookupEvent();
+    event.begin();
+    final CoordinateSystemType type = coordinateSystem.getCoordinateSystemType();
     List<Integer> ids = COORDINATE_SYSTEM_IDS_BY_DIGEST.get(digest);
     if (ids == null) {
+      DIGEST_FILE_READ_COUNT.increment();
       final byte[] bytes = new byte[16];
       final ByteArray newDigest = new ByteArray(bytes);
-      final CoordinateSystemType type = coordinateSystem.getCoordinateSystemType();
+      int scanCount = 0;
       if (type.isCompound()) {
-        return Collections.emptyList();
+        ids = Collections.emptyList();
       } else {
         try (
           DataInputStream reader = newDataInputStream(type + ".digest")) {
           if (reader != null) {
-            while (true) {
+            while (ids == null) {
               reader.read(bytes);
               final short count = reader.readShort();
+              scanCount++;
               if (digest.equals(newDigest)) {
                 ids = new ArrayList<>();
                 for (int i = 0; i < count; i++) {
@@ -101,7 +117,6 @@ public class EsriCoordinateSystems {
                   ids.add(csId);
                 }
                 COORDINATE_SYSTEM_IDS_BY_DIGEST.put(digest, ids);
-                return ids;
               } else {
                 for (int i = 0; i < count; i++) {
                   reader.readInt();
@@ -113,11 +128,15 @@ public class EsriCoordinateSystems {
         } catch (final IOException e) {
           log("ellipsoid", e);
         }
+        if (ids == null) {
+          ids = Collections.emptyList();
+        }
       }
+      event.commit("ESRI", type, false, scanCount, ids.size());
     } else {
-      return ids;
+      event.commit("ESRI", type, true, 0, ids.size());
     }
-    return Collections.emptyList();
+    return ids;
   }
 
   public static GeographicCoordinateSystem getGeographicCoordinateSystem(final int id) {
@@ -174,33 +193,42 @@ public class EsriCoordinateSystems {
     if (coordinateSystem == null) {
       return 0;
     } else {
-      final ByteArray digest = new ByteArray(coordinateSystem.md5Digest());
-      final List<Integer> ids = getCoordinateSystemIdsByDigest(coordinateSystem, digest);
-      if (ids.isEmpty()) {
-        return 0;
-      } else if (ids.size() == 1) {
-        return ids.get(0);
-      } else {
-        final List<CoordinateSystem> coordinateSystems = new ArrayList<>();
-        for (final int coordinateSystemId : ids) {
-          final CoordinateSystem coordinateSystem2 = getCoordinateSystem(coordinateSystemId);
-          if (coordinateSystem2 != null) {
-            if (coordinateSystem.getCoordinateSystemName()
-              .equalsIgnoreCase(coordinateSystem2.getCoordinateSystemName())) {
-              return coordinateSystemId;
-            } else {
-              coordinateSystems.add(coordinateSystem2);
-            }
+      final long startTime = System.nanoTime();
+      try {
+        return findIdUsingDigest(coordinateSystem);
+      } finally {
+        DIGEST_LOOKUP_TIME.recordSince(startTime);
+      }
+    }
+  }
+
+  private static int findIdUsingDigest(final CoordinateSystem coordinateSystem) {
+    final ByteArray digest = new ByteArray(coordinateSystem.md5Digest());
+    final List<Integer> ids = getCoordinateSystemIdsByDigest(coordinateSystem, digest);
+    if (ids.isEmpty()) {
+      return 0;
+    } else if (ids.size() == 1) {
+      return ids.get(0);
+    } else {
+      final List<CoordinateSystem> coordinateSystems = new ArrayList<>();
+      for (final int coordinateSystemId : ids) {
+        final CoordinateSystem coordinateSystem2 = getCoordinateSystem(coordinateSystemId);
+        if (coordinateSystem2 != null) {
+          if (coordinateSystem.getCoordinateSystemName()
+            .equalsIgnoreCase(coordinateSystem2.getCoordinateSystemName())) {
+            return coordinateSystemId;
+          } else {
+            coordinateSystems.add(coordinateSystem2);
           }
         }
-        for (final CoordinateSystem coordinateSystem2 : coordinateSystems) {
-          if (coordinateSystem.isSame(coordinateSystem2)) {
-            return coordinateSystem2.getCoordinateSystemId();
-          }
+      }
+      for (final CoordinateSystem coordinateSystem2 : coordinateSystems) {
+        if (coordinateSystem.isSame(coordinateSystem2)) {
+          return coordinateSystem2.getCoordinateSystemId();
         }
-        // Match base on names etc
-        return ids.get(0);
       }
+      // Match base on names etc
+      return ids.get(0);
     }
   }
 
@@ -301,7 +329,8 @@ public class EsriCoordinateSystems {
   private static DataInputStream newDataInputStream(final String fileName) {
     final InputStream in = EpsgCoordinateSystems.class
       .getResourceAsStream("/org/jeometry/coordinatesystem/esri/" + fileName);
-    final BufferedInputStream bufferedIn = new BufferedInputStream(in);
+    final BufferedInputStream bufferedIn = new BufferedInputStream(
+      CatalogLoadEvent.newInputStream("ESRI", fileName, in));
     return new DataInputStream(bufferedIn);
   }
 
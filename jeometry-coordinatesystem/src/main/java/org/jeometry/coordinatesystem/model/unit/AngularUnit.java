@@ -10,7 +10,7 @@ import javax.measure.quantity.Angle;
 
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
-import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+import org.jeometry.coordinatesystem.operation.OrdinateOperation;
 import org.jeometry.coordinatesystem.util.Md5;
 
 import tech.units.indriya.AbstractUnit;
@@ -52,7 +52,7 @@ public class AngularUnit implements UnitOfMeasure {
 
   private final boolean deprecated;
 
-  public CoordinatesOperation fromRadiansOperation = this::fromRadians;
+  public CoordinatesOperation fromRadiansOperation = new OrdinateOperation(this::fromRadians);
 
   private String name;
 
@@ -96,30 +96,28 @@ public class AngularUnit implements UnitOfMeasure {
       } else if (targetAngularUnit instanceof Degree) {
         addToDegreesOperation(operations);
       } else {
-        operations.add(point -> {
-          final double x = toRadians(point.x);
-          point.x = targetAngularUnit.fromRadians(x);
-          final double y = toRadians(point.y);
-          point.y = targetAngularUnit.fromRadians(y);
-        });
+        operations.add(new OrdinateOperation(value -> {
+          final double radians = toRadians(value);
+          return targetAngularUnit.fromRadians(radians);
+        }));
       }
     }
   }
 
   public void addFromDegreesOperation(final List<CoordinatesOperation> operations) {
-    operations.add(this::fromDegrees);
+    operations.add(new OrdinateOperation(this::fromDegrees));
   }
 
   public void addFromRadiansOperation(final List<CoordinatesOperation> operations) {
-    operations.add(this::fromRadians);
+    operations.add(new OrdinateOperation(this::fromRadians));
   }
 
   public void addToDegreesOperation(final List<CoordinatesOperation> operations) {
-    operations.add(this::toDegrees);
+    operations.add(new OrdinateOperation(this::toDegrees));
   }
 
   public void addToRadiansOperation(final List<CoordinatesOperation> operations) {
-    operations.add(this::toRadians);
+    operations.add(new OrdinateOperation(this::toRadians));
   }
 
   @Override
@@ -142,21 +140,11 @@ public class AngularUnit implements UnitOfMeasure {
     }
   }
 
-  protected void fromDegrees(final CoordinatesOperationPoint point) {
-    point.x = fromDegrees(point.x);
-    point.y = fromDegrees(point.y);
-  }
-
   public double fromDegrees(final double value) {
     final double radians = toRadians(value);
     return Math.toDegrees(radians);
   }
 
-  protected void fromRadians(final CoordinatesOperationPoint point) {
-    point.x = fromRadians(point.x);
-    point.y = fromRadians(point.y);
-  }
-
   public double fromRadians(final double value) {
     final double baseValue;
     if (Double.isFinite(this.conversionFactor)) {
@@ -234,11 +222,6 @@ public class AngularUnit implements UnitOfMeasure {
     }
   }
 
-  protected void toDegrees(final CoordinatesOperationPoint point) {
-    point.x = toDegrees(point.x);
-    point.y = toDegrees(point.y);
-  }
-
   public double toDegrees(final double value) {
     final double baseValue;
     if (Double.isFinite(this.conversionFactor)) {
@@ -271,11 +254,6 @@ public class AngularUnit implements UnitOfMeasure {
     }
   }
 
-  protected void toRadians(final CoordinatesOperationPoint point) {
-    point.x = toRadians(point.x);
-    point.y = toRadians(point.y);
-  }
-
   public double toRadians(final double value) {
     final double baseValue;
     if (Double.isFinite(this.conversionFactor)) {
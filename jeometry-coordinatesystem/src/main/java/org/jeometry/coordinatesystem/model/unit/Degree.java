@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
-import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
 
 public class Degree extends AngularUnit {
   private static Degree instance;
@@ -32,12 +31,6 @@ public class Degree extends AngularUnit {
     return value;
   }
 
-  @Override
-  protected void fromRadians(final CoordinatesOperationPoint point) {
-    point.x = Math.toDegrees(point.x);
-    point.y = Math.toDegrees(point.y);
-  }
-
   @Override
   public double fromRadians(final double value) {
     return Math.toDegrees(value);
@@ -58,12 +51,6 @@ public class Degree extends AngularUnit {
     return value;
   }
 
-  @Override
-  protected void toRadians(final CoordinatesOperationPoint point) {
-    point.x = Math.toRadians(point.x);
-    point.y = Math.toRadians(point.y);
-  }
-
   @Override
   public double toRadians(final double value) {
     return Math.toRadians(value);
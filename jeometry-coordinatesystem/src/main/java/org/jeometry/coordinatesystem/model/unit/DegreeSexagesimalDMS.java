@@ -1,14 +1,98 @@
 package org.jeometry.coordinatesystem.model.unit;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-
 import org.jeometry.coordinatesystem.model.Authority;
 
+/**
+ * Sexagesimal DMS (EPSG 9110) values encoded as DDD.MMSSsss.
+ */
 public class DegreeSexagesimalDMS extends AngularUnit {
 
-  private static NumberFormat getFormat() {
-    return new DecimalFormat("#0.00000##########################");
+  /**
+   * Encode each of the decimal degree values in the array as DDD.MMSSsss.
+   *
+   * @param values The values to convert in place.
+   * @param offset The index of the first value.
+   * @param count The number of values.
+   */
+  public static void fromDecimalDegrees(final double[] values, final int offset,
+    final int count) {
+    for (int i = offset; i < offset + count; i++) {
+      values[i] = fromDecimalDegrees(values[i]);
+    }
+  }
+
+  /**
+   * Encode the decimal degrees as DDD.MMSSsss.
+   *
+   * @param degrees The decimal degrees.
+   * @return The encoded value.
+   */
+  public static double fromDecimalDegrees(final double degrees) {
+    if (Double.isFinite(degrees)) {
+      final double abs = Math.abs(degrees);
+      long totalSeconds = (long)(abs * 3600);
+      double secondsFraction = abs * 3600 - totalSeconds;
+      if (1 - secondsFraction <= Math.ulp(abs * 3600) * 4) {
+        totalSeconds++;
+        secondsFraction = 0;
+      }
+      final long wholeDegrees = totalSeconds / 3600;
+      final long minutes = totalSeconds / 60 % 60;
+      final double seconds = totalSeconds % 60 + secondsFraction;
+      final double dms = wholeDegrees + minutes / 100.0 + seconds / 10000.0;
+      if (degrees < 0) {
+        return -dms;
+      } else {
+        return dms;
+      }
+    } else {
+      return degrees;
+    }
+  }
+
+  /**
+   * Decode each of the DDD.MMSSsss values in the array to decimal degrees.
+   *
+   * @param values The values to convert in place.
+   * @param offset The index of the first value.
+   * @param count The number of values.
+   */
+  public static void toDecimalDegrees(final double[] values, final int offset, final int count) {
+    for (int i = offset; i < offset + count; i++) {
+      values[i] = toDecimalDegrees(values[i]);
+    }
+  }
+
+  /**
+   * Decode the DDD.MMSSsss value to decimal degrees. The whole DDDMMSS digits
+   * are taken as a scaled long. Values within a few ulps below a whole second
+   * are rounded up so that the digits are the same as the shortest decimal
+   * representation of the value (e.g. 45.3015 is 45°30'15").
+   *
+   * @param dms The encoded value.
+   * @return The decimal degrees.
+   */
+  public static double toDecimalDegrees(final double dms) {
+    if (Double.isFinite(dms)) {
+      final double scaled = Math.abs(dms) * 10000;
+      long digits = (long)scaled;
+      double secondsFraction = scaled - digits;
+      if (1 - secondsFraction <= Math.ulp(scaled) * 4) {
+        digits++;
+        secondsFraction = 0;
+      }
+      final long wholeDegrees = digits / 10000;
+      final long minutes = digits / 100 % 100;
+      final double seconds = digits % 100 + secondsFraction;
+      final double degrees = wholeDegrees + minutes / 60.0 + seconds / 3600.0;
+      if (dms < 0) {
+        return -degrees;
+      } else {
+        return degrees;
+      }
+    } else {
+      return dms;
+    }
   }
 
   public DegreeSexagesimalDMS(final String name, final AngularUnit baseUnit,
@@ -16,40 +100,28 @@ public class DegreeSexagesimalDMS extends AngularUnit {
     super(name, baseUnit, conversionFactor, authority, deprecated);
   }
 
+  @Override
+  public double fromDegrees(final double value) {
+    return fromDecimalDegrees(value);
+  }
+
+  @Override
+  public double fromRadians(final double value) {
+    return fromDecimalDegrees(Math.toDegrees(value));
+  }
+
   @Override
   public double toDegrees(final double value) {
-    final String string = getFormat().format(value);
-    final int dotIndex = string.indexOf('.');
-
-    final int degrees = Integer.parseInt(string.substring(0, dotIndex));
-    final int minutes = Integer.parseInt(string.substring(dotIndex + 1, dotIndex + 3));
-    final double seconds = Double.parseDouble(
-      string.substring(dotIndex + 3, dotIndex + 5) + "." + string.substring(dotIndex + 5));
-    double decimal;
-    if (value < 0) {
-      decimal = degrees - minutes / 60.0 - seconds / 3600.0;
-    } else {
-      decimal = degrees + minutes / 60.0 + seconds / 3600.0;
-    }
-    return decimal;
+    return toDecimalDegrees(value);
   }
 
   @Override
   public double toNormal(final double value) {
-    final String string = getFormat().format(value);
-    final int dotIndex = string.indexOf('.');
-
-    final int degrees = Integer.parseInt(string.substring(0, dotIndex));
-    final int minutes = Integer.parseInt(string.substring(dotIndex + 1, dotIndex + 3));
-    final double seconds = Double.parseDouble(
-      string.substring(dotIndex + 3, dotIndex + 5) + "." + string.substring(dotIndex + 5));
-    double decimal;
-    if (value < 0) {
-      decimal = degrees - minutes / 60.0 - seconds / 3600.0;
-    } else {
-      decimal = degrees + minutes / 60.0 + seconds / 3600.0;
-    }
-    return decimal;
+    return toDecimalDegrees(value);
   }
 
+  @Override
+  public double toRadians(final double value) {
+    return Math.toRadians(toDecimalDegrees(value));
+  }
 }
@@ -11,6 +11,7 @@ import javax.measure.quantity.Length;
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+import org.jeometry.coordinatesystem.operation.OrdinateOperation;
 import org.jeometry.coordinatesystem.util.Md5;
 
 import tech.units.indriya.AbstractUnit;
@@ -61,9 +62,9 @@ public class LinearUnit implements UnitOfMeasure {
 
   private Unit<Length> unit;
 
-  public CoordinatesOperation fromMetresOperation = this::fromMetres;
+  public CoordinatesOperation fromMetresOperation = new OrdinateOperation(this::fromMetres);
 
-  public CoordinatesOperation toMetresOperation = this::toMetres;
+  public CoordinatesOperation toMetresOperation = new OrdinateOperation(this::toMetres);
 
   public LinearUnit(final String name, final double conversionFactor) {
     this(name, null, conversionFactor, null, false);
@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.jeometry.coordinatesystem.model.Authority;
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
-import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
 
 public class Radian extends AngularUnit {
   private static Radian instance;
@@ -28,9 +27,8 @@ public class Radian extends AngularUnit {
   }
 
   @Override
-  public void fromDegrees(final CoordinatesOperationPoint point) {
-    point.x = Math.toRadians(point.x);
-    point.y = Math.toRadians(point.y);
+  public double fromDegrees(final double value) {
+    return Math.toRadians(value);
   }
 
   @Override
@@ -38,12 +36,6 @@ public class Radian extends AngularUnit {
     return value;
   }
 
-  @Override
-  public void toDegrees(final CoordinatesOperationPoint point) {
-    point.x = Math.toDegrees(point.x);
-    point.y = Math.toDegrees(point.y);
-  }
-
   @Override
   public double toDegrees(final double value) {
     return Math.toDegrees(value);
@@ -54,12 +46,6 @@ public class Radian extends AngularUnit {
     return Math.toDegrees(value);
   }
 
-  @Override
-  public void toRadians(final CoordinatesOperationPoint point) {
-    point.x = Math.toRadians(point.x);
-    point.y = Math.toRadians(point.y);
-  }
-
   @Override
   public double toRadians(final double value) {
     return Math.toRadians(value);
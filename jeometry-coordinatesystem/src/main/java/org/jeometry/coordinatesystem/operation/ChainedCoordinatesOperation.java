@@ -2,9 +2,18 @@ package org.jeometry.coordinatesystem.operation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.jeometry.coordinatesystem.event.TransformBatchEvent;
+
 public class ChainedCoordinatesOperation implements CoordinatesOperation {
+  /**
+   * The number of points each operation is performed on before the next
+   * operation, so the columns stay in cache between operations.
+   */
+  private static final int BLOCK_SIZE = 1024;
+
   private final List<CoordinatesOperation> operations;
 
   public ChainedCoordinatesOperation(final CoordinatesOperation... operations) {
@@ -19,6 +28,14 @@ public class ChainedCoordinatesOperation implements CoordinatesOperation {
     this.operations.add(operation);
   }
 
+  public int getOperationCount() {
+    return this.operations.size();
+  }
+
+  public List<CoordinatesOperation> getOperations() {
+    return Collections.unmodifiableList(this.operations);
+  }
+
   @Override
   public void perform(final CoordinatesOperationPoint point) {
     for (final CoordinatesOperation operation : this.operations) {
@@ -26,6 +43,64 @@ public class ChainedCoordinatesOperation implements CoordinatesOperation {
     }
   }
 
+  /**
+   * Perform each operation on a block of points in turn. The first operation
+   * writes from the source to the target columns and the following operations
+   * are performed in place on the target columns. If there is no target z
+   * column the operations are performed on scratch x, y and z block columns,
+   * so z values calculated or used by an intermediate operation (e.g. a 3D
+   * datum shift) are kept, and the x and y values are then copied to the
+   * target.
+   */
+  @Override
+  public void perform(final double[] sourceXs, final double[] sourceYs, final double[] sourceZs,
+    final int sourceOffset, final double[] targetXs, final double[] targetYs,
+    final double[] targetZs, final int targetOffset, final int count) {
+    final TransformBatchEvent event = new TransformBatchEvent();
+    event.begin();
+    final List<CoordinatesOperation> operations = this.operations;
+    final int operationCount = operations.size();
+    if (operationCount == 0) {
+      System.arraycopy(sourceXs, sourceOffset, targetXs, targetOffset, count);
+      System.arraycopy(sourceYs, sourceOffset, targetYs, targetOffset, count);
+      CoordinatesOperation.copyZ(sourceZs, sourceOffset, targetZs, targetOffset, count);
+    } else if (targetZs == null && operationCount > 1) {
+      final int blockSize = Math.min(BLOCK_SIZE, count);
+      final double[] blockXs = new double[blockSize];
+      final double[] blockYs = new double[blockSize];
+      final double[] blockZs = new double[blockSize];
+      for (int blockStart = 0; blockStart < count; blockStart += BLOCK_SIZE) {
+        final int blockCount = Math.min(BLOCK_SIZE, count - blockStart);
+        performBlock(sourceXs, sourceYs, sourceZs, sourceOffset + blockStart, blockXs, blockYs,
+          blockZs, 0, blockCount);
+        System.arraycopy(blockXs, 0, targetXs, targetOffset + blockStart, blockCount);
+        System.arraycopy(blockYs, 0, targetYs, targetOffset + blockStart, blockCount);
+      }
+    } else {
+      for (int blockStart = 0; blockStart < count; blockStart += BLOCK_SIZE) {
+        final int blockCount = Math.min(BLOCK_SIZE, count - blockStart);
+        performBlock(sourceXs, sourceYs, sourceZs, sourceOffset + blockStart, targetXs, targetYs,
+          targetZs, targetOffset + blockStart, blockCount);
+      }
+    }
+    event.commit(this, "double[] columns", count);
+  }
+
+  private void performBlock(final double[] sourceXs, final double[] sourceYs,
+    final double[] sourceZs, final int sourceOffset, final double[] targetXs,
+    final double[] targetYs, final double[] targetZs, final int targetOffset, final int count) {
+    final List<CoordinatesOperation> operations = this.operations;
+    final int operationCount = operations.size();
+    operations.get(0)
+      .perform(sourceXs, sourceYs, sourceZs, sourceOffset, targetXs, targetYs, targetZs,
+        targetOffset, count);
+    for (int i = 1; i < operationCount; i++) {
+      final CoordinatesOperation operation = operations.get(i);
+      operation.perform(targetXs, targetYs, targetZs, targetOffset, targetXs, targetYs, targetZs,
+        targetOffset, count);
+    }
+  }
+
   @Override
   public String toString() {
     return this.operations.toString();
@@ -1,11 +1,238 @@
 package org.jeometry.coordinatesystem.operation;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
 import org.jeometry.common.function.BiConsumerDouble;
+import org.jeometry.coordinatesystem.event.TransformBatchEvent;
 
 public interface CoordinatesOperation {
 
+  /**
+   * Copy the z values from the source to the target column. If the source is
+   * null the target values are set to NaN. Nothing is copied if the target is
+   * null or is the same as the source.
+   *
+   * @param sourceZs The source z values.
+   * @param sourceOffset The index of the first source z.
+   * @param targetZs The target z values.
+   * @param targetOffset The index to write the first z to.
+   * @param count The number of values.
+   */
+  static void copyZ(final double[] sourceZs, final int sourceOffset, final double[] targetZs,
+    final int targetOffset, final int count) {
+    if (targetZs != null) {
+      if (sourceZs == null) {
+        Arrays.fill(targetZs, targetOffset, targetOffset + count, Double.NaN);
+      } else if (sourceZs != targetZs || sourceOffset != targetOffset) {
+        System.arraycopy(sourceZs, sourceOffset, targetZs, targetOffset, count);
+      }
+    }
+  }
+
+  private static void checkStride(final int axisCount, final int valueSize,
+    final int sourceStride, final int targetStride) {
+    if (axisCount < 2 || axisCount > 4) {
+      throw new IllegalArgumentException("axisCount must be 2-4: " + axisCount);
+    } else if (sourceStride < axisCount * valueSize || targetStride < axisCount * valueSize) {
+      throw new IllegalArgumentException("stride must be large enough for " + axisCount
+        + " values: " + sourceStride + ", " + targetStride);
+    }
+  }
+
   void perform(CoordinatesOperationPoint point);
 
+  /**
+   * Perform the operation on the double values in the source buffer, writing
+   * the results to the target buffer. The values are read and written using
+   * absolute indexes in bytes with the byte order of each buffer, so
+   * little-endian memory mapped files can be transformed without a copy. The
+   * buffer positions are not changed. Use the same buffer, offset and stride
+   * for the source and target to transform in place; other ordinates in a
+   * record are not changed.
+   *
+   * @param axisCount The number of ordinates to read and write per point (2-4).
+   * @param source The source buffer.
+   * @param sourceOffset The byte index of the first source x.
+   * @param sourceStride The number of bytes between source points.
+   * @param target The target buffer.
+   * @param targetOffset The byte index to write the first x to.
+   * @param targetStride The number of bytes between target points.
+   * @param count The number of points.
+   */
+  default void perform(final int axisCount, final ByteBuffer source, final int sourceOffset,
+    final int sourceStride, final ByteBuffer target, final int targetOffset,
+    final int targetStride, final int count) {
+    checkStride(axisCount, Double.BYTES, sourceStride, targetStride);
+    final TransformBatchEvent event = new TransformBatchEvent();
+    event.begin();
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i * sourceStride;
+      point.x = source.getDouble(sourceIndex);
+      point.y = source.getDouble(sourceIndex + 8);
+      if (axisCount > 2) {
+        point.z = source.getDouble(sourceIndex + 16);
+      } else {
+        point.z = Double.NaN;
+      }
+      if (axisCount > 3) {
+        point.m = source.getDouble(sourceIndex + 24);
+      } else {
+        point.m = Double.NaN;
+      }
+      perform(point);
+      final int targetIndex = targetOffset + i * targetStride;
+      target.putDouble(targetIndex, point.x);
+      target.putDouble(targetIndex + 8, point.y);
+      if (axisCount > 2) {
+        target.putDouble(targetIndex + 16, point.z);
+      }
+      if (axisCount > 3) {
+        target.putDouble(targetIndex + 24, point.m);
+      }
+    }
+    event.commit(this, "ByteBuffer", count);
+  }
+
+  /**
+   * Perform the operation on the values in the source buffer, writing the
+   * results to the target buffer. The values are read and written using
+   * absolute indexes, so the buffer positions are not changed. Use the same
+   * buffer, offset and stride for the source and target to transform in place;
+   * other ordinates in a record are not changed.
+   *
+   * @param axisCount The number of ordinates to read and write per point (2-4).
+   * @param source The source buffer.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceStride The number of values between source points.
+   * @param target The target buffer.
+   * @param targetOffset The index to write the first x to.
+   * @param targetStride The number of values between target points.
+   * @param count The number of points.
+   */
+  default void perform(final int axisCount, final DoubleBuffer source, final int sourceOffset,
+    final int sourceStride, final DoubleBuffer target, final int targetOffset,
+    final int targetStride, final int count) {
+    checkStride(axisCount, 1, sourceStride, targetStride);
+    final TransformBatchEvent event = new TransformBatchEvent();
+    event.begin();
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i * sourceStride;
+      point.x = source.get(sourceIndex);
+      point.y = source.get(sourceIndex + 1);
+      if (axisCount > 2) {
+        point.z = source.get(sourceIndex + 2);
+      } else {
+        point.z = Double.NaN;
+      }
+      if (axisCount > 3) {
+        point.m = source.get(sourceIndex + 3);
+      } else {
+        point.m = Double.NaN;
+      }
+      perform(point);
+      final int targetIndex = targetOffset + i * targetStride;
+      target.put(targetIndex, point.x);
+      target.put(targetIndex + 1, point.y);
+      if (axisCount > 2) {
+        target.put(targetIndex + 2, point.z);
+      }
+      if (axisCount > 3) {
+        target.put(targetIndex + 3, point.m);
+      }
+    }
+    event.commit(this, "DoubleBuffer", count);
+  }
+
+  /**
+   * Perform the operation on the points stored in separate x, y and optional z
+   * columns (e.g. GeoArrow separated encoding), writing the results to the
+   * target columns. Use the same arrays and offset for the source and target
+   * to transform in place. Implementations don't record a
+   * {@link TransformBatchEvent} as {@link ChainedCoordinatesOperation} calls
+   * them for each block of points; it records one for the whole batch.
+   *
+   * @param sourceXs The source x values.
+   * @param sourceYs The source y values.
+   * @param sourceZs The source z values, or null for 2D points.
+   * @param sourceOffset The index of the first source point.
+   * @param targetXs The target x values.
+   * @param targetYs The target y values.
+   * @param targetZs The target z values, or null to not write z values.
+   * @param targetOffset The index to write the first point to.
+   * @param count The number of points.
+   */
+  default void perform(final double[] sourceXs, final double[] sourceYs, final double[] sourceZs,
+    final int sourceOffset, final double[] targetXs, final double[] targetYs,
+    final double[] targetZs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i;
+      point.x = sourceXs[sourceIndex];
+      point.y = sourceYs[sourceIndex];
+      if (sourceZs == null) {
+        point.z = Double.NaN;
+      } else {
+        point.z = sourceZs[sourceIndex];
+      }
+      point.m = Double.NaN;
+      perform(point);
+      final int targetIndex = targetOffset + i;
+      targetXs[targetIndex] = point.x;
+      targetYs[targetIndex] = point.y;
+      if (targetZs != null) {
+        targetZs[targetIndex] = point.z;
+      }
+    }
+  }
+
+  /**
+   * Perform the operation on the points stored in separate x, y and optional z
+   * column buffers, writing the results to the target column buffers. The
+   * values are read and written using absolute indexes, so the buffer
+   * positions are not changed.
+   *
+   * @param sourceXs The source x values.
+   * @param sourceYs The source y values.
+   * @param sourceZs The source z values, or null for 2D points.
+   * @param sourceOffset The index of the first source point.
+   * @param targetXs The target x values.
+   * @param targetYs The target y values.
+   * @param targetZs The target z values, or null to not write z values.
+   * @param targetOffset The index to write the first point to.
+   * @param count The number of points.
+   */
+  default void perform(final DoubleBuffer sourceXs, final DoubleBuffer sourceYs,
+    final DoubleBuffer sourceZs, final int sourceOffset, final DoubleBuffer targetXs,
+    final DoubleBuffer targetYs, final DoubleBuffer targetZs, final int targetOffset,
+    final int count) {
+    final TransformBatchEvent event = new TransformBatchEvent();
+    event.begin();
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i;
+      point.x = sourceXs.get(sourceIndex);
+      point.y = sourceYs.get(sourceIndex);
+      if (sourceZs == null) {
+        point.z = Double.NaN;
+      } else {
+        point.z = sourceZs.get(sourceIndex);
+      }
+      point.m = Double.NaN;
+      perform(point);
+      final int targetIndex = targetOffset + i;
+      targetXs.put(targetIndex, point.x);
+      targetYs.put(targetIndex, point.y);
+      if (targetZs != null) {
+        targetZs.put(targetIndex, point.z);
+      }
+    }
+    event.commit(this, "DoubleBuffer columns", count);
+  }
+
   default void perform2d(final CoordinatesOperationPoint point, final double x, final double y,
     final BiConsumerDouble action) {
     point.setPoint(x, y);
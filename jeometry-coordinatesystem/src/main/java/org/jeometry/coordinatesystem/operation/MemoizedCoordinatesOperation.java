@@ -0,0 +1,186 @@
+package org.jeometry.coordinatesystem.operation;
+
+import java.util.Arrays;
+
+/**
+ * Cache the results of an operation keyed on the exact bits of the input x, y
+ * and z, so vertices shared between neighbouring features (e.g. polygon
+ * coverages) are only transformed once.
+ *
+ * The cache is a fixed size open addressing table. A key is stored in one of
+ * {@link #PROBE_LENGTH} slots after its hash; if they are all used, one is
+ * evicted using the clock algorithm (a slot that was hit since the last scan
+ * gets a second chance).
+ *
+ * Instances are NOT thread safe. Create one for a batch of work and thread,
+ * or call {@link #clear()} to reuse it.
+ */
+public class MemoizedCoordinatesOperation implements CoordinatesOperation {
+
+  private static final byte EMPTY = 0;
+
+  public static final int PROBE_LENGTH = 8;
+
+  private static final byte REFERENCED = 2;
+
+  private static final byte UNREFERENCED = 1;
+
+  private static int hash(final long xBits, final long yBits, final long zBits) {
+    long hash = xBits * 0x9E3779B97F4A7C15L;
+    hash = (hash ^ yBits) * 0xC2B2AE3D27D4EB4FL;
+    hash = (hash ^ zBits) * 0x165667B19E3779F9L;
+    return (int)(hash ^ hash >>> 32);
+  }
+
+  private long evictionCount;
+
+  /** The clock hand position within the probe window. */
+  private int hand;
+
+  private long hitCount;
+
+  private final long[] keyXs;
+
+  private final long[] keyYs;
+
+  private final long[] keyZs;
+
+  private final int mask;
+
+  private long missCount;
+
+  private final CoordinatesOperation operation;
+
+  private final byte[] states;
+
+  private final double[] valueXs;
+
+  private final double[] valueYs;
+
+  private final double[] valueZs;
+
+  /**
+   * Construct a new cache.
+   *
+   * @param operation The operation to cache the results of.
+   * @param capacity The maximum number of points to cache, rounded up to a
+   *          power of 2.
+   */
+  public MemoizedCoordinatesOperation(final CoordinatesOperation operation, final int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be 1-" + (1 << 30) + ": " + capacity);
+    }
+    this.operation = operation;
+    final int size = Math.max(PROBE_LENGTH, Integer.highestOneBit(capacity - 1) << 1);
+    this.mask = size - 1;
+    this.keyXs = new long[size];
+    this.keyYs = new long[size];
+    this.keyZs = new long[size];
+    this.valueXs = new double[size];
+    this.valueYs = new double[size];
+    this.valueZs = new double[size];
+    this.states = new byte[size];
+  }
+
+  /**
+   * Remove all the cached values and reset the statistics.
+   */
+  public void clear() {
+    Arrays.fill(this.states, EMPTY);
+    this.hitCount = 0;
+    this.missCount = 0;
+    this.evictionCount = 0;
+  }
+
+  public int getCapacity() {
+    return this.states.length;
+  }
+
+  public long getEvictionCount() {
+    return this.evictionCount;
+  }
+
+  public long getHitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * Get the fraction of points that were found in the cache.
+   *
+   * @return The hit rate (0-1), or 0 if no points were performed.
+   */
+  public double getHitRate() {
+    final long count = this.hitCount + this.missCount;
+    if (count == 0) {
+      return 0;
+    } else {
+      return this.hitCount / (double)count;
+    }
+  }
+
+  public long getMissCount() {
+    return this.missCount;
+  }
+
+  public CoordinatesOperation getOperation() {
+    return this.operation;
+  }
+
+  @Override
+  public void perform(final CoordinatesOperationPoint point) {
+    final long xBits = Double.doubleToRawLongBits(point.x);
+    final long yBits = Double.doubleToRawLongBits(point.y);
+    final long zBits = Double.doubleToRawLongBits(point.z);
+    final int mask = this.mask;
+    final byte[] states = this.states;
+    final int start = hash(xBits, yBits, zBits) & mask;
+    int emptyIndex = -1;
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      final int index = start + i & mask;
+      final byte state = states[index];
+      if (state == EMPTY) {
+        emptyIndex = index;
+        break;
+      } else if (this.keyXs[index] == xBits && this.keyYs[index] == yBits
+        && this.keyZs[index] == zBits) {
+        states[index] = REFERENCED;
+        point.x = this.valueXs[index];
+        point.y = this.valueYs[index];
+        point.z = this.valueZs[index];
+        this.hitCount++;
+        return;
+      }
+    }
+    this.missCount++;
+    this.operation.perform(point);
+
+    int index = emptyIndex;
+    if (index == -1) {
+      index = start + this.hand & mask;
+      for (int i = 0; i < PROBE_LENGTH * 2; i++) {
+        final int offset = (this.hand + i) % PROBE_LENGTH;
+        final int clockIndex = start + offset & mask;
+        if (states[clockIndex] == REFERENCED) {
+          states[clockIndex] = UNREFERENCED;
+        } else {
+          index = clockIndex;
+          this.hand = (offset + 1) % PROBE_LENGTH;
+          break;
+        }
+      }
+      this.evictionCount++;
+    }
+    states[index] = UNREFERENCED;
+    this.keyXs[index] = xBits;
+    this.keyYs[index] = yBits;
+    this.keyZs[index] = zBits;
+    this.valueXs[index] = point.x;
+    this.valueYs[index] = point.y;
+    this.valueZs[index] = point.z;
+  }
+
+  @Override
+  public String toString() {
+    return "memoized(" + this.operation + ", hitRate=" + getHitRate() + ")";
+  }
+}
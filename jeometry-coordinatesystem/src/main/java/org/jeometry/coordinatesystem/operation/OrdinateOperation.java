@@ -0,0 +1,41 @@
+package org.jeometry.coordinatesystem.operation;
+
+import org.jeometry.common.function.DoubleToDoubleFunction;
+
+/**
+ * An operation that applies the same function to the x and y ordinates, such as
+ * a unit conversion. The column form applies the function to the x column then
+ * the y column.
+ */
+public class OrdinateOperation implements CoordinatesOperation {
+  private final DoubleToDoubleFunction function;
+
+  public OrdinateOperation(final DoubleToDoubleFunction function) {
+    this.function = function;
+  }
+
+  @Override
+  public void perform(final CoordinatesOperationPoint point) {
+    point.x = this.function.apply(point.x);
+    point.y = this.function.apply(point.y);
+  }
+
+  @Override
+  public void perform(final double[] sourceXs, final double[] sourceYs, final double[] sourceZs,
+    final int sourceOffset, final double[] targetXs, final double[] targetYs,
+    final double[] targetZs, final int targetOffset, final int count) {
+    final DoubleToDoubleFunction function = this.function;
+    for (int i = 0; i < count; i++) {
+      targetXs[targetOffset + i] = function.apply(sourceXs[sourceOffset + i]);
+    }
+    for (int i = 0; i < count; i++) {
+      targetYs[targetOffset + i] = function.apply(sourceYs[sourceOffset + i]);
+    }
+    CoordinatesOperation.copyZ(sourceZs, sourceOffset, targetZs, targetOffset, count);
+  }
+
+  @Override
+  public String toString() {
+    return this.function.toString();
+  }
+}
@@ -0,0 +1,245 @@
+package org.jeometry.coordinatesystem.operation;
+
+import java.nio.FloatBuffer;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Transform coordinates to float values relative to a view origin and scaled to
+ * pixels for rendering. The conversion from metres to the target coordinate
+ * system's linear unit, the subtraction of the origin and the scale are fused
+ * into a single multiply and add per ordinate that is calculated in double
+ * precision before narrowing to float.
+ *
+ * <pre>
+ * x' = (fromMetres(x) - originX) * scaleX
+ *    = x * (unitScale * scaleX) - originX * scaleX
+ * </pre>
+ *
+ * Instances are immutable, use {@link #withView(double, double, double, double)}
+ * to get a transform for a new view that shares the same operation.
+ */
+public class RenderTransform {
+  /**
+   * Write a float to the index of a target array or buffer.
+   */
+  @FunctionalInterface
+  private interface FloatTarget {
+    void put(int index, float value);
+  }
+
+  private final CoordinatesOperation operation;
+
+  private final double originX;
+
+  private final double originY;
+
+  private final double scaleX;
+
+  private final double scaleY;
+
+  /** The multiplier from the unit of the operation output to the target unit. */
+  private final double unitScale;
+
+  private final double xMultiplier;
+
+  private final double xOffset;
+
+  private final double yMultiplier;
+
+  private final double yOffset;
+
+  /**
+   * Construct a new transform.
+   *
+   * @param operation The operation to the target coordinate system excluding the
+   *          final unit conversion, or null if no operation is required.
+   * @param unitScale The multiplier from the unit of the operation output to
+   *          the target coordinate system unit.
+   * @param originX The x of the view origin in the target coordinate system.
+   * @param originY The y of the view origin in the target coordinate system.
+   * @param scaleX The pixels per target unit in the x direction.
+   * @param scaleY The pixels per target unit in the y direction (negative for
+   *          pixel rows down from the origin).
+   */
+  public RenderTransform(final CoordinatesOperation operation, final double unitScale,
+    final double originX, final double originY, final double scaleX, final double scaleY) {
+    this.operation = operation;
+    this.unitScale = unitScale;
+    this.originX = originX;
+    this.originY = originY;
+    this.scaleX = scaleX;
+    this.scaleY = scaleY;
+    this.xMultiplier = unitScale * scaleX;
+    this.xOffset = -originX * scaleX;
+    this.yMultiplier = unitScale * scaleY;
+    this.yOffset = -originY * scaleY;
+  }
+
+  public CoordinatesOperation getOperation() {
+    return this.operation;
+  }
+
+  public double getOriginX() {
+    return this.originX;
+  }
+
+  public double getOriginY() {
+    return this.originY;
+  }
+
+  public double getScaleX() {
+    return this.scaleX;
+  }
+
+  public double getScaleY() {
+    return this.scaleY;
+  }
+
+  /**
+   * Transform the x/y ordinates of the source coordinates and write the x/y
+   * values to the target.
+   *
+   * @param source The source coordinates.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceAxisCount The number of ordinates per source point.
+   * @param target The buffer to write to at the current position.
+   * @param count The number of points.
+   */
+  public void transform(final double[] source, final int sourceOffset, final int sourceAxisCount,
+    final FloatBuffer target, final int count) {
+    final int position = target.position();
+    transform(index -> source[index], sourceOffset, sourceAxisCount, target::put, position,
+      count);
+    target.position(position + count * 2);
+  }
+
+  /**
+   * Transform the x/y ordinates of the source coordinates and write the x/y
+   * values to the target.
+   *
+   * @param source The source coordinates.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceAxisCount The number of ordinates per source point.
+   * @param target The array to write to.
+   * @param targetOffset The index to write the first x to.
+   * @param count The number of points.
+   */
+  public void transform(final double[] source, final int sourceOffset, final int sourceAxisCount,
+    final float[] target, final int targetOffset, final int count) {
+    transform(index -> source[index], sourceOffset, sourceAxisCount,
+      (index, value) -> target[index] = value, targetOffset, count);
+  }
+
+  /**
+   * Transform the point and write the x/y values to the target.
+   *
+   * @param x The source x.
+   * @param y The source y.
+   * @param target The array to write to.
+   * @param targetOffset The index to write the x to.
+   */
+  public void transform(final double x, final double y, final float[] target,
+    final int targetOffset) {
+    final CoordinatesOperation operation = this.operation;
+    if (operation == null) {
+      target[targetOffset] = (float)(x * this.xMultiplier + this.xOffset);
+      target[targetOffset + 1] = (float)(y * this.yMultiplier + this.yOffset);
+    } else {
+      final CoordinatesOperationPoint point = new CoordinatesOperationPoint(x, y);
+      operation.perform(point);
+      target[targetOffset] = (float)(point.x * this.xMultiplier + this.xOffset);
+      target[targetOffset + 1] = (float)(point.y * this.yMultiplier + this.yOffset);
+    }
+  }
+
+  /**
+   * Transform the x/y ordinates of the source coordinates and write the x/y
+   * values to the target.
+   *
+   * @param source The source coordinates.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceAxisCount The number of ordinates per source point.
+   * @param target The buffer to write to at the current position.
+   * @param count The number of points.
+   */
+  public void transform(final float[] source, final int sourceOffset, final int sourceAxisCount,
+    final FloatBuffer target, final int count) {
+    final int position = target.position();
+    transform(index -> source[index], sourceOffset, sourceAxisCount, target::put, position,
+      count);
+    target.position(position + count * 2);
+  }
+
+  /**
+   * Transform the x/y ordinates of the source coordinates and write the x/y
+   * values to the target.
+   *
+   * @param source The source coordinates.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceAxisCount The number of ordinates per source point.
+   * @param target The array to write to.
+   * @param targetOffset The index to write the first x to.
+   * @param count The number of points.
+   */
+  public void transform(final float[] source, final int sourceOffset, final int sourceAxisCount,
+    final float[] target, final int targetOffset, final int count) {
+    transform(index -> source[index], sourceOffset, sourceAxisCount,
+      (index, value) -> target[index] = value, targetOffset, count);
+  }
+
+  /**
+   * Transform the x/y ordinates of the source coordinates and write the x/y
+   * values to the target.
+   *
+   * @param source The source ordinate for an index.
+   * @param sourceOffset The index of the first source x.
+   * @param sourceAxisCount The number of ordinates per source point.
+   * @param target The target to write to.
+   * @param targetOffset The index to write the first x to.
+   * @param count The number of points.
+   */
+  private void transform(final IntToDoubleFunction source, final int sourceOffset,
+    final int sourceAxisCount, final FloatTarget target, final int targetOffset,
+    final int count) {
+    final double xMultiplier = this.xMultiplier;
+    final double xOffset = this.xOffset;
+    final double yMultiplier = this.yMultiplier;
+    final double yOffset = this.yOffset;
+    final CoordinatesOperation operation = this.operation;
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i * sourceAxisCount;
+      double x = source.applyAsDouble(sourceIndex);
+      double y = source.applyAsDouble(sourceIndex + 1);
+      if (operation != null) {
+        point.setPoint(x, y);
+        operation.perform(point);
+        x = point.x;
+        y = point.y;
+      }
+      final int targetIndex = targetOffset + i * 2;
+      target.put(targetIndex, (float)(x * xMultiplier + xOffset));
+      target.put(targetIndex + 1, (float)(y * yMultiplier + yOffset));
+    }
+  }
+
+  /**
+   * Get a transform with the same operation for a new view.
+   *
+   * @param originX The x of the view origin in the target coordinate system.
+   * @param originY The y of the view origin in the target coordinate system.
+   * @param scaleX The pixels per target unit in the x direction.
+   * @param scaleY The pixels per target unit in the y direction.
+   * @return The transform.
+   */
+  public RenderTransform withView(final double originX, final double originY,
+    final double scaleX, final double scaleY) {
+    return new RenderTransform(this.operation, this.unitScale, originX, originY, scaleX, scaleY);
+  }
+
+  @Override
+  public String toString() {
+    return "render(" + this.operation + ", origin=" + this.originX + " " + this.originY
+      + ", scale=" + this.scaleX + " " + this.scaleY + ")";
+  }
+}
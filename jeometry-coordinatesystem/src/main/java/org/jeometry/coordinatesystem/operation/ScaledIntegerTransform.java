@@ -0,0 +1,267 @@
+package org.jeometry.coordinatesystem.operation;
+
+import java.nio.IntBuffer;
+
+/**
+ * Transform coordinates stored as scaled integers (e.g. LAS point clouds or
+ * fixed precision vector storage) in a single pass. Each source ordinate is
+ * decoded as
+ *
+ * <pre>
+ * value = stored * sourceScale + sourceOffset
+ * </pre>
+ *
+ * the operation is performed and the result is encoded using the same rounding
+ * as {@link org.jeometry.common.number.Doubles#makePrecise(double, double)}
+ *
+ * <pre>
+ * stored = Math.round((value - targetOffset) * (1 / targetScale))
+ * </pre>
+ *
+ * The x, y and (if the axis count is 3) z ordinates have their own scale and
+ * offset. A result that is not finite or doesn't fit in the target type throws
+ * an {@link IllegalArgumentException}; points before that point will have been
+ * written. The source and target can be the same array to transform in place.
+ *
+ * Instances are immutable and can be used by multiple threads.
+ */
+public class ScaledIntegerTransform {
+
+  private final int axisCount;
+
+  private final CoordinatesOperation operation;
+
+  private final double sourceOffsetX;
+
+  private final double sourceOffsetY;
+
+  private final double sourceOffsetZ;
+
+  private final double sourceScaleX;
+
+  private final double sourceScaleY;
+
+  private final double sourceScaleZ;
+
+  private final double targetMultiplierX;
+
+  private final double targetMultiplierY;
+
+  private final double targetMultiplierZ;
+
+  private final double targetOffsetX;
+
+  private final double targetOffsetY;
+
+  private final double targetOffsetZ;
+
+  /**
+   * Construct a new transform.
+   *
+   * @param operation The operation, or null if only the scale and offset
+   *          change.
+   * @param axisCount The number of ordinates per point (2 or 3).
+   * @param sourceScales The source scale for each axis.
+   * @param sourceOffsets The source offset for each axis.
+   * @param targetScales The target scale for each axis.
+   * @param targetOffsets The target offset for each axis.
+   */
+  public ScaledIntegerTransform(final CoordinatesOperation operation, final int axisCount,
+    final double[] sourceScales, final double[] sourceOffsets, final double[] targetScales,
+    final double[] targetOffsets) {
+    if (axisCount < 2 || axisCount > 3) {
+      throw new IllegalArgumentException("axisCount must be 2 or 3: " + axisCount);
+    }
+    for (final double[] values : new double[][] {
+      sourceScales, sourceOffsets, targetScales, targetOffsets
+    }) {
+      if (values.length < axisCount) {
+        throw new IllegalArgumentException(
+          "Scales and offsets must have a value for each axis: " + axisCount);
+      }
+    }
+    for (int axisIndex = 0; axisIndex < axisCount; axisIndex++) {
+      if (!(targetScales[axisIndex] > 0) || !Double.isFinite(targetScales[axisIndex])) {
+        throw new IllegalArgumentException("targetScale must be > 0: " + targetScales[axisIndex]);
+      }
+    }
+    this.operation = operation;
+    this.axisCount = axisCount;
+    this.sourceScaleX = sourceScales[0];
+    this.sourceScaleY = sourceScales[1];
+    this.sourceOffsetX = sourceOffsets[0];
+    this.sourceOffsetY = sourceOffsets[1];
+    this.targetMultiplierX = 1 / targetScales[0];
+    this.targetMultiplierY = 1 / targetScales[1];
+    this.targetOffsetX = targetOffsets[0];
+    this.targetOffsetY = targetOffsets[1];
+    if (axisCount > 2) {
+      this.sourceScaleZ = sourceScales[2];
+      this.sourceOffsetZ = sourceOffsets[2];
+      this.targetMultiplierZ = 1 / targetScales[2];
+      this.targetOffsetZ = targetOffsets[2];
+    } else {
+      this.sourceScaleZ = 1;
+      this.sourceOffsetZ = 0;
+      this.targetMultiplierZ = 1;
+      this.targetOffsetZ = 0;
+    }
+  }
+
+  private long checkInt(final long value, final int index) {
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        "Transformed value " + value + " for point " + index + " does not fit in an int");
+    }
+    return value;
+  }
+
+  public int getAxisCount() {
+    return this.axisCount;
+  }
+
+  public CoordinatesOperation getOperation() {
+    return this.operation;
+  }
+
+  private void perform(final CoordinatesOperationPoint point, final double x, final double y,
+    final double z) {
+    point.x = x * this.sourceScaleX + this.sourceOffsetX;
+    point.y = y * this.sourceScaleY + this.sourceOffsetY;
+    if (this.axisCount > 2) {
+      point.z = z * this.sourceScaleZ + this.sourceOffsetZ;
+    } else {
+      point.z = Double.NaN;
+    }
+    point.m = Double.NaN;
+    final CoordinatesOperation operation = this.operation;
+    if (operation != null) {
+      operation.perform(point);
+    }
+  }
+
+  private long toLong(final double value, final double offset, final double multiplier,
+    final int index) {
+    final double multiple = (value - offset) * multiplier;
+    if (Double.isFinite(multiple) && Math.abs(multiple) < 0x1p63) {
+      return Math.round(multiple);
+    } else {
+      throw new IllegalArgumentException(
+        "Transformed value " + value + " for point " + index + " cannot be stored as an integer");
+    }
+  }
+
+  /**
+   * Transform the interleaved source values, writing interleaved values to the
+   * target.
+   *
+   * @param source The source values.
+   * @param sourceOffset The index of the first source x.
+   * @param target The target values.
+   * @param targetOffset The index to write the first x to.
+   * @param count The number of points.
+   * @throws IllegalArgumentException If a result can't be stored in an int.
+   */
+  public void transform(final int[] source, final int sourceOffset, final int[] target,
+    final int targetOffset, final int count) {
+    final int axisCount = this.axisCount;
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i * axisCount;
+      final int targetIndex = targetOffset + i * axisCount;
+      final double z;
+      if (axisCount > 2) {
+        z = source[sourceIndex + 2];
+      } else {
+        z = 0;
+      }
+      perform(point, source[sourceIndex], source[sourceIndex + 1], z);
+      final long x = checkInt(toLong(point.x, this.targetOffsetX, this.targetMultiplierX, i), i);
+      final long y = checkInt(toLong(point.y, this.targetOffsetY, this.targetMultiplierY, i), i);
+      if (axisCount > 2) {
+        target[targetIndex + 2] = (int)checkInt(
+          toLong(point.z, this.targetOffsetZ, this.targetMultiplierZ, i), i);
+      }
+      target[targetIndex] = (int)x;
+      target[targetIndex + 1] = (int)y;
+    }
+  }
+
+  /**
+   * Transform the interleaved source values from the source's position, writing
+   * interleaved values to the target's position. The positions of both buffers
+   * are advanced past the points.
+   *
+   * @param source The source values.
+   * @param target The target values.
+   * @param count The number of points.
+   * @throws IllegalArgumentException If a result can't be stored in an int.
+   */
+  public void transform(final IntBuffer source, final IntBuffer target, final int count) {
+    final int axisCount = this.axisCount;
+    final int sourcePosition = source.position();
+    final int targetPosition = target.position();
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourcePosition + i * axisCount;
+      final int targetIndex = targetPosition + i * axisCount;
+      final double z;
+      if (axisCount > 2) {
+        z = source.get(sourceIndex + 2);
+      } else {
+        z = 0;
+      }
+      perform(point, source.get(sourceIndex), source.get(sourceIndex + 1), z);
+      final long x = checkInt(toLong(point.x, this.targetOffsetX, this.targetMultiplierX, i), i);
+      final long y = checkInt(toLong(point.y, this.targetOffsetY, this.targetMultiplierY, i), i);
+      if (axisCount > 2) {
+        target.put(targetIndex + 2,
+          (int)checkInt(toLong(point.z, this.targetOffsetZ, this.targetMultiplierZ, i), i));
+      }
+      target.put(targetIndex, (int)x);
+      target.put(targetIndex + 1, (int)y);
+    }
+    source.position(sourcePosition + count * axisCount);
+    target.position(targetPosition + count * axisCount);
+  }
+
+  /**
+   * Transform the interleaved source values, writing interleaved values to the
+   * target.
+   *
+   * @param source The source values.
+   * @param sourceOffset The index of the first source x.
+   * @param target The target values.
+   * @param targetOffset The index to write the first x to.
+   * @param count The number of points.
+   * @throws IllegalArgumentException If a result can't be stored in a long.
+   */
+  public void transform(final long[] source, final int sourceOffset, final long[] target,
+    final int targetOffset, final int count) {
+    final int axisCount = this.axisCount;
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int sourceIndex = sourceOffset + i * axisCount;
+      final int targetIndex = targetOffset + i * axisCount;
+      final double z;
+      if (axisCount > 2) {
+        z = source[sourceIndex + 2];
+      } else {
+        z = 0;
+      }
+      perform(point, source[sourceIndex], source[sourceIndex + 1], z);
+      final long x = toLong(point.x, this.targetOffsetX, this.targetMultiplierX, i);
+      final long y = toLong(point.y, this.targetOffsetY, this.targetMultiplierY, i);
+      if (axisCount > 2) {
+        target[targetIndex + 2] = toLong(point.z, this.targetOffsetZ, this.targetMultiplierZ, i);
+      }
+      target[targetIndex] = x;
+      target[targetIndex + 1] = y;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "scaledInteger(" + this.operation + ")";
+  }
+}
@@ -1,12 +1,49 @@
 package org.jeometry.coordinatesystem.operation.projection;
 
 import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
 
 public abstract class AbstractCoordinatesProjection implements CoordinatesProjection {
 
-  private final CoordinatesOperation inverseOperation = this::inverse;
+  private final CoordinatesOperation inverseOperation = new CoordinatesOperation() {
+    @Override
+    public void perform(final CoordinatesOperationPoint point) {
+      inverse(point);
+    }
 
-  private final CoordinatesOperation projectOperation = this::project;
+    @Override
+    public void perform(final double[] sourceXs, final double[] sourceYs,
+      final double[] sourceZs, final int sourceOffset, final double[] targetXs,
+      final double[] targetYs, final double[] targetZs, final int targetOffset, final int count) {
+      inverse(sourceXs, sourceYs, sourceOffset, targetXs, targetYs, targetOffset, count);
+      CoordinatesOperation.copyZ(sourceZs, sourceOffset, targetZs, targetOffset, count);
+    }
+
+    @Override
+    public String toString() {
+      return "inverse " + AbstractCoordinatesProjection.this;
+    }
+  };
+
+  private final CoordinatesOperation projectOperation = new CoordinatesOperation() {
+    @Override
+    public void perform(final CoordinatesOperationPoint point) {
+      project(point);
+    }
+
+    @Override
+    public void perform(final double[] sourceXs, final double[] sourceYs,
+      final double[] sourceZs, final int sourceOffset, final double[] targetXs,
+      final double[] targetYs, final double[] targetZs, final int targetOffset, final int count) {
+      project(sourceXs, sourceYs, sourceOffset, targetXs, targetYs, targetOffset, count);
+      CoordinatesOperation.copyZ(sourceZs, sourceOffset, targetZs, targetOffset, count);
+    }
+
+    @Override
+    public String toString() {
+      return "project " + AbstractCoordinatesProjection.this;
+    }
+  };
 
   @Override
   public CoordinatesOperation getInverseOperation() {
@@ -109,6 +109,12 @@ public class AlbersConicEqualArea extends AbstractCoordinatesProjection {
 
   private final double oneOver2e;
 
+  /** Coefficients to convert authalic latitude β to φ. */
+  private final double[] authalicCoefficients;
+
+  /** Constant qp = q(90°). */
+  private final double qp;
+
   public AlbersConicEqualArea(final ProjectedCoordinateSystem cs) {
     final double firstStandardParallel = cs
       .getDoubleParameter(NormalizedParameterNames.STANDARD_PARALLEL_1);
@@ -143,56 +149,50 @@ public class AlbersConicEqualArea extends AbstractCoordinatesProjection {
     this.nPow2 = Math.pow(this.n, 2);
     this.c = m1 * m1 + this.n * q1;
     this.ρo = this.a * Math.sqrt(this.c - this.n * q0) / this.n;
+    this.qp = q(Angle.PI_OVER_2);
+    this.authalicCoefficients = LatitudeSeries.authalicToGeodetic(this.e);
   }
 
   /**
-   * n = sin(φ1) + sin (φ2)
-   * <p>
-   * φ = sin-1( ( C - (ρ ^ 2) * (n ^ 2) ) / 2 * n )
-   * <p>
-   * λ =
+   * <pre>
+   * q = (C - ρ^2 * n^2 / a^2) / n
+   * β = asin(q / qp)
+   * φ = β + Σ c[k-1] sin(2kβ)
+   * λ = λo + θ / n
+   * </pre>
    */
   @Override
   public void inverse(final CoordinatesOperationPoint point) {
-    final double ΔX = point.x - this.xo;
-    final double ΔY = point.y - this.yo;
-    final double e = this.e;
-    final double ePow2 = this.ePow2;
-    final double oneOver2e = this.oneOver2e;
+    inverse(point.x, point.y, point);
+  }
+
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      inverse(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void inverse(final double x, final double y, final CoordinatesOperationPoint target) {
+    final double ΔX = x - this.xo;
+    final double ΔY = y - this.yo;
     final double n = this.n;
 
     final double ρo = this.ρo;
 
     final double θ = Math.atan(ΔX / (ρo - ΔY));
-    final double ρ = Math.sqrt(Math.pow(ΔX, 2) + Math.pow(ρo - ΔY, 2));
-    final double ρPow2 = Math.pow(ρ, 2);
+    final double ρoMinusΔY = ρo - ΔY;
+    final double ρPow2 = ΔX * ΔX + ρoMinusΔY * ρoMinusΔY;
     final double q = (this.c - ρPow2 * this.nPow2 / this.aPow2) / n;
     final double λ = this.λo + θ / n;
-    double φ = Math.asin(q / 2.0);
-    if (Double.isFinite(φ)) {
-      double Δφ;
-      final double maxIter = 1000;
-      int i = 0;
-      do {
-        final double sinφ = Math.sin(φ);
-        final double eSinφ = e * sinφ;
-
-        final double oneMinusEpow2TimesSinφPow2 = 1.0 - ePow2 * Math.pow(sinφ, 2);
-        final double j1 = Math.pow(oneMinusEpow2TimesSinφPow2, 2) / (2 * Math.cos(φ));
-        final double k1 = q / (1 - ePow2);
-        final double k2 = sinφ / oneMinusEpow2TimesSinφPow2;
-        final double k3 = oneOver2e * Math.log((1.0 - eSinφ) / (1 + eSinφ));
-        final double newφ = φ + j1 * (k1 - k2 + k3);
-        Δφ = Math.abs(newφ - φ);
-        φ = newφ;
-        i++;
-      } while (Double.isFinite(φ) && Δφ > 1e-011 && i < maxIter);
-    }
-    if (!Double.isFinite(φ)) {
-      φ = Angle.PI_OVER_2;
-    }
-    point.x = λ;
-    point.y = φ;
+    final double β = Math.asin(Math.max(-1, Math.min(1, q / this.qp)));
+    final double φ = LatitudeSeries.toGeodetic(this.authalicCoefficients, β);
+    target.x = λ;
+    target.y = φ;
   }
 
   /**
@@ -223,16 +223,29 @@ public class AlbersConicEqualArea extends AbstractCoordinatesProjection {
    */
   @Override
   public void project(final CoordinatesOperationPoint point) {
-    final double λ = point.x;
-    final double φ = point.y;
+    project(point.x, point.y, point);
+  }
+
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      project(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void project(final double λ, final double φ, final CoordinatesOperationPoint target) {
     final double q = q(φ);
     final double Δλ = λ - this.λo;
     final double n = this.n;
     final double θ = n * Δλ;
     final double ρ = this.a * (Math.sqrt(this.c - n * q) / n);
 
-    point.x = this.xo + ρ * Math.sin(θ);
-    point.y = this.yo + this.ρo - ρ * Math.cos(θ);
+    target.x = this.xo + ρ * Math.sin(θ);
+    target.y = this.yo + this.ρo - ρ * Math.cos(θ);
   }
 
   /**
@@ -8,7 +8,53 @@ public interface CoordinatesProjection {
 
   CoordinatesOperation getProjectOperation();
 
+  /**
+   * Inverse project the points stored in separate x and y columns.
+   *
+   * @param sourceXs The source x values in metres.
+   * @param sourceYs The source y values in metres.
+   * @param sourceOffset The index of the first source point.
+   * @param targetXs The target λ values in radians.
+   * @param targetYs The target φ values in radians.
+   * @param targetOffset The index to write the first point to.
+   * @param count The number of points.
+   */
+  default void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      point.x = sourceXs[sourceOffset + i];
+      point.y = sourceYs[sourceOffset + i];
+      inverse(point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
   void inverse(CoordinatesOperationPoint point);
 
+  /**
+   * Project the points stored in separate x and y columns.
+   *
+   * @param sourceXs The source λ values in radians.
+   * @param sourceYs The source φ values in radians.
+   * @param sourceOffset The index of the first source point.
+   * @param targetXs The target x values in metres.
+   * @param targetYs The target y values in metres.
+   * @param targetOffset The index to write the first point to.
+   * @param count The number of points.
+   */
+  default void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      point.x = sourceXs[sourceOffset + i];
+      point.y = sourceYs[sourceOffset + i];
+      project(point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
   void project(CoordinatesOperationPoint point);
 }
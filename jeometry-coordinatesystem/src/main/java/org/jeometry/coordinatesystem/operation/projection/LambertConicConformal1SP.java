@@ -9,10 +9,15 @@ import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
 public class LambertConicConformal1SP extends AbstractCoordinatesProjection {
   private final double a;
 
+  private final double[] conformalCoefficients;
+
   private final double e;
 
   private final double ee;
 
+  /** e / 2. */
+  private final double eOver2;
+
   private final double f;
 
   /** The central origin. */
@@ -22,6 +27,21 @@ public class LambertConicConformal1SP extends AbstractCoordinatesProjection {
 
   private final double rho0;
 
+  /** a * f. */
+  private final double aF;
+
+  /** a * f * scaleFactor. */
+  private final double aFk;
+
+  /** 1 / n. */
+  private final double oneOverN;
+
+  /** The sign of n, -1 or 1. */
+  private final double sign;
+
+  /** rho0 multiplied by the sign of n. */
+  private final double signedRho0;
+
   private final double scaleFactor;
 
   private final double x0;
@@ -45,46 +65,57 @@ public class LambertConicConformal1SP extends AbstractCoordinatesProjection {
     this.a = ellipsoid.getSemiMajorAxis();
     this.e = ellipsoid.getEccentricity();
     this.ee = this.e * this.e;
+    this.eOver2 = this.e / 2;
+    this.conformalCoefficients = LatitudeSeries.conformalToGeodetic(this.e);
 
     final double t0 = t(φ0);
 
     this.n = Math.sin(φ0);
     this.f = m(0) / (this.n * Math.pow(t(0), this.n));
     this.rho0 = this.a * this.f * Math.pow(t0, this.n);
+    this.aF = this.a * this.f;
+    this.aFk = this.a * this.f * this.scaleFactor;
+    this.oneOverN = 1 / this.n;
+    if (this.n < 0) {
+      this.sign = -1;
+    } else {
+      this.sign = 1;
+    }
+    this.signedRho0 = this.sign * this.rho0;
   }
 
   @Override
   public void inverse(final CoordinatesOperationPoint point) {
-    double dX = point.x - this.x0;
-    double dY = point.y - this.y0;
+    inverse(point.x, point.y, point);
+  }
 
-    double rho0 = this.rho0;
-    if (this.n < 0) {
-      rho0 = -rho0;
-      dX = -dX;
-      dY = -dY;
-    }
-    final double theta = Math.atan(dX / (rho0 - dY));
-    double rho = Math.sqrt(dX * dX + Math.pow(rho0 - dY, 2));
-    if (this.n < 0) {
-      rho = -rho;
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      inverse(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
     }
-    final double t = Math.pow(rho / (this.a * this.f * this.scaleFactor), 1 / this.n);
-    double φ = Angle.PI_OVER_2 - 2 * Math.atan(t);
-    double delta = 10e010;
-    do {
-
-      final double sinPhi = Math.sin(φ);
-      final double eSinPhi = this.e * sinPhi;
-      final double φ1 = Angle.PI_OVER_2
-        - 2 * Math.atan(t * Math.pow((1 - eSinPhi) / (1 + eSinPhi), this.e / 2));
-      delta = Math.abs(φ1 - φ);
-      φ = φ1;
-    } while (!Double.isNaN(φ) && delta > 1.0e-011);
-    final double λ = theta / this.n + this.λ0;
-
-    point.x = λ;
-    point.y = φ;
+  }
+
+  /**
+   * Inverse project the x, y in metres and write the λ, φ in radians to the
+   * target. Negating is exact so multiplying by the sign of n gives the same
+   * result as negating the values when n is negative.
+   */
+  private void inverse(final double x, final double y, final CoordinatesOperationPoint target) {
+    final double sign = this.sign;
+    final double dX = sign * (x - this.x0);
+    final double dY = sign * (y - this.y0);
+    final double rho0MinusDy = this.signedRho0 - dY;
+    final double theta = Math.atan(dX / rho0MinusDy);
+    final double rho = sign * Math.sqrt(dX * dX + rho0MinusDy * rho0MinusDy);
+    final double t = Math.pow(rho / this.aFk, this.oneOverN);
+    final double χ = Angle.PI_OVER_2 - 2 * Math.atan(t);
+    target.x = theta / this.n + this.λ0;
+    target.y = LatitudeSeries.toGeodetic(this.conformalCoefficients, χ);
   }
 
   private double m(final double φ) {
@@ -94,15 +125,31 @@ public class LambertConicConformal1SP extends AbstractCoordinatesProjection {
 
   @Override
   public void project(final CoordinatesOperationPoint point) {
-    final double λ = point.x;
-    final double φ = point.y;
+    project(point.x, point.y, point);
+  }
+
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      project(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
 
+  /**
+   * Project the λ, φ in radians and write the x, y in metres to the target.
+   */
+  private void project(final double λ, final double φ, final CoordinatesOperationPoint target) {
+    final double n = this.n;
     final double t = t(φ);
-    final double rho = this.a * this.f * Math.pow(t, this.n) * this.scaleFactor;
+    final double rho = this.aF * Math.pow(t, n) * this.scaleFactor;
 
-    final double theta = this.n * (λ - this.λ0);
-    point.x = this.x0 + rho * Math.sin(theta);
-    point.y = this.y0 + this.rho0 - rho * Math.cos(theta);
+    final double theta = n * (λ - this.λ0);
+    target.x = this.x0 + rho * Math.sin(theta);
+    target.y = this.y0 + this.rho0 - rho * Math.cos(theta);
   }
 
   private double t(final double φ) {
@@ -110,7 +157,7 @@ public class LambertConicConformal1SP extends AbstractCoordinatesProjection {
     final double eSinPhi = this.e * sinPhi;
 
     final double t = Math.tan(Angle.PI_OVER_4 - φ / 2)
-      / Math.pow((1 - eSinPhi) / (1 + eSinPhi), this.e / 2);
+      / Math.pow((1 - eSinPhi) / (1 + eSinPhi), this.eOver2);
     return t;
   }
 }
@@ -0,0 +1,127 @@
+package org.jeometry.coordinatesystem.operation.projection;
+
+/**
+ * Fourier series to convert auxiliary latitudes to geodetic latitude. The
+ * coefficients are 6th order in the third flattening n (Karney 2011, "Transverse
+ * Mercator with an accuracy of a few nanometers" and Karney 2023, "On auxiliary
+ * latitudes") which is accurate to machine precision for terrestrial
+ * ellipsoids. The series are evaluated with Clenshaw summation so the cost is
+ * one sin and one cos regardless of the latitude.
+ */
+final class LatitudeSeries {
+
+  /**
+   * Get the coefficients to convert authalic latitude (β) to geodetic latitude
+   * (φ).
+   *
+   * @param e The eccentricity.
+   * @return The coefficients of sin(2β) to sin(12β).
+   */
+  static double[] authalicToGeodetic(final double e) {
+    final double n = thirdFlattening(e);
+    final double n2 = n * n;
+    final double n3 = n2 * n;
+    final double n4 = n3 * n;
+    final double n5 = n4 * n;
+    final double n6 = n5 * n;
+    return new double[] {
+      4 * n / 3 + 4 * n2 / 45 - 16 * n3 / 35 - 2582 * n4 / 14175 + 60136 * n5 / 467775
+        + 28112932 * n6 / 212837625,
+      46 * n2 / 45 + 152 * n3 / 945 - 11966 * n4 / 14175 - 21016 * n5 / 51975
+        + 251310128 * n6 / 638512875,
+      3044 * n3 / 2835 + 3802 * n4 / 14175 - 94388 * n5 / 66825 - 8797648 * n6 / 10945935,
+      6059 * n4 / 4725 + 41072 * n5 / 93555 - 1472637812.0 * n6 / 638512875,
+      768272 * n5 / 467775 + 455935736 * n6 / 638512875,
+      4210684958.0 * n6 / 1915538625
+    };
+  }
+
+  /**
+   * Get the coefficients to convert conformal latitude (χ) to geodetic latitude
+   * (φ).
+   *
+   * @param e The eccentricity.
+   * @return The coefficients of sin(2χ) to sin(12χ).
+   */
+  static double[] conformalToGeodetic(final double e) {
+    final double n = thirdFlattening(e);
+    final double n2 = n * n;
+    final double n3 = n2 * n;
+    final double n4 = n3 * n;
+    final double n5 = n4 * n;
+    final double n6 = n5 * n;
+    return new double[] {
+      2 * n - 2 * n2 / 3 - 2 * n3 + 116 * n4 / 45 + 26 * n5 / 45 - 2854 * n6 / 675,
+      7 * n2 / 3 - 8 * n3 / 5 - 227 * n4 / 45 + 2704 * n5 / 315 + 2323 * n6 / 945,
+      56 * n3 / 15 - 136 * n4 / 35 - 1262 * n5 / 105 + 73814 * n6 / 2835,
+      4279 * n4 / 630 - 332 * n5 / 35 - 399572 * n6 / 14175,
+      4174 * n5 / 315 - 144838 * n6 / 6237,
+      601676 * n6 / 22275
+    };
+  }
+
+  /**
+   * Get the sum of the sine series.
+   *
+   * <pre>
+   * x + Σ c[k-1] sin(2kx)
+   * </pre>
+   *
+   * @param coefficients The series coefficients.
+   * @param x The angle in radians.
+   * @return The sum in radians.
+   */
+  static double sinSeries(final double[] coefficients, final double x) {
+    return sinSeries(coefficients, x, Math.sin(2 * x), Math.cos(2 * x));
+  }
+
+  /**
+   * Get the sum of the sine series using the sin(2x) and cos(2x) already
+   * calculated by the caller.
+   *
+   * @param coefficients The series coefficients.
+   * @param x The angle in radians.
+   * @param sin2x sin(2x).
+   * @param cos2x cos(2x).
+   * @return The sum in radians.
+   */
+  static double sinSeries(final double[] coefficients, final double x, final double sin2x,
+    final double cos2x) {
+    final double twoCos2x = 2 * cos2x;
+    double b1 = 0;
+    double b2 = 0;
+    for (int k = coefficients.length - 1; k >= 0; k--) {
+      final double b = coefficients[k] + twoCos2x * b1 - b2;
+      b2 = b1;
+      b1 = b;
+    }
+    return x + b1 * sin2x;
+  }
+
+  /**
+   * n = (a - b) / (a + b)
+   */
+  static double thirdFlattening(final double e) {
+    final double b = Math.sqrt(1 - e * e);
+    return (1 - b) / (1 + b);
+  }
+
+  /**
+   * Get the geodetic latitude from the auxiliary latitude.
+   *
+   * @param coefficients The series coefficients.
+   * @param x The auxiliary latitude in radians.
+   * @return The geodetic latitude in radians.
+   */
+  static double toGeodetic(final double[] coefficients, final double x) {
+    return sinSeries(coefficients, x);
+  }
+
+  static double toGeodetic(final double[] coefficients, final double x, final double sin2x,
+    final double cos2x) {
+    return sinSeries(coefficients, x, sin2x, cos2x);
+  }
+
+  private LatitudeSeries() {
+  }
+}
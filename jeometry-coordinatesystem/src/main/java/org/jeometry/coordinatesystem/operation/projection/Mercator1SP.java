@@ -10,6 +10,8 @@ public class Mercator1SP extends AbstractCoordinatesProjection {
 
   private final double a;
 
+  private final double[] conformalCoefficients;
+
   private final double e;
 
   private final double eOver2;
@@ -30,6 +32,7 @@ public class Mercator1SP extends AbstractCoordinatesProjection {
     this.a = ellipsoid.getSemiMajorAxis();
     this.e = ellipsoid.getEccentricity();
     this.eOver2 = this.e / 2;
+    this.conformalCoefficients = LatitudeSeries.conformalToGeodetic(this.e);
 
   }
 
@@ -40,17 +43,8 @@ public class Mercator1SP extends AbstractCoordinatesProjection {
 
     final double λ = dX / this.a + this.λ0;
 
-    final double t = Math.pow(Math.E, -dY / this.a);
-    // TODO φ
-    double φ = Angle.PI_OVER_2 - 2 * Math.atan(t);
-    double delta = 10e010;
-    do {
-      final double eSinPhi = this.e * Math.sin(φ);
-      final double φ1 = Angle.PI_OVER_2
-        - 2 * Math.atan(t * Math.pow((1 - eSinPhi) / (1 + eSinPhi), this.eOver2));
-      delta = Math.abs(φ1 - φ);
-      φ = φ1;
-    } while (delta > 1.0e-011);
+    final double χ = Math.atan(Math.sinh(dY / this.a));
+    final double φ = LatitudeSeries.toGeodetic(this.conformalCoefficients, χ);
 
     point.x = λ;
     point.y = φ;
@@ -40,6 +40,22 @@ public class Mercator1SPSpherical extends AbstractCoordinatesProjection {
     point.y = φ;
   }
 
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final double r = this.r;
+    final double λ0 = this.λ0;
+    final double x0 = this.x0;
+    final double y0 = this.y0;
+    for (int i = 0; i < count; i++) {
+      targetXs[targetOffset + i] = (sourceXs[sourceOffset + i] - x0) / r + λ0;
+    }
+    for (int i = 0; i < count; i++) {
+      final double dY = sourceYs[sourceOffset + i] - y0;
+      targetYs[targetOffset + i] = Angle.PI_OVER_2 - 2 * Math.atan(Math.pow(Math.E, -dY / r));
+    }
+  }
+
   @Override
   public void project(final CoordinatesOperationPoint point) {
     final double λ = point.x;
@@ -50,4 +66,19 @@ public class Mercator1SPSpherical extends AbstractCoordinatesProjection {
     point.y = this.y0 + r2 * Math.log(Math.tan(Angle.PI_OVER_4 + φ / 2));
   }
 
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final double r = this.r;
+    final double λ0 = this.λ0;
+    final double x0 = this.x0;
+    final double y0 = this.y0;
+    for (int i = 0; i < count; i++) {
+      targetXs[targetOffset + i] = x0 + r * (sourceXs[sourceOffset + i] - λ0);
+    }
+    for (int i = 0; i < count; i++) {
+      final double φ = sourceYs[sourceOffset + i];
+      targetYs[targetOffset + i] = y0 + r * Math.log(Math.tan(Angle.PI_OVER_4 + φ / 2));
+    }
+  }
 }
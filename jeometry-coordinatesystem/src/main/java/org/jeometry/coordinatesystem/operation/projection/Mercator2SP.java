@@ -10,6 +10,8 @@ public class Mercator2SP extends AbstractCoordinatesProjection {
 
   private final double a;
 
+  private final double[] conformalCoefficients;
+
   private final double e;
 
   private final double eOver2;
@@ -34,6 +36,7 @@ public class Mercator2SP extends AbstractCoordinatesProjection {
     this.a = ellipsoid.getSemiMajorAxis();
     this.e = ellipsoid.getEccentricity();
     this.eOver2 = this.e / 2;
+    this.conformalCoefficients = LatitudeSeries.conformalToGeodetic(this.e);
     this.φ1 = cs.getDoubleParameter(NormalizedParameterNames.STANDARD_PARALLEL_1);
     final double sinPhi1 = Math.sin(this.φ1);
     this.multiple = Math.cos(this.φ1) / Math.sqrt(1 - this.e * this.e * sinPhi1 * sinPhi1);
@@ -46,16 +49,8 @@ public class Mercator2SP extends AbstractCoordinatesProjection {
 
     final double λ = dX / this.a + this.λ0;
 
-    final double t = Math.pow(Math.E, -dY / this.a);
-    double φ = Angle.PI_OVER_2 - 2 * Math.atan(t);
-    double delta = 10e010;
-    do {
-      final double eSinPhi = this.e * Math.sin(φ);
-      final double φ1 = Angle.PI_OVER_2
-        - 2 * Math.atan(t * Math.pow((1 - eSinPhi) / (1 + eSinPhi), this.eOver2));
-      delta = Math.abs(φ1 - φ);
-      φ = φ1;
-    } while (delta > 1.0e-011);
+    final double χ = Math.atan(Math.sinh(dY / this.a));
+    final double φ = LatitudeSeries.toGeodetic(this.conformalCoefficients, χ);
 
     point.x = λ;
     point.y = φ;
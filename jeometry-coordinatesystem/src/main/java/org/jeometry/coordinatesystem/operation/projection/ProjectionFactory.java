@@ -2,19 +2,83 @@ package org.jeometry.coordinatesystem.operation.projection;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.jeometry.coordinatesystem.model.CoordinateOperationMethod;
 import org.jeometry.coordinatesystem.model.ProjectedCoordinateSystem;
+import org.slf4j.LoggerFactory;
 
+/**
+ * The factories to create the projection for a coordinate operation method
+ * name. The Transverse Mercator implementation is selected using the system
+ * property {@value #TRANSVERSE_MERCATOR_PROPERTY} with one of the values usgs
+ * (default), kruger, thomas or jhs.
+ */
 public final class ProjectionFactory {
-  /** The map from projection names to projection classes. */
-  private static final Map<String, Class<? extends CoordinatesProjection>> projectionClasses = new HashMap<>();
+  public static final String TRANSVERSE_MERCATOR_PROPERTY = "org.jeometry.coordinatesystem.transverseMercator";
+
+  /** The map from projection names to projection factories. */
+  private static final Map<String, Function<ProjectedCoordinateSystem, CoordinatesProjection>> FACTORY_BY_NAME = new ConcurrentHashMap<>();
 
   static {
+    registerCoordinatesProjection(CoordinateOperationMethod.ALBERS_EQUAL_AREA,
+      AlbersConicEqualArea::new);
+    Function<ProjectedCoordinateSystem, CoordinatesProjection> transverseMercatorFactory;
+    try {
+      transverseMercatorFactory = getTransverseMercatorFactory(
+        System.getProperty(TRANSVERSE_MERCATOR_PROPERTY));
+    } catch (final IllegalArgumentException e) {
+      LoggerFactory.getLogger(ProjectionFactory.class).error(e.getMessage());
+      transverseMercatorFactory = TransverseMercatorUsgs::new;
+    }
+    registerCoordinatesProjection(CoordinateOperationMethod.TRANSVERSE_MERCATOR,
+      transverseMercatorFactory);
+    registerCoordinatesProjection(CoordinateOperationMethod.MERCATOR, Mercator1SP::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.POPULAR_VISUALISATION_PSEUDO_MERCATOR,
+      WebMercator::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.MERCATOR_1SP, Mercator1SP::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.MERCATOR_2SP, Mercator2SP::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.MERCATOR_1SP_SPHERICAL,
+      Mercator1SPSpherical::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.LAMBERT_CONIC_CONFORMAL_1SP,
+      LambertConicConformal1SP::new);
+    registerCoordinatesProjection(CoordinateOperationMethod.LAMBERT_CONIC_CONFORMAL_2SP,
+      LambertConicConformal::new);
     registerCoordinatesProjection(CoordinateOperationMethod.LAMBERT_CONIC_CONFORMAL_2SP_BELGIUM,
-      LambertConicConformal.class);
+      LambertConicConformal::new);
+  }
+
+  public static Function<ProjectedCoordinateSystem, CoordinatesProjection> getFactory(
+    final String name) {
+    if (name == null) {
+      return null;
+    } else {
+      return FACTORY_BY_NAME.get(name);
+    }
+  }
+
+  /**
+   * Get the factory for the Transverse Mercator implementation.
+   *
+   * @param name The implementation name (usgs, kruger, thomas or jhs), null for
+   *          usgs.
+   * @return The factory.
+   */
+  public static Function<ProjectedCoordinateSystem, CoordinatesProjection> getTransverseMercatorFactory(
+    final String name) {
+    if (name == null || name.isEmpty() || "usgs".equalsIgnoreCase(name)) {
+      return TransverseMercatorUsgs::new;
+    } else if ("kruger".equalsIgnoreCase(name)) {
+      return TransverseMercatorKruger::new;
+    } else if ("thomas".equalsIgnoreCase(name)) {
+      return TransverseMercatorThomas::new;
+    } else if ("jhs".equalsIgnoreCase(name)) {
+      return TransverseMercatorJhs::new;
+    } else {
+      throw new IllegalArgumentException("Unknown Transverse Mercator implementation: " + name);
+    }
   }
 
   public static CoordinatesProjection newCoordinatesProjection(
@@ -22,48 +86,61 @@ public final class ProjectionFactory {
     final CoordinateOperationMethod coordinateOperationMethod = coordinateSystem
       .getCoordinateOperationMethod();
     final String projectionName = coordinateOperationMethod.getNormalizedName();
-    synchronized (projectionClasses) {
-      final Class<? extends CoordinatesProjection> projectionClass = projectionClasses
-        .get(projectionName);
-      if (projectionClass == null) {
-        return null;
-      } else {
-        try {
-          final Constructor<? extends CoordinatesProjection> constructor = projectionClass
-            .getConstructor(ProjectedCoordinateSystem.class);
-          final CoordinatesProjection coordinateProjection = constructor
-            .newInstance(coordinateSystem);
-          return coordinateProjection;
-        } catch (final NoSuchMethodException e) {
-          throw new IllegalArgumentException("Constructor " + projectionClass + "("
-            + ProjectedCoordinateSystem.class.getName() + ") does not exist");
-        } catch (final InstantiationException e) {
-          throw new IllegalArgumentException(projectionClass + " cannot be instantiated", e);
-        } catch (final IllegalAccessException e) {
-          throw new IllegalArgumentException(projectionClass + " cannot be instantiated", e);
-        } catch (final InvocationTargetException e) {
-          final Throwable cause = e.getCause();
-          if (cause instanceof RuntimeException) {
-            throw (RuntimeException)cause;
-          } else if (cause instanceof Error) {
-            throw (Error)cause;
-          } else {
-            throw new IllegalArgumentException(projectionClass + " cannot be instantiated", cause);
-          }
-        }
-      }
+    final Function<ProjectedCoordinateSystem, CoordinatesProjection> factory = getFactory(
+      projectionName);
+    if (factory == null) {
+      return null;
+    } else {
+      return factory.apply(coordinateSystem);
     }
   }
 
   /**
-   * Register a projection for the named projection.
+   * Register a projection for the named projection. The projection class must
+   * have a public constructor with a {@link ProjectedCoordinateSystem}
+   * parameter.
    *
    * @param name The name.
    * @param projectionClass The projection class.
+   * @deprecated Use {@link #registerCoordinatesProjection(String, Function)}.
    */
+  @Deprecated
   public static void registerCoordinatesProjection(final String name,
     final Class<? extends CoordinatesProjection> projectionClass) {
-    projectionClasses.put(name, projectionClass);
+    final Constructor<? extends CoordinatesProjection> constructor;
+    try {
+      constructor = projectionClass.getConstructor(ProjectedCoordinateSystem.class);
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalArgumentException("Constructor " + projectionClass + "("
+        + ProjectedCoordinateSystem.class.getName() + ") does not exist");
+    }
+    registerCoordinatesProjection(name, coordinateSystem -> {
+      try {
+        return constructor.newInstance(coordinateSystem);
+      } catch (final InstantiationException | IllegalAccessException e) {
+        throw new IllegalArgumentException(projectionClass + " cannot be instantiated", e);
+      } catch (final InvocationTargetException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+          throw (Error)cause;
+        } else {
+          throw new IllegalArgumentException(projectionClass + " cannot be instantiated", cause);
+        }
+      }
+    });
+  }
+
+  /**
+   * Register a projection factory for the named projection.
+   *
+   * @param name The name.
+   * @param factory The factory to create the projection for a coordinate system.
+   */
+  public static void registerCoordinatesProjection(final String name,
+    final Function<ProjectedCoordinateSystem, CoordinatesProjection> factory) {
+    FACTORY_BY_NAME.put(name, factory);
   }
 
   private ProjectionFactory() {
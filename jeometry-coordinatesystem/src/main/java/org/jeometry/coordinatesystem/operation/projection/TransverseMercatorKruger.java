@@ -0,0 +1,261 @@
+package org.jeometry.coordinatesystem.operation.projection;
+
+import org.jeometry.coordinatesystem.model.Ellipsoid;
+import org.jeometry.coordinatesystem.model.NormalizedParameterNames;
+import org.jeometry.coordinatesystem.model.ProjectedCoordinateSystem;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+
+/**
+ * An implementation of the Transverse Mercator projection using Krüger's
+ * series to 6th order in the third flattening n. See Karney 2011, <a href=
+ * "https://doi.org/10.1007/s00190-011-0445-3">Transverse Mercator with an
+ * accuracy of a few nanometers</a>. The error is less than 1mm within 3900km of
+ * the central meridian.
+ *
+ * The series in sin(2jζ) of the complex angle ζ = ξ + iη are evaluated with
+ * complex Clenshaw summation, so the project and inverse have a fixed cost
+ * without iteration.
+ */
+public class TransverseMercatorKruger extends TransverseMercator {
+
+  public static TransverseMercatorKruger newUtm(final Ellipsoid ellipsoid,
+    final double utmReferenceMeridian) {
+    return new TransverseMercatorKruger("UTM", ellipsoid, utmReferenceMeridian, 0, 0.9996, 500000,
+      0);
+  }
+
+  /** e / 2. */
+  private final double eOver2;
+
+  /** Rectifying radius A multiplied by the scale factor. */
+  private final double kA;
+
+  /** Coefficients of sin(2jζ') to get ζ from ζ'. */
+  private final double[] α;
+
+  /** Coefficients of sin(2jζ) to get ζ' from ζ. */
+  private final double[] β;
+
+  /** Coefficients to convert the conformal latitude to geodetic latitude. */
+  private final double[] conformalCoefficients;
+
+  private final double e;
+
+  /** Northing of the latitude of origin on the central meridian. */
+  private final double mo;
+
+  /**
+   * Construct a new TransverseMercator projection.
+   *
+   * @param coordinateSystem The coordinate system.
+   */
+  public TransverseMercatorKruger(final ProjectedCoordinateSystem coordinateSystem) {
+    this(//
+      coordinateSystem.getCoordinateSystemName(), //
+      coordinateSystem.getEllipsoid(), //
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.CENTRAL_MERIDIAN), //
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.LATITUDE_OF_ORIGIN), //
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.SCALE_FACTOR), //
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.FALSE_EASTING), //
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.FALSE_NORTHING) //
+    );
+  }
+
+  public TransverseMercatorKruger(final String name, final Ellipsoid ellipsoid,
+    final double longitudeOrigin, final double latitudeOrigin, final double ko, final double xo,
+    final double yo) {
+    super(name, ellipsoid, longitudeOrigin, latitudeOrigin, ko, xo, yo);
+    this.e = ellipsoid.getEccentricity();
+    this.eOver2 = this.e / 2;
+    final double n = LatitudeSeries.thirdFlattening(this.e);
+    final double n2 = n * n;
+    final double n3 = n2 * n;
+    final double n4 = n3 * n;
+    final double n5 = n4 * n;
+    final double n6 = n5 * n;
+    this.kA = ko * this.a / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+    this.α = new double[] {
+      n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180 - 127 * n5 / 288 + 7891 * n6 / 37800,
+      13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440 + 281 * n5 / 630 - 1983433 * n6 / 1935360,
+      61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880 + 167603 * n6 / 181440,
+      49561 * n4 / 161280 - 179 * n5 / 168 + 6601661 * n6 / 7257600,
+      34729 * n5 / 80640 - 3418889 * n6 / 1995840,
+      212378941 * n6 / 319334400
+    };
+    this.β = new double[] {
+      n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800,
+      n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720,
+      17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720,
+      4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600,
+      4583 * n5 / 161280 - 108847 * n6 / 3991680,
+      20648693 * n6 / 638668800
+    };
+    this.conformalCoefficients = LatitudeSeries.conformalToGeodetic(this.e);
+    final double χo = Math.atan(conformalTan(Math.sin(this.φo), Math.cos(this.φo)));
+    this.mo = this.kA * LatitudeSeries.sinSeries(this.α, χo);
+  }
+
+  /**
+   * Get tan(χ) of the conformal latitude χ.
+   *
+   * <pre>
+   * σ = sinh(e atanh(e sin φ)) = (p - 1 / p) / 2
+   * p = ((1 + e sin φ) / (1 - e sin φ)) ^ (e / 2)
+   * tan χ = (sin φ sqrt(1 + σ²) - σ) / cos φ
+   * </pre>
+   *
+   * @param sinφ The sin of the geodetic latitude.
+   * @param cosφ The cos of the geodetic latitude.
+   * @return tan(χ).
+   */
+  private double conformalTan(final double sinφ, final double cosφ) {
+    final double eSinφ = this.e * sinφ;
+    final double p = Math.exp(this.eOver2 * Math.log((1 + eSinφ) / (1 - eSinφ)));
+    final double σ = (p - 1 / p) / 2;
+    final double sqrt1PlusΣ2 = (p + 1 / p) / 2;
+    return (sinφ * sqrt1PlusΣ2 - σ) / cosφ;
+  }
+
+  /**
+   * Project the projected coordinates in metres to lon/lat cordinates in radians.
+   *
+   * <pre>
+   * ζ' = ζ - Σ β[j-1] sin(2jζ)
+   * χ = atan(sin ξ' / sqrt(sinh² η' + cos² ξ'))
+   * λ = λo + atan2(sinh η', cos ξ')
+   * </pre>
+   *
+   * @param point The coordinates to convert.
+   */
+  @Override
+  public void inverse(final CoordinatesOperationPoint point) {
+    inverse(point.x, point.y, point);
+  }
+
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      inverse(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void inverse(final double x, final double y, final CoordinatesOperationPoint target) {
+    final double ξ = (y - this.yo + this.mo) / this.kA;
+    final double η = (x - this.xo) / this.kA;
+
+    final double sin2ξ = Math.sin(2 * ξ);
+    final double cos2ξ = Math.cos(2 * ξ);
+    final double exp2η = Math.exp(2 * η);
+    final double sinh2η = (exp2η - 1 / exp2η) / 2;
+    final double cosh2η = (exp2η + 1 / exp2η) / 2;
+
+    final double[] β = this.β;
+    final double ar = 2 * cos2ξ * cosh2η;
+    final double ai = -2 * sin2ξ * sinh2η;
+    double b1r = 0;
+    double b1i = 0;
+    double b2r = 0;
+    double b2i = 0;
+    for (int j = β.length - 1; j >= 0; j--) {
+      final double br = β[j] + ar * b1r - ai * b1i - b2r;
+      final double bi = ar * b1i + ai * b1r - b2i;
+      b2r = b1r;
+      b2i = b1i;
+      b1r = br;
+      b1i = bi;
+    }
+    final double sr = sin2ξ * cosh2η;
+    final double si = cos2ξ * sinh2η;
+    final double ξPrime = ξ - (sr * b1r - si * b1i);
+    final double ηPrime = η - (sr * b1i + si * b1r);
+
+    final double sinξPrime = Math.sin(ξPrime);
+    final double cosξPrime = Math.cos(ξPrime);
+    final double expηPrime = Math.exp(ηPrime);
+    final double sinhηPrime = (expηPrime - 1 / expηPrime) / 2;
+    final double coshηPrime = (expηPrime + 1 / expηPrime) / 2;
+    final double r = Math.sqrt(sinhηPrime * sinhηPrime + cosξPrime * cosξPrime);
+    final double χ = Math.atan2(sinξPrime, r);
+    // sin(χ) = sin(ξ') / cosh(η'), cos(χ) = r / cosh(η')
+    final double sinχ = sinξPrime / coshηPrime;
+    final double cosχ = r / coshηPrime;
+
+    target.x = this.λo + Math.atan2(sinhηPrime, cosξPrime);
+    target.y = LatitudeSeries.toGeodetic(this.conformalCoefficients, χ, 2 * sinχ * cosχ,
+      cosχ * cosχ - sinχ * sinχ);
+  }
+
+  /**
+   * Project the lon/lat ordinates in radians to projected coordinates in metres.
+   *
+   * <pre>
+   * ξ' = atan2(tan χ, cos λ)
+   * η' = asinh(sin λ / sqrt(tan² χ + cos² λ))
+   * ζ = ζ' + Σ α[j-1] sin(2jζ')
+   * </pre>
+   *
+   * @param point The coordinates to convert.
+   */
+  @Override
+  public void project(final CoordinatesOperationPoint point) {
+    project(point.x, point.y, point);
+  }
+
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      project(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void project(final double lon, final double φ, final CoordinatesOperationPoint target) {
+    final double λ = lon - this.λo;
+
+    final double tanχ = conformalTan(Math.sin(φ), Math.cos(φ));
+    final double cosλ = Math.cos(λ);
+    final double r = Math.sqrt(tanχ * tanχ + cosλ * cosλ);
+    final double ξPrime = Math.atan2(tanχ, cosλ);
+    final double sinξ = tanχ / r;
+    final double cosξ = cosλ / r;
+    final double sin2ξ = 2 * sinξ * cosξ;
+    final double cos2ξ = cosξ * cosξ - sinξ * sinξ;
+
+    // sinh(η') = s, cosh(η') = sqrt(1 + s²)
+    final double s = Math.sin(λ) / r;
+    final double sqrt1PlusS2 = Math.sqrt(1 + s * s);
+    final double ηPrime = Math.copySign(Math.log(Math.abs(s) + sqrt1PlusS2), s);
+    final double sinh2η = 2 * s * sqrt1PlusS2;
+    final double cosh2η = 1 + 2 * s * s;
+
+    final double[] α = this.α;
+    final double ar = 2 * cos2ξ * cosh2η;
+    final double ai = -2 * sin2ξ * sinh2η;
+    double b1r = 0;
+    double b1i = 0;
+    double b2r = 0;
+    double b2i = 0;
+    for (int j = α.length - 1; j >= 0; j--) {
+      final double br = α[j] + ar * b1r - ai * b1i - b2r;
+      final double bi = ar * b1i + ai * b1r - b2i;
+      b2r = b1r;
+      b2i = b1i;
+      b1r = br;
+      b1i = bi;
+    }
+    final double sr = sin2ξ * cosh2η;
+    final double si = cos2ξ * sinh2η;
+    final double ξ = ξPrime + sr * b1r - si * b1i;
+    final double η = ηPrime + sr * b1i + si * b1r;
+
+    target.x = this.xo + this.kA * η;
+    target.y = this.yo + this.kA * ξ - this.mo;
+  }
+}
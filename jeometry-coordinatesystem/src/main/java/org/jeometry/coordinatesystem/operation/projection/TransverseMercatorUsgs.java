@@ -33,6 +33,17 @@ public class TransverseMercatorUsgs extends TransverseMercator {
 
   private final double sqrt1MinusESq;
 
+  /** The coefficients of φ, sin(2φ), sin(4φ) and sin(6φ) in m(φ). */
+  private final double mφFactor;
+
+  private final double mSin2φFactor;
+
+  private final double mSin4φFactor;
+
+  private final double mSin6φFactor;
+
+  private final double aTimes1MinusEPow2;
+
   /** The value of m at the latitude of origin. */
   private final double mo;
 
@@ -73,6 +84,11 @@ public class TransverseMercatorUsgs extends TransverseMercator {
 
     this.ePow4 = Math.pow(this.ePow2, 2);
     this.ePow6 = Math.pow(this.ePow2, 3);
+    this.mφFactor = 1 - this.ePow2 / 4 - 3 * this.ePow4 / 64 - 5 * this.ePow6 / 256;
+    this.mSin2φFactor = 3 * this.ePow2 / 8 + 3 * this.ePow4 / 32 + 45 * this.ePow6 / 1024;
+    this.mSin4φFactor = 15 * this.ePow4 / 256 + 45 * this.ePow6 / 1024;
+    this.mSin6φFactor = 35 * this.ePow6 / 3072;
+    this.aTimes1MinusEPow2 = this.a * (1 - this.ePow2);
     this.mo = m(φ0);
     this.ePrimePow2 = this.ePow2 / (1 - this.ePow2);
 
@@ -128,12 +144,27 @@ public class TransverseMercatorUsgs extends TransverseMercator {
    */
   @Override
   public void inverse(final CoordinatesOperationPoint point) {
+    inverse(point.x, point.y, point);
+  }
+
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      inverse(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void inverse(final double x, final double y, final CoordinatesOperationPoint target) {
     final double ePow2 = this.ePow2;
     final double a = this.a;
     final double ko = this.ko;
     final double ePrimePow2 = this.ePrimePow2;
 
-    final double M1 = this.mo + (point.y - this.yo) / ko;
+    final double M1 = this.mo + (y - this.yo) / ko;
     final double μ1 = M1 / this.aTimes1MinusEsqDiv4MinesEPow4Times3Div64MinusEPow6Times5Div256;
     final double φ1 = μ1 + this.threeTimesE1Div2Minus27TimeE1Pow3Div32 * Math.sin(2 * μ1)
       + this.e1Pow2Times21Div16MinusE1Pow4Times55Div32 * Math.sin(4 * μ1)
@@ -145,9 +176,9 @@ public class TransverseMercatorUsgs extends TransverseMercator {
     final double sinφPow2 = Math.pow(sinφ, 2);
     final double oneMinusESqSinφ1Sq = 1 - ePow2 * sinφPow2;
     final double ν1 = a / Math.sqrt(oneMinusESqSinφ1Sq);
-    final double ρ1 = a * (1 - ePow2) / Math.pow(oneMinusESqSinφ1Sq, 1.5);
+    final double ρ1 = this.aTimes1MinusEPow2 / Math.pow(oneMinusESqSinφ1Sq, 1.5);
     final double C1 = ePrimePow2 * Math.pow(cosφ1, 2);
-    final double D = (point.x - this.xo) / (ν1 * ko);
+    final double D = (x - this.xo) / (ν1 * ko);
     final double D2 = Math.pow(D, 2);
     final double D3 = Math.pow(D, 3);
     final double D4 = Math.pow(D, 4);
@@ -158,9 +189,9 @@ public class TransverseMercatorUsgs extends TransverseMercator {
 
     final double C12 = Math.pow(C1, 2);
 
-    point.x = this.λo + (D - (1 + 2 * T1 + C1) * D3 / 6
+    target.x = this.λo + (D - (1 + 2 * T1 + C1) * D3 / 6
       + (5 - 2 * C1 + 28 * T1 - 3 * C12 + 8 * ePrimePow2 + 24 * T12) * D5 / 120) / cosφ1;
-    point.y = φ1
+    target.y = φ1
       - ν1 * tanφ1 / ρ1 * (D2 / 2 - (5 + 3 * T1 + 10 * C1 - 4 * C12 - 9 * ePrimePow2) * D4 / 24
         + (61 + 90 * T1 + 298 * C1 + 45 * T12 - 252 * ePrimePow2 - 3 * C12) * D6 / 720);
   }
@@ -182,10 +213,8 @@ public class TransverseMercatorUsgs extends TransverseMercator {
    * @return The value of m.
    */
   private double m(final double φ) {
-    return this.a * ((1 - this.ePow2 / 4 - 3 * this.ePow4 / 64 - 5 * this.ePow6 / 256) * φ
-      - (3 * this.ePow2 / 8 + 3 * this.ePow4 / 32 + 45 * this.ePow6 / 1024) * Math.sin(2 * φ)
-      + (15 * this.ePow4 / 256 + 45 * this.ePow6 / 1024) * Math.sin(4 * φ)
-      - 35 * this.ePow6 / 3072 * Math.sin(6 * φ));
+    return this.a * (this.mφFactor * φ - this.mSin2φFactor * Math.sin(2 * φ)
+      + this.mSin4φFactor * Math.sin(4 * φ) - this.mSin6φFactor * Math.sin(6 * φ));
   }
 
   /**
@@ -212,8 +241,21 @@ public class TransverseMercatorUsgs extends TransverseMercator {
    */
   @Override
   public void project(final CoordinatesOperationPoint point) {
-    final double λ = point.x;
-    final double φ = point.y;
+    project(point.x, point.y, point);
+  }
+
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      project(sourceXs[sourceOffset + i], sourceYs[sourceOffset + i], point);
+      targetXs[targetOffset + i] = point.x;
+      targetYs[targetOffset + i] = point.y;
+    }
+  }
+
+  private void project(final double λ, final double φ, final CoordinatesOperationPoint target) {
 
     final double ePrimePow2 = this.ePrimePow2;
     final double ko = this.ko;
@@ -235,9 +277,9 @@ public class TransverseMercatorUsgs extends TransverseMercator {
     final double a1Pow6 = Math.pow(a1, 6);
     final double m = m(φ);
 
-    point.x = this.xo + ko * nu * (a1 + (1 - tanφPow2 + c) * a1Pow3 / 6
+    target.x = this.xo + ko * nu * (a1 + (1 - tanφPow2 + c) * a1Pow3 / 6
       + (5 - 18 * tanφPow2 + tanφPow4 + 72 * c - 58 * ePrimePow2) * a1Pow5 / 120);
-    point.y = this.yo + ko
+    target.y = this.yo + ko
       * (m - this.mo + nu * tanφ * (a1Pow2 / 2 + (5 - tanφPow2 + 9 * c + 4 * cPow2) * a1Pow4 / 24
         + (61 - 58 * tanφPow2 + tanφPow4 + 600 * c - 330 * ePrimePow2) * a1Pow6 / 720));
   }
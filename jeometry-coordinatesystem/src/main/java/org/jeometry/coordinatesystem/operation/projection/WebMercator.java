@@ -37,6 +37,22 @@ public class WebMercator extends AbstractCoordinatesProjection {
     point.y = Angle.PI_OVER_2 - 2 * Math.atan(Math.exp((this.yo - y) / a));
   }
 
+  @Override
+  public void inverse(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final double a = this.a;
+    final double λo = this.λo;
+    final double xo = this.xo;
+    final double yo = this.yo;
+    for (int i = 0; i < count; i++) {
+      targetXs[targetOffset + i] = λo + (sourceXs[sourceOffset + i] - xo) / a;
+    }
+    for (int i = 0; i < count; i++) {
+      final double y = sourceYs[sourceOffset + i];
+      targetYs[targetOffset + i] = Angle.PI_OVER_2 - 2 * Math.atan(Math.exp((yo - y) / a));
+    }
+  }
+
   @Override
   public void project(final CoordinatesOperationPoint point) {
     final double λ = point.x;
@@ -46,6 +62,22 @@ public class WebMercator extends AbstractCoordinatesProjection {
     point.y = this.yo + a * Math.log(Math.tan(Angle.PI_OVER_4 + φ / 2));
   }
 
+  @Override
+  public void project(final double[] sourceXs, final double[] sourceYs, final int sourceOffset,
+    final double[] targetXs, final double[] targetYs, final int targetOffset, final int count) {
+    final double a = this.a;
+    final double λo = this.λo;
+    final double xo = this.xo;
+    final double yo = this.yo;
+    for (int i = 0; i < count; i++) {
+      targetXs[targetOffset + i] = xo + a * (sourceXs[sourceOffset + i] - λo);
+    }
+    for (int i = 0; i < count; i++) {
+      final double φ = sourceYs[sourceOffset + i];
+      targetYs[targetOffset + i] = yo + a * Math.log(Math.tan(Angle.PI_OVER_4 + φ / 2));
+    }
+  }
+
   @Override
   public String toString() {
     return this.name;
@@ -0,0 +1,540 @@
+package org.jeometry.coordinatesystem.operation.projection;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Tile pyramid calculations for the spherical Web Mercator (EPSG 3857)
+ * projection used by XYZ tile servers. Tile (0, 0) is the top left (north
+ * west) tile and zoom z has 2^z x 2^z tiles.
+ *
+ * Points are converted to fixed point world coordinates with
+ * {@link #WORLD_BITS} bits, so the tile and pixel indexes for a zoom are
+ * calculated using shifts with the shift amounts cached for each zoom. None of
+ * the tile lookup methods allocate objects.
+ *
+ * Quad keys are stored in a long with the Morton (Z-order) interleaved tile
+ * x/y in the upper bits and the zoom in the lower 5 bits. Each 2 bits of the
+ * interleaved value is one digit of the Bing Maps quad key string. This
+ * limits the zoom to {@link #MAX_ZOOM} so the quad key fits in 63 bits.
+ */
+public class WebMercatorTiles {
+
+  /**
+   * Iterate through the quad keys of the tiles that cover an envelope, row by
+   * row from the north west tile. An instance can be reused for multiple
+   * envelopes by calling
+   * {@link #reset(int, double, double, double, double)}.
+   */
+  public static final class TileCover implements PrimitiveIterator.OfLong {
+    private final WebMercatorTiles tiles;
+
+    private int zoom;
+
+    private long minX;
+
+    private long maxX;
+
+    private long maxY;
+
+    private long x;
+
+    private long y;
+
+    private long minY;
+
+    private TileCover(final WebMercatorTiles tiles) {
+      this.tiles = tiles;
+      this.x = 0;
+      this.y = 1;
+      this.maxY = 0;
+    }
+
+    /**
+     * Get the number of tiles covering the envelope.
+     *
+     * @return The number of tiles.
+     */
+    public long getTileCount() {
+      return (this.maxX - this.minX + 1) * (this.maxY - this.minY + 1);
+    }
+
+    public int getZoom() {
+      return this.zoom;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.y <= this.maxY;
+    }
+
+    @Override
+    public long nextLong() {
+      if (this.y > this.maxY) {
+        throw new NoSuchElementException();
+      } else {
+        final long tileMask = (1L << this.zoom) - 1;
+        final long quadKey = quadKey(this.zoom, (int)(this.x & tileMask), (int)this.y);
+        if (this.x < this.maxX) {
+          this.x++;
+        } else {
+          this.x = this.minX;
+          this.y++;
+        }
+        return quadKey;
+      }
+    }
+
+    /**
+     * Start iterating the tiles covering the envelope. If minLon is greater
+     * than maxLon the envelope crosses the anti-meridian. Tiles that only touch
+     * the east or south edge of the envelope are not included.
+     *
+     * @param zoom The zoom level.
+     * @param minLon The west longitude in degrees.
+     * @param minLat The south latitude in degrees.
+     * @param maxLon The east longitude in degrees.
+     * @param maxLat The north latitude in degrees.
+     * @return This cover.
+     */
+    public TileCover reset(final int zoom, final double minLon, final double minLat,
+      final double maxLon, final double maxLat) {
+      final WebMercatorTiles tiles = this.tiles;
+      final int shift = tiles.tileShifts[checkZoom(zoom)];
+      final long westX = tiles.getWorldX(minLon);
+      final long eastX = tiles.getWorldX(maxLon);
+      final long northY = tiles.getWorldY(maxLat);
+      final long southY = tiles.getWorldY(minLat);
+      this.zoom = zoom;
+      this.minX = westX >>> shift;
+      if (minLon > maxLon) {
+        final long tileCount = 1L << zoom;
+        if (eastX == 0) {
+          // Only touches the west edge of tile 0
+          this.maxX = tileCount - 1;
+        } else {
+          // Tiles after wrapping are numbered from tileCount, each tile is only
+          // included once
+          this.maxX = Math.min((eastX - 1 >>> shift) + tileCount, this.minX + tileCount - 1);
+        }
+      } else {
+        this.maxX = Math.max(this.minX, Math.max(eastX - 1, 0) >>> shift);
+      }
+      this.minY = northY >>> shift;
+      this.maxY = Math.max(this.minY, Math.max(southY - 1, 0) >>> shift);
+      this.x = this.minX;
+      this.y = this.minY;
+      return this;
+    }
+  }
+
+  public static final double MAX_LATITUDE = 85.0511287798066;
+
+  public static final int MAX_ZOOM = 29;
+
+  /** The semi-major axis of the sphere used by EPSG 3857. */
+  public static final double SEMI_MAJOR_AXIS = 6378137;
+
+  /** The number of bits in the fixed point world coordinates. */
+  public static final int WORLD_BITS = 52;
+
+  private static final double WORLD_SIZE = 1L << WORLD_BITS;
+
+  private static final long WORLD_MAX = (1L << WORLD_BITS) - 1;
+
+  private static final int ZOOM_BITS = 5;
+
+  private static final double FOUR_PI = 4 * Math.PI;
+
+  private static int checkZoom(final int zoom) {
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      throw new IllegalArgumentException("zoom must be 0-" + MAX_ZOOM + ": " + zoom);
+    }
+    return zoom;
+  }
+
+  /**
+   * Reverse {@link #spread(int)}, taking every second bit.
+   */
+  private static int compact(final long value) {
+    long v = value & 0x5555555555555555L;
+    v = (v | v >>> 1) & 0x3333333333333333L;
+    v = (v | v >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+    v = (v | v >>> 4) & 0x00FF00FF00FF00FFL;
+    v = (v | v >>> 8) & 0x0000FFFF0000FFFFL;
+    v = (v | v >>> 16) & 0x00000000FFFFFFFFL;
+    return (int)v;
+  }
+
+  /**
+   * Parse a Bing Maps quad key string (e.g. "0231").
+   *
+   * @param quadKey The quad key string.
+   * @return The quad key.
+   * @throws IllegalArgumentException If the quad key is not valid.
+   */
+  public static long parseQuadKey(final CharSequence quadKey) {
+    final int zoom = quadKey.length();
+    if (zoom > MAX_ZOOM) {
+      throw new IllegalArgumentException("Quad key longer than " + MAX_ZOOM + ": " + quadKey);
+    }
+    long morton = 0;
+    for (int i = 0; i < zoom; i++) {
+      final char c = quadKey.charAt(i);
+      if (c >= '0' && c <= '3') {
+        morton = morton << 2 | c - '0';
+      } else {
+        throw new IllegalArgumentException("Quad key digits must be 0-3: " + quadKey);
+      }
+    }
+    return morton << ZOOM_BITS | zoom;
+  }
+
+  /**
+   * Get the quad key for the tile.
+   *
+   * @param zoom The zoom level.
+   * @param tileX The tile column.
+   * @param tileY The tile row.
+   * @return The quad key.
+   */
+  public static long quadKey(final int zoom, final int tileX, final int tileY) {
+    return (spread(tileX) | spread(tileY) << 1) << ZOOM_BITS | zoom;
+  }
+
+  public static int quadKeyX(final long quadKey) {
+    return compact(quadKey >>> ZOOM_BITS);
+  }
+
+  public static int quadKeyY(final long quadKey) {
+    return compact(quadKey >>> ZOOM_BITS + 1);
+  }
+
+  public static int quadKeyZoom(final long quadKey) {
+    return (int)(quadKey & (1 << ZOOM_BITS) - 1);
+  }
+
+  /**
+   * Spread the 32 bits of the value to the even bits of a long.
+   */
+  private static long spread(final int value) {
+    long v = value & 0xFFFFFFFFL;
+    v = (v | v << 16) & 0x0000FFFF0000FFFFL;
+    v = (v | v << 8) & 0x00FF00FF00FF00FFL;
+    v = (v | v << 4) & 0x0F0F0F0F0F0F0F0FL;
+    v = (v | v << 2) & 0x3333333333333333L;
+    v = (v | v << 1) & 0x5555555555555555L;
+    return v;
+  }
+
+  /**
+   * Write the quad key as a Bing Maps quad key string.
+   *
+   * @param quadKey The quad key.
+   * @param chars The array to write the digits to.
+   * @param offset The index to write the first digit to.
+   * @return The number of digits written (the zoom level).
+   */
+  public static int writeQuadKey(final long quadKey, final char[] chars, final int offset) {
+    final int zoom = quadKeyZoom(quadKey);
+    long morton = quadKey >>> ZOOM_BITS;
+    for (int i = offset + zoom - 1; i >= offset; i--) {
+      chars[i] = (char)('0' + (morton & 3));
+      morton >>>= 2;
+    }
+    return zoom;
+  }
+
+  private final double halfCircumference;
+
+  /** The degrees of longitude per pixel for each zoom. */
+  private final double[] pixelDegrees = new double[MAX_ZOOM + 1];
+
+  /** The number of pixel shifts from the world coordinates for each zoom. */
+  private final int[] pixelShifts = new int[MAX_ZOOM + 1];
+
+  /** The metres per pixel for each zoom. */
+  private final double[] resolutions = new double[MAX_ZOOM + 1];
+
+  /** The number of bits in the pixel index within a tile. */
+  private final int tileBits;
+
+  /** The number of tile shifts from the world coordinates for each zoom. */
+  private final int[] tileShifts = new int[MAX_ZOOM + 1];
+
+  private final int tileSize;
+
+  /** The width of a tile in metres for each zoom. */
+  private final double[] tileSizeMetres = new double[MAX_ZOOM + 1];
+
+  public WebMercatorTiles() {
+    this(256);
+  }
+
+  /**
+   * Construct a new tile pyramid.
+   *
+   * @param tileSize The tile width and height in pixels, must be a power of 2.
+   */
+  public WebMercatorTiles(final int tileSize) {
+    if (tileSize < 1 || Integer.bitCount(tileSize) != 1 || tileSize > 1 << 16) {
+      throw new IllegalArgumentException("tileSize must be a power of 2 <= 65536: " + tileSize);
+    }
+    this.tileSize = tileSize;
+    this.tileBits = Integer.numberOfTrailingZeros(tileSize);
+    this.halfCircumference = Math.PI * SEMI_MAJOR_AXIS;
+    for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+      this.tileShifts[zoom] = WORLD_BITS - zoom;
+      this.pixelShifts[zoom] = WORLD_BITS - zoom - this.tileBits;
+      this.pixelDegrees[zoom] = 360.0 / ((long)tileSize << zoom);
+      this.tileSizeMetres[zoom] = 2 * this.halfCircumference / (1L << zoom);
+      this.resolutions[zoom] = this.tileSizeMetres[zoom] / tileSize;
+    }
+  }
+
+  /**
+   * Get the bounds of the tile in lon/lat degrees.
+   *
+   * @param zoom The zoom level.
+   * @param tileX The tile column.
+   * @param tileY The tile row.
+   * @param bounds The array to write minLon, minLat, maxLon, maxLat to.
+   * @param offset The index to write minLon to.
+   */
+  public void getBoundsLonLat(final int zoom, final int tileX, final int tileY,
+    final double[] bounds, final int offset) {
+    bounds[offset] = getLon(zoom, tileX, 0);
+    bounds[offset + 1] = getLat(zoom, tileY, this.tileSize);
+    bounds[offset + 2] = getLon(zoom, tileX, this.tileSize);
+    bounds[offset + 3] = getLat(zoom, tileY, 0);
+  }
+
+  /**
+   * Get the bounds of the tile in EPSG 3857 metres.
+   *
+   * @param zoom The zoom level.
+   * @param tileX The tile column.
+   * @param tileY The tile row.
+   * @param bounds The array to write minX, minY, maxX, maxY to.
+   * @param offset The index to write minX to.
+   */
+  public void getBoundsMercator(final int zoom, final int tileX, final int tileY,
+    final double[] bounds, final int offset) {
+    final double tileSizeMetres = this.tileSizeMetres[checkZoom(zoom)];
+    final double minX = (double)tileX * tileSizeMetres - this.halfCircumference;
+    final double maxY = this.halfCircumference - (double)tileY * tileSizeMetres;
+    bounds[offset] = minX;
+    bounds[offset + 1] = maxY - tileSizeMetres;
+    bounds[offset + 2] = minX + tileSizeMetres;
+    bounds[offset + 3] = maxY;
+  }
+
+  /**
+   * Get the latitude of the pixel row in the tile.
+   *
+   * @param zoom The zoom level.
+   * @param tileY The tile row.
+   * @param pixelY The pixel row in the tile (0 is the north edge).
+   * @return The latitude in degrees.
+   */
+  public double getLat(final int zoom, final int tileY, final double pixelY) {
+    final double y = this.halfCircumference
+      - ((double)tileY * this.tileSize + pixelY) * this.resolutions[checkZoom(zoom)];
+    return Math.toDegrees(Math.PI / 2 - 2 * Math.atan(Math.exp(-y / SEMI_MAJOR_AXIS)));
+  }
+
+  /**
+   * Get the longitude of the pixel column in the tile.
+   *
+   * @param zoom The zoom level.
+   * @param tileX The tile column.
+   * @param pixelX The pixel column in the tile (0 is the west edge).
+   * @return The longitude in degrees.
+   */
+  public double getLon(final int zoom, final int tileX, final double pixelX) {
+    return ((double)tileX * this.tileSize + pixelX) * this.pixelDegrees[checkZoom(zoom)] - 180;
+  }
+
+  public int getPixelX(final int zoom, final double lon) {
+    return (int)(getWorldX(lon) >>> this.pixelShifts[checkZoom(zoom)]) & this.tileSize - 1;
+  }
+
+  public int getPixelY(final int zoom, final double lat) {
+    return (int)(getWorldY(lat) >>> this.pixelShifts[checkZoom(zoom)]) & this.tileSize - 1;
+  }
+
+  public long getQuadKey(final int zoom, final double lon, final double lat) {
+    final int shift = this.tileShifts[checkZoom(zoom)];
+    return quadKey(zoom, (int)(getWorldX(lon) >>> shift), (int)(getWorldY(lat) >>> shift));
+  }
+
+  /**
+   * Get the quad key of the tile for each of the interleaved lon/lat values.
+   *
+   * @param zoom The zoom level.
+   * @param lonLat The lon/lat values in degrees.
+   * @param lonLatOffset The index of the first lon.
+   * @param quadKeys The array to write the quad keys to.
+   * @param quadKeyOffset The index to write the first quad key to.
+   * @param count The number of points.
+   */
+  public void getQuadKeys(final int zoom, final double[] lonLat, final int lonLatOffset,
+    final long[] quadKeys, final int quadKeyOffset, final int count) {
+    final int shift = this.tileShifts[checkZoom(zoom)];
+    for (int i = 0; i < count; i++) {
+      final int lonLatIndex = lonLatOffset + i * 2;
+      final int tileX = (int)(getWorldX(lonLat[lonLatIndex]) >>> shift);
+      final int tileY = (int)(getWorldY(lonLat[lonLatIndex + 1]) >>> shift);
+      quadKeys[quadKeyOffset + i] = quadKey(zoom, tileX, tileY);
+    }
+  }
+
+  public double getResolution(final int zoom) {
+    return this.resolutions[checkZoom(zoom)];
+  }
+
+  /**
+   * Get the tiles covering the envelope.
+   *
+   * @param zoom The zoom level.
+   * @param minLon The west longitude in degrees.
+   * @param minLat The south latitude in degrees.
+   * @param maxLon The east longitude in degrees.
+   * @param maxLat The north latitude in degrees.
+   * @return The iterator of quad keys.
+   * @see TileCover#reset(int, double, double, double, double)
+   */
+  public TileCover getTileCover(final int zoom, final double minLon, final double minLat,
+    final double maxLon, final double maxLat) {
+    return newTileCover().reset(zoom, minLon, minLat, maxLon, maxLat);
+  }
+
+  /**
+   * Get the tile and pixel in the tile for each of the interleaved lon/lat
+   * values.
+   *
+   * @param zoom The zoom level.
+   * @param lonLat The lon/lat values in degrees.
+   * @param lonLatOffset The index of the first lon.
+   * @param tilePixels The array to write the tileX, tileY, pixelX, pixelY for
+   *          each point to.
+   * @param tilePixelOffset The index to write the first tileX to.
+   * @param count The number of points.
+   */
+  public void getTilePixels(final int zoom, final double[] lonLat, final int lonLatOffset,
+    final int[] tilePixels, final int tilePixelOffset, final int count) {
+    final int tileShift = this.tileBits;
+    final int pixelShift = this.pixelShifts[checkZoom(zoom)];
+    final int pixelMask = this.tileSize - 1;
+    for (int i = 0; i < count; i++) {
+      final int lonLatIndex = lonLatOffset + i * 2;
+      final long pixelX = getWorldX(lonLat[lonLatIndex]) >>> pixelShift;
+      final long pixelY = getWorldY(lonLat[lonLatIndex + 1]) >>> pixelShift;
+      final int index = tilePixelOffset + i * 4;
+      tilePixels[index] = (int)(pixelX >>> tileShift);
+      tilePixels[index + 1] = (int)(pixelY >>> tileShift);
+      tilePixels[index + 2] = (int)pixelX & pixelMask;
+      tilePixels[index + 3] = (int)pixelY & pixelMask;
+    }
+  }
+
+  /**
+   * Get the tile for each of the interleaved lon/lat values.
+   *
+   * @param zoom The zoom level.
+   * @param lonLat The lon/lat values in degrees.
+   * @param lonLatOffset The index of the first lon.
+   * @param tiles The array to write the tileX, tileY for each point to.
+   * @param tileOffset The index to write the first tileX to.
+   * @param count The number of points.
+   */
+  public void getTiles(final int zoom, final double[] lonLat, final int lonLatOffset,
+    final int[] tiles, final int tileOffset, final int count) {
+    final int shift = this.tileShifts[checkZoom(zoom)];
+    for (int i = 0; i < count * 2; i += 2) {
+      tiles[tileOffset + i] = (int)(getWorldX(lonLat[lonLatOffset + i]) >>> shift);
+      tiles[tileOffset + i + 1] = (int)(getWorldY(lonLat[lonLatOffset + i + 1]) >>> shift);
+    }
+  }
+
+  /**
+   * Get the tile for each of the interleaved EPSG 3857 x/y values.
+   *
+   * @param zoom The zoom level.
+   * @param xy The x/y values in metres.
+   * @param xyOffset The index of the first x.
+   * @param tiles The array to write the tileX, tileY for each point to.
+   * @param tileOffset The index to write the first tileX to.
+   * @param count The number of points.
+   */
+  public void getTilesMercator(final int zoom, final double[] xy, final int xyOffset,
+    final int[] tiles, final int tileOffset, final int count) {
+    final int shift = this.tileShifts[checkZoom(zoom)];
+    final double scale = WORLD_SIZE / (2 * this.halfCircumference);
+    final double halfCircumference = this.halfCircumference;
+    for (int i = 0; i < count * 2; i += 2) {
+      final double worldX = (xy[xyOffset + i] + halfCircumference) * scale;
+      final double worldY = (halfCircumference - xy[xyOffset + i + 1]) * scale;
+      tiles[tileOffset + i] = (int)(toWorld(worldX) >>> shift);
+      tiles[tileOffset + i + 1] = (int)(toWorld(worldY) >>> shift);
+    }
+  }
+
+  public int getTileSize() {
+    return this.tileSize;
+  }
+
+  public double getTileSizeMetres(final int zoom) {
+    return this.tileSizeMetres[checkZoom(zoom)];
+  }
+
+  public int getTileX(final int zoom, final double lon) {
+    return (int)(getWorldX(lon) >>> this.tileShifts[checkZoom(zoom)]);
+  }
+
+  public int getTileY(final int zoom, final double lat) {
+    return (int)(getWorldY(lat) >>> this.tileShifts[checkZoom(zoom)]);
+  }
+
+  /**
+   * Get the fixed point world x from the west edge.
+   *
+   * <pre>
+   * u = (λ + 180) / 360
+   * </pre>
+   */
+  private long getWorldX(final double lon) {
+    return toWorld((lon + 180) / 360 * WORLD_SIZE);
+  }
+
+  /**
+   * Get the fixed point world y from the north edge.
+   *
+   * <pre>
+   * v = 1/2 - ln((1 + sin φ) / (1 - sin φ)) / 4π
+   * </pre>
+   */
+  private long getWorldY(final double lat) {
+    final double sinφ = Math.sin(Math.toRadians(lat));
+    return toWorld((0.5 - Math.log((1 + sinφ) / (1 - sinφ)) / FOUR_PI) * WORLD_SIZE);
+  }
+
+  public TileCover newTileCover() {
+    return new TileCover(this);
+  }
+
+  private long toWorld(final double world) {
+    if (world >= WORLD_MAX) {
+      return WORLD_MAX;
+    } else if (world > 0) {
+      return (long)world;
+    } else {
+      return 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Web Mercator tiles " + this.tileSize;
+  }
+}
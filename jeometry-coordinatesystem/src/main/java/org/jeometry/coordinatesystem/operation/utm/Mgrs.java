@@ -0,0 +1,336 @@
+package org.jeometry.coordinatesystem.operation.utm;
+
+import java.nio.CharBuffer;
+
+/**
+ * Encode and decode Military Grid Reference System (MGRS) references for the
+ * UTM area (80°S to 84°N) using the AA lettering scheme. The references are
+ * written to reusable char[] buffers without a separator between the parts
+ * (e.g. 18TWL5689190400). The polar UPS areas are not supported.
+ *
+ * Instances are immutable and can be used by multiple threads.
+ */
+public class Mgrs {
+  /**
+   * Holder for the WGS 84 converter, created on the first call to
+   * {@link Mgrs#wgs84()}.
+   */
+  private static final class Wgs84 {
+    private static final Mgrs INSTANCE = new Mgrs(Utm.wgs84());
+  }
+
+  private static final char[] BAND_LETTERS = "CDEFGHJKLMNPQRSTUVWX".toCharArray();
+
+  private static final char[] COLUMN_LETTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ".toCharArray();
+
+  /** The maximum length of a reference, 2 zone, 1 band, 2 square and 10 digits. */
+  public static final int MAX_LENGTH = 15;
+
+  public static final int MAX_PRECISION = 5;
+
+  private static final double NORTHING_CYCLE = 2000000;
+
+  private static final int[] POWERS_OF_10 = {
+    1, 10, 100, 1000, 10000, 100000
+  };
+
+  private static final char[] ROW_LETTERS = "ABCDEFGHJKLMNPQRSTUV".toCharArray();
+
+  private static int getBandIndex(final double lat) {
+    final int index = (int)Math.floor((lat - Utm.MIN_LATITUDE) / 8);
+    if (index > BAND_LETTERS.length - 1) {
+      return BAND_LETTERS.length - 1;
+    } else {
+      return index;
+    }
+  }
+
+  private static int indexOf(final char[] letters, final char c) {
+    final char upper = Character.toUpperCase(c);
+    for (int i = 0; i < letters.length; i++) {
+      if (letters[i] == upper) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipWhitespace(final CharSequence reference, int index) {
+    while (index < reference.length() && Character.isWhitespace(reference.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Get the MGRS converter for the WGS 84 ellipsoid.
+   *
+   * @return The converter.
+   */
+  public static Mgrs wgs84() {
+    return Wgs84.INSTANCE;
+  }
+
+  private static int writeDigits(final char[] chars, int index, final int value,
+    final int precision) {
+    int digits = value / POWERS_OF_10[MAX_PRECISION - precision];
+    for (int i = index + precision - 1; i >= index; i--) {
+      chars[i] = (char)('0' + digits % 10);
+      digits /= 10;
+    }
+    return index + precision;
+  }
+
+  /** The minimum northing for each latitude band, rounded down to 100km. */
+  private final double[] bandMinNorthings = new double[BAND_LETTERS.length];
+
+  private final Utm utm;
+
+  public Mgrs(final Utm utm) {
+    this.utm = utm;
+    final double[] xy = new double[2];
+    for (int i = 0; i < BAND_LETTERS.length; i++) {
+      final double lat = Utm.MIN_LATITUDE + i * 8;
+      final int zone;
+      if (lat < 0) {
+        zone = -31;
+      } else {
+        zone = 31;
+      }
+      final double centralMeridian = Utm.getCentralMeridian(zone);
+      utm.project(zone, centralMeridian, lat, xy, 0);
+      double minNorthing = xy[1];
+      utm.project(zone, centralMeridian + 3, lat, xy, 0);
+      minNorthing = Math.min(minNorthing, xy[1]);
+      this.bandMinNorthings[i] = Math.floor(minNorthing / 100000) * 100000;
+    }
+  }
+
+  /**
+   * Decode the MGRS reference to the UTM easting/northing of the south west
+   * corner of the grid square. Whitespace between the parts is ignored.
+   *
+   * @param chars The characters containing the reference.
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @param xy The array to write the easting/northing to.
+   * @param xyOffset The index to write the easting to.
+   * @return The zone, negative for the southern hemisphere.
+   * @throws IllegalArgumentException If the reference is not valid.
+   */
+  public int decode(final char[] chars, final int start, final int end, final double[] xy,
+    final int xyOffset) {
+    return decode(CharBuffer.wrap(chars, start, end - start), xy, xyOffset);
+  }
+
+  /**
+   * Decode the MGRS reference to the UTM easting/northing of the south west
+   * corner of the grid square. Whitespace between the parts is ignored.
+   *
+   * @param reference The reference.
+   * @param xy The array to write the easting/northing to.
+   * @param xyOffset The index to write the easting to.
+   * @return The zone, negative for the southern hemisphere.
+   * @throws IllegalArgumentException If the reference is not valid.
+   */
+  public int decode(final CharSequence reference, final double[] xy, final int xyOffset) {
+    final int length = reference.length();
+    int index = skipWhitespace(reference, 0);
+    int zone = 0;
+    final int zoneStart = index;
+    while (index < length && index - zoneStart < 2) {
+      final char c = reference.charAt(index);
+      if (c >= '0' && c <= '9') {
+        zone = zone * 10 + c - '0';
+        index++;
+      } else {
+        break;
+      }
+    }
+    if (zone < 1 || zone > Utm.ZONE_COUNT) {
+      throw new IllegalArgumentException("MGRS reference must start with a zone 1-60: " + reference);
+    }
+    index = skipWhitespace(reference, index);
+    if (index + 3 > length) {
+      throw new IllegalArgumentException(
+        "MGRS reference must have a latitude band and 100km square: " + reference);
+    }
+    final int bandIndex = indexOf(BAND_LETTERS, reference.charAt(index++));
+    if (bandIndex == -1) {
+      throw new IllegalArgumentException("MGRS latitude band not valid: " + reference);
+    }
+    index = skipWhitespace(reference, index);
+    final int columnIndex = indexOf(COLUMN_LETTERS, reference.charAt(index++))
+      - (zone - 1) % 3 * 8;
+    if (columnIndex < 0 || columnIndex > 7) {
+      throw new IllegalArgumentException("MGRS 100km square column not valid: " + reference);
+    }
+    int rowIndex = indexOf(ROW_LETTERS, reference.charAt(index++));
+    if (rowIndex == -1) {
+      throw new IllegalArgumentException("MGRS 100km square row not valid: " + reference);
+    }
+    if (zone % 2 == 0) {
+      rowIndex = (rowIndex + ROW_LETTERS.length - 5) % ROW_LETTERS.length;
+    }
+
+    final int digitsStart = skipWhitespace(reference, index);
+    int digitCount = 0;
+    for (int i = digitsStart; i < length; i++) {
+      final char c = reference.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digitCount++;
+      } else if (!Character.isWhitespace(c)) {
+        throw new IllegalArgumentException("MGRS reference not valid: " + reference);
+      }
+    }
+    if (digitCount % 2 != 0 || digitCount > MAX_PRECISION * 2) {
+      throw new IllegalArgumentException(
+        "MGRS reference must have the same number of easting and northing digits (max 5): "
+          + reference);
+    }
+    final int precision = digitCount / 2;
+    int easting = 0;
+    int northing = 0;
+    int digitIndex = 0;
+    for (int i = digitsStart; i < length; i++) {
+      final char c = reference.charAt(i);
+      if (c >= '0' && c <= '9') {
+        if (digitIndex < precision) {
+          easting = easting * 10 + c - '0';
+        } else {
+          northing = northing * 10 + c - '0';
+        }
+        digitIndex++;
+      }
+    }
+    final int scale = POWERS_OF_10[MAX_PRECISION - precision];
+
+    double y = rowIndex * 100000 + northing * scale;
+    final double minNorthing = this.bandMinNorthings[bandIndex];
+    if (y < minNorthing) {
+      y += Math.ceil((minNorthing - y) / NORTHING_CYCLE) * NORTHING_CYCLE;
+    }
+    xy[xyOffset] = (columnIndex + 1) * 100000 + easting * scale;
+    xy[xyOffset + 1] = y;
+    if (bandIndex < 10) {
+      return -zone;
+    } else {
+      return zone;
+    }
+  }
+
+  /**
+   * Encode the interleaved lon/lat values as MGRS references. The references
+   * are written one after the other with the end index of each written to ends.
+   * The chars array must have space for {@link #MAX_LENGTH} chars per point.
+   * Points outside the UTM area have an empty reference.
+   *
+   * @param lonLat The lon/lat values in degrees.
+   * @param lonLatOffset The index of the first lon.
+   * @param precision The number of digits (0-5) for each of the easting and
+   *          northing.
+   * @param chars The array to write the references to.
+   * @param charOffset The index to write the first reference to.
+   * @param ends The array to write the end index of each reference to.
+   * @param endOffset The index to write the first end index to.
+   * @param count The number of points.
+   * @return The index after the last reference.
+   */
+  public int encode(final double[] lonLat, final int lonLatOffset, final int precision,
+    final char[] chars, final int charOffset, final int[] ends, final int endOffset,
+    final int count) {
+    final double[] xy = new double[2];
+    int index = charOffset;
+    for (int i = 0; i < count; i++) {
+      final int lonLatIndex = lonLatOffset + i * 2;
+      final double lat = lonLat[lonLatIndex + 1];
+      final int zone = this.utm.project(lonLat[lonLatIndex], lat, xy, 0);
+      if (zone != 0) {
+        index = encode(zone, getBandIndex(lat), xy[0], xy[1], precision, chars, index);
+      }
+      ends[endOffset + i] = index;
+    }
+    return index;
+  }
+
+  /**
+   * Encode the lon/lat as an MGRS reference.
+   *
+   * @param lon The longitude in degrees.
+   * @param lat The latitude in degrees.
+   * @param precision The number of digits (0-5) for each of the easting and
+   *          northing.
+   * @param chars The array to write the reference to.
+   * @param charOffset The index to write the reference to.
+   * @return The number of characters written, 0 if the point is outside the
+   *         UTM area.
+   */
+  public int encode(final double lon, final double lat, final int precision, final char[] chars,
+    final int charOffset) {
+    final double[] xy = new double[2];
+    final int zone = this.utm.project(lon, lat, xy, 0);
+    if (zone == 0) {
+      return 0;
+    } else {
+      return encode(zone, getBandIndex(lat), xy[0], xy[1], precision, chars, charOffset)
+        - charOffset;
+    }
+  }
+
+  /**
+   * Encode the UTM easting/northing as an MGRS reference. The latitude band is
+   * calculated from the inverse projection of the point.
+   *
+   * @param zone The zone, negative for the southern hemisphere.
+   * @param easting The easting.
+   * @param northing The northing.
+   * @param precision The number of digits (0-5) for each of the easting and
+   *          northing.
+   * @param chars The array to write the reference to.
+   * @param charOffset The index to write the reference to.
+   * @return The number of characters written.
+   */
+  public int encode(final int zone, final double easting, final double northing,
+    final int precision, final char[] chars, final int charOffset) {
+    final double[] lonLat = new double[2];
+    this.utm.inverse(zone, easting, northing, lonLat, 0);
+    final double lat = lonLat[1];
+    if (lat < Utm.MIN_LATITUDE || lat >= Utm.MAX_LATITUDE || Double.isNaN(lat)) {
+      throw new IllegalArgumentException(
+        "UTM coordinate outside the MGRS UTM area: " + zone + " " + easting + " " + northing);
+    }
+    return encode(zone, getBandIndex(lat), easting, northing, precision, chars, charOffset)
+      - charOffset;
+  }
+
+  private int encode(final int zone, final int bandIndex, final double easting,
+    final double northing, final int precision, final char[] chars, int index) {
+    if (precision < 0 || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException("MGRS precision must be 0-5: " + precision);
+    }
+    final int zoneNumber = Math.abs(zone);
+    final long e = (long)Math.floor(easting);
+    final long n = (long)Math.floor(northing);
+    final int columnIndex = (int)(e / 100000) - 1;
+    if (columnIndex < 0 || columnIndex > 7) {
+      throw new IllegalArgumentException("UTM easting outside MGRS 100km squares: " + easting);
+    }
+    int rowIndex = (int)(n / 100000 % ROW_LETTERS.length);
+    if (zoneNumber % 2 == 0) {
+      rowIndex = (rowIndex + 5) % ROW_LETTERS.length;
+    }
+    if (zoneNumber >= 10) {
+      chars[index++] = (char)('0' + zoneNumber / 10);
+    }
+    chars[index++] = (char)('0' + zoneNumber % 10);
+    chars[index++] = BAND_LETTERS[bandIndex];
+    chars[index++] = COLUMN_LETTERS[(zoneNumber - 1) % 3 * 8 + columnIndex];
+    chars[index++] = ROW_LETTERS[rowIndex];
+    index = writeDigits(chars, index, (int)(e % 100000), precision);
+    return writeDigits(chars, index, (int)(n % 100000), precision);
+  }
+
+  public Utm getUtm() {
+    return this.utm;
+  }
+}
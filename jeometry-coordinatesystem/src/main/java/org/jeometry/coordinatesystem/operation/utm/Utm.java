@@ -0,0 +1,278 @@
+package org.jeometry.coordinatesystem.operation.utm;
+
+import org.jeometry.coordinatesystem.model.Ellipsoid;
+import org.jeometry.coordinatesystem.model.systems.EpsgCoordinateSystems;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+import org.jeometry.coordinatesystem.operation.projection.TransverseMercatorKruger;
+
+/**
+ * Convert lon/lat coordinates in degrees to and from UTM for any zone. The
+ * zone for a point is chosen using {@link #getZone(double, double)}, including
+ * the Norway and Svalbard exceptions. One {@link TransverseMercatorKruger}
+ * projection is shared by all zones, with the central meridian and false
+ * northing for each of the 120 zones (60 north and 60 south) held in arrays.
+ *
+ * Zones are signed, positive for the northern hemisphere and negative for the
+ * southern hemisphere. Zone 0 is returned for points outside the UTM latitude
+ * range of -80 to 84 degrees, the coordinates for those points are NaN.
+ *
+ * Instances are immutable and can be used by multiple threads.
+ */
+public class Utm {
+  /**
+   * Holder for the WGS 84 converter, created on the first call to
+   * {@link Utm#wgs84()}.
+   */
+  private static final class Wgs84 {
+    private static final Utm INSTANCE = new Utm(EpsgCoordinateSystems.wgs84().getEllipsoid());
+  }
+
+  public static final double FALSE_EASTING = 500000;
+
+  public static final double FALSE_NORTHING_SOUTH = 10000000;
+
+  public static final double MAX_LATITUDE = 84;
+
+  public static final double MIN_LATITUDE = -80;
+
+  public static final double SCALE_FACTOR = 0.9996;
+
+  public static final int ZONE_COUNT = 60;
+
+  /**
+   * Get the UTM zone for the point, using the Norway (32V) and Svalbard (31X,
+   * 33X, 35X, 37X) exceptions.
+   *
+   * @param lon The longitude in degrees.
+   * @param lat The latitude in degrees.
+   * @return The zone (1-60), negative for the southern hemisphere, or 0 if
+   *         the latitude is outside the UTM range.
+   */
+  public static int getZone(final double lon, final double lat) {
+    if (lat >= MIN_LATITUDE && lat < MAX_LATITUDE && Double.isFinite(lon)) {
+      int zone;
+      if (lat >= 56 && lat < 64 && lon >= 3 && lon < 12) {
+        zone = 32;
+      } else if (lat >= 72 && lon >= 0 && lon < 42) {
+        if (lon < 9) {
+          zone = 31;
+        } else if (lon < 21) {
+          zone = 33;
+        } else if (lon < 33) {
+          zone = 35;
+        } else {
+          zone = 37;
+        }
+      } else {
+        final double normalizedLon = lon - Math.floor((lon + 180) / 360) * 360;
+        zone = (int)Math.floor((normalizedLon + 180) / 6) + 1;
+        if (zone > ZONE_COUNT) {
+          zone = ZONE_COUNT;
+        }
+      }
+      if (lat < 0) {
+        return -zone;
+      } else {
+        return zone;
+      }
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Get the central meridian of the zone.
+   *
+   * @param zone The zone (1-60 or -1 to -60).
+   * @return The central meridian in degrees.
+   */
+  public static double getCentralMeridian(final int zone) {
+    return Math.abs(zone) * 6 - 183;
+  }
+
+  static int zoneIndex(final int zone) {
+    if (zone > 0 && zone <= ZONE_COUNT) {
+      return (zone - 1) * 2;
+    } else if (zone < 0 && zone >= -ZONE_COUNT) {
+      return (-zone - 1) * 2 + 1;
+    } else {
+      throw new IllegalArgumentException("UTM zone must be 1-60 or -1 to -60: " + zone);
+    }
+  }
+
+  /**
+   * Get the converter for the WGS 84 ellipsoid.
+   *
+   * @return The converter.
+   */
+  public static Utm wgs84() {
+    return Wgs84.INSTANCE;
+  }
+
+  /** The central meridian in radians for each zone index. */
+  private final double[] centralMeridians = new double[ZONE_COUNT * 2];
+
+  /** The false northing for each zone index. */
+  private final double[] falseNorthings = new double[ZONE_COUNT * 2];
+
+  private final Ellipsoid ellipsoid;
+
+  private final TransverseMercatorKruger projection;
+
+  public Utm(final Ellipsoid ellipsoid) {
+    this.ellipsoid = ellipsoid;
+    this.projection = new TransverseMercatorKruger("UTM", ellipsoid, 0, 0, SCALE_FACTOR,
+      FALSE_EASTING, 0);
+    for (int zone = 1; zone <= ZONE_COUNT; zone++) {
+      final double centralMeridian = Math.toRadians(getCentralMeridian(zone));
+      final int northIndex = zoneIndex(zone);
+      this.centralMeridians[northIndex] = centralMeridian;
+      this.falseNorthings[northIndex] = 0;
+      final int southIndex = zoneIndex(-zone);
+      this.centralMeridians[southIndex] = centralMeridian;
+      this.falseNorthings[southIndex] = FALSE_NORTHING_SOUTH;
+    }
+  }
+
+  public Ellipsoid getEllipsoid() {
+    return this.ellipsoid;
+  }
+
+  /**
+   * Convert the UTM coordinates in the zone to lon/lat.
+   *
+   * @param zone The zone, negative for the southern hemisphere.
+   * @param easting The easting.
+   * @param northing The northing.
+   * @param lonLat The array to write the lon/lat in degrees to.
+   * @param lonLatOffset The index to write the lon to.
+   */
+  public void inverse(final int zone, final double easting, final double northing,
+    final double[] lonLat, final int lonLatOffset) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    inverse(point, zone, easting, northing, lonLat, lonLatOffset);
+  }
+
+  /**
+   * Convert the interleaved easting/northing values to interleaved lon/lat.
+   *
+   * @param xy The easting/northing values.
+   * @param xyOffset The index of the first easting.
+   * @param zones The zone of each point, negative for the southern hemisphere.
+   * @param zoneOffset The index of the first zone.
+   * @param lonLat The array to write the lon/lat in degrees to.
+   * @param lonLatOffset The index to write the first lon to.
+   * @param count The number of points.
+   */
+  public void inverse(final double[] xy, final int xyOffset, final int[] zones,
+    final int zoneOffset, final double[] lonLat, final int lonLatOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int xyIndex = xyOffset + i * 2;
+      inverse(point, zones[zoneOffset + i], xy[xyIndex], xy[xyIndex + 1], lonLat,
+        lonLatOffset + i * 2);
+    }
+  }
+
+  private void inverse(final CoordinatesOperationPoint point, final int zone,
+    final double easting, final double northing, final double[] lonLat, final int lonLatOffset) {
+    if (zone == 0) {
+      lonLat[lonLatOffset] = Double.NaN;
+      lonLat[lonLatOffset + 1] = Double.NaN;
+    } else {
+      final int zoneIndex = zoneIndex(zone);
+      point.x = easting;
+      point.y = northing - this.falseNorthings[zoneIndex];
+      this.projection.inverse(point);
+      double lon = Math.toDegrees(point.x + this.centralMeridians[zoneIndex]);
+      if (lon < -180) {
+        lon += 360;
+      } else if (lon > 180) {
+        lon -= 360;
+      }
+      lonLat[lonLatOffset] = lon;
+      lonLat[lonLatOffset + 1] = Math.toDegrees(point.y);
+    }
+  }
+
+  /**
+   * Convert the interleaved lon/lat values to interleaved easting/northing in
+   * the zone for each point.
+   *
+   * @param lonLat The lon/lat values in degrees.
+   * @param lonLatOffset The index of the first lon.
+   * @param xy The array to write the easting/northing values to.
+   * @param xyOffset The index to write the first easting to.
+   * @param zones The array to write the zone of each point to.
+   * @param zoneOffset The index to write the first zone to.
+   * @param count The number of points.
+   */
+  public void project(final double[] lonLat, final int lonLatOffset, final double[] xy,
+    final int xyOffset, final int[] zones, final int zoneOffset, final int count) {
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      final int lonLatIndex = lonLatOffset + i * 2;
+      final double lon = lonLat[lonLatIndex];
+      final double lat = lonLat[lonLatIndex + 1];
+      final int zone = getZone(lon, lat);
+      project(point, zone, lon, lat, xy, xyOffset + i * 2);
+      zones[zoneOffset + i] = zone;
+    }
+  }
+
+  /**
+   * Convert the lon/lat to easting/northing in the zone for the point.
+   *
+   * @param lon The longitude in degrees.
+   * @param lat The latitude in degrees.
+   * @param xy The array to write the easting/northing to.
+   * @param xyOffset The index to write the easting to.
+   * @return The zone, negative for the southern hemisphere.
+   */
+  public int project(final double lon, final double lat, final double[] xy, final int xyOffset) {
+    final int zone = getZone(lon, lat);
+    project(new CoordinatesOperationPoint(), zone, lon, lat, xy, xyOffset);
+    return zone;
+  }
+
+  private void project(final CoordinatesOperationPoint point, final int zone, final double lon,
+    final double lat, final double[] xy, final int xyOffset) {
+    if (zone == 0) {
+      xy[xyOffset] = Double.NaN;
+      xy[xyOffset + 1] = Double.NaN;
+    } else {
+      final int zoneIndex = zoneIndex(zone);
+      double λ = Math.toRadians(lon) - this.centralMeridians[zoneIndex];
+      if (λ < -Math.PI) {
+        λ += 2 * Math.PI;
+      } else if (λ > Math.PI) {
+        λ -= 2 * Math.PI;
+      }
+      point.x = λ;
+      point.y = Math.toRadians(lat);
+      this.projection.project(point);
+      xy[xyOffset] = point.x;
+      xy[xyOffset + 1] = point.y + this.falseNorthings[zoneIndex];
+    }
+  }
+
+  /**
+   * Convert the lon/lat to easting/northing in the specified zone.
+   *
+   * @param zone The zone, negative for the southern hemisphere.
+   * @param lon The longitude in degrees.
+   * @param lat The latitude in degrees.
+   * @param xy The array to write the easting/northing to.
+   * @param xyOffset The index to write the easting to.
+   */
+  public void project(final int zone, final double lon, final double lat, final double[] xy,
+    final int xyOffset) {
+    zoneIndex(zone);
+    project(new CoordinatesOperationPoint(), zone, lon, lat, xy, xyOffset);
+  }
+
+  @Override
+  public String toString() {
+    return this.ellipsoid.getName() + " / UTM";
+  }
+}
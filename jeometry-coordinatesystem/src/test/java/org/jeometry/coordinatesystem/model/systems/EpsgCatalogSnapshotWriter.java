@@ -0,0 +1,576 @@
+package org.jeometry.coordinatesystem.model.systems;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.jeometry.common.number.IntObjectMap;
+import org.jeometry.coordinatesystem.model.ParameterName;
+import org.jeometry.coordinatesystem.model.ParameterNames;
+
+/**
+ * Build time tool that joins the EPSG *.bin test resources into a single
+ * {@link EpsgCoordinateSystems#SNAPSHOT_FILE_NAME} resource. Each table is
+ * written as a record count followed by the records in the same order as the
+ * source file. References between tables are resolved to the ordinal of the
+ * record in the referenced table (-1 for none) so the runtime loader can use
+ * array lookups instead of id maps. Parameter usages are joined into the
+ * methods, parameter values are joined into the operations in method
+ * parameter order and axes are joined into the coordinate system types.
+ *
+ * Usage: EpsgCatalogSnapshotWriter &lt;snapshotDirectory&gt;
+ */
+public class EpsgCatalogSnapshotWriter {
+  private static class ParameterValueRecord {
+    private final double value;
+
+    private final String fileRef;
+
+    private final int unitIndex;
+
+    private ParameterValueRecord(final double value, final String fileRef, final int unitIndex) {
+      this.value = value;
+      this.fileRef = fileRef;
+      this.unitIndex = unitIndex;
+    }
+  }
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("Usage: EpsgCatalogSnapshotWriter <snapshotDirectory>");
+      System.exit(1);
+    } else {
+      final File directory = new File(args[0]);
+      final File file = new File(directory, EpsgCoordinateSystems.SNAPSHOT_FILE_NAME);
+      new EpsgCatalogSnapshotWriter().write(file);
+    }
+  }
+
+  private static int getIndex(final IntObjectMap<Integer> indexById, final int id) {
+    if (id == 0) {
+      return -1;
+    } else {
+      final Integer index = indexById.get(id);
+      if (index == null) {
+        throw new IllegalArgumentException("Invalid code for id=" + id);
+      }
+      return index;
+    }
+  }
+
+  private static void writeString(final DataOutputStream out, final String string)
+    throws IOException {
+    if (string == null) {
+      out.writeInt(-1);
+    } else {
+      final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private final IntObjectMap<Integer> areaIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> axisNameIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> coordinateSystemIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> coordinateSystemTypeIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> datumIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> ellipsoidIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> methodIndexById = new IntObjectMap<>();
+
+  private final List<List<ParameterName>> methodParameterNames = new ArrayList<>();
+
+  private final IntObjectMap<Integer> operationIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> parameterNameIndexById = new IntObjectMap<>();
+
+  private final Map<ParameterName, Integer> parameterNameIndexes = new IdentityHashMap<>();
+
+  private final List<ParameterName> parameterNames = new ArrayList<>();
+
+  private final IntObjectMap<Integer> primeMeridianIndexById = new IntObjectMap<>();
+
+  private final IntObjectMap<Integer> unitIndexById = new IntObjectMap<>();
+
+  private DataInputStream newDataInputStream(final String fileName) throws IOException {
+    final String path = EpsgCoordinateSystems.RESOURCE_PATH + fileName + ".bin";
+    final InputStream in = EpsgCatalogSnapshotWriter.class.getResourceAsStream(path);
+    if (in == null) {
+      throw new FileNotFoundException(path);
+    }
+    return new DataInputStream(new BufferedInputStream(in));
+  }
+
+  public void write(final File file) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024 * 1024);
+    try (
+      DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(EpsgCoordinateSystems.SNAPSHOT_MAGIC);
+      out.writeInt(EpsgCoordinateSystems.SNAPSHOT_VERSION);
+      writeUnitOfMeasure(out);
+      writeCoordinateAxisNames(out);
+      writeCoordinateSystem(out);
+      writeArea(out);
+      writePrimeMeridians(out);
+      writeEllipsoid(out);
+      writeDatum(out);
+      writeCoordOperationParam(out);
+      writeCoordOperationMethod(out);
+      writeCoordOperation(out);
+      writeCoordinateReferenceSystem(out);
+    }
+    final File parent = file.getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+    try (
+      BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+      bytes.writeTo(out);
+    }
+  }
+
+  private void writeArea(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("area")) {
+      while (true) {
+        final int code = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final double minX = reader.readDouble();
+        final double minY = reader.readDouble();
+        final double maxX = reader.readDouble();
+        final double maxY = reader.readDouble();
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(code);
+        writeString(records, name);
+        records.writeDouble(minX);
+        records.writeDouble(minY);
+        records.writeDouble(maxX);
+        records.writeDouble(maxY);
+        records.writeBoolean(deprecated);
+        this.areaIndexById.put(code, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordinateAxisNames(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordinateAxisName")) {
+      while (true) {
+        final int code = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        records.writeInt(code);
+        writeString(records, name);
+        this.axisNameIndexById.put(code, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordinateReferenceSystem(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordinateReferenceSystem")) {
+      while (true) {
+        final int id = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final int areaIndex = getIndex(this.areaIndexById, reader.readInt());
+        final int type = reader.readByte();
+        final int coordinateSystemTypeIndex = getIndex(this.coordinateSystemTypeIndexById,
+          reader.readInt());
+        final int datumIndex = getIndex(this.datumIndexById, reader.readInt());
+        final int sourceIndex = getIndex(this.coordinateSystemIndexById, reader.readInt());
+        final int operationIndex = getIndex(this.operationIndexById, reader.readInt());
+        final int horizontalIndex = getIndex(this.coordinateSystemIndexById, reader.readInt());
+        final int verticalIndex = getIndex(this.coordinateSystemIndexById, reader.readInt());
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        writeString(records, name);
+        records.writeInt(areaIndex);
+        records.writeByte(type);
+        records.writeInt(coordinateSystemTypeIndex);
+        records.writeInt(datumIndex);
+        records.writeInt(sourceIndex);
+        records.writeInt(operationIndex);
+        records.writeInt(horizontalIndex);
+        records.writeInt(verticalIndex);
+        records.writeBoolean(deprecated);
+        this.coordinateSystemIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordinateSystem(final DataOutputStream out) throws IOException {
+    final IntObjectMap<ByteArrayOutputStream> axisBytesByCoordinateSystemId = new IntObjectMap<>();
+    final IntObjectMap<int[]> axisCountByCoordinateSystemId = new IntObjectMap<>();
+    try (
+      DataInputStream reader = newDataInputStream("coordinateAxis")) {
+      while (true) {
+        final int coordinateSystemId = reader.readInt();
+        final int axisNameIndex = getIndex(this.axisNameIndexById, reader.readInt());
+        final String orientation = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final byte abbreviation = reader.readByte();
+        final int unitIndex = getIndex(this.unitIndexById, reader.readInt());
+
+        final ByteArrayOutputStream axisBytes = axisBytesByCoordinateSystemId
+          .computeIfAbsent(coordinateSystemId, id -> new ByteArrayOutputStream());
+        final DataOutputStream axisOut = new DataOutputStream(axisBytes);
+        axisOut.writeInt(axisNameIndex);
+        writeString(axisOut, orientation);
+        axisOut.writeByte(abbreviation);
+        axisOut.writeInt(unitIndex);
+        axisCountByCoordinateSystemId.computeIfAbsent(coordinateSystemId, id -> new int[1])[0]++;
+      }
+    } catch (final EOFException e) {
+    }
+
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordinateSystem")) {
+      while (true) {
+        final int id = reader.readInt();
+        final int type = reader.readByte();
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        records.writeByte(type);
+        records.writeBoolean(deprecated);
+        final ByteArrayOutputStream axisBytes = axisBytesByCoordinateSystemId.get(id);
+        if (axisBytes == null) {
+          records.writeInt(-1);
+        } else {
+          records.writeInt(axisCountByCoordinateSystemId.get(id)[0]);
+          axisBytes.writeTo(records);
+        }
+        this.coordinateSystemTypeIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordOperation(final DataOutputStream out) throws IOException {
+    final IntObjectMap<Map<ParameterName, ParameterValueRecord>> parametersByOperationId = new IntObjectMap<>();
+    try (
+      DataInputStream reader = newDataInputStream("coordOperationParamValue")) {
+      while (true) {
+        final int operationId = reader.readInt();
+        final int methodIndex = getIndex(this.methodIndexById, reader.readInt());
+        final int parameterNameIndex = getIndex(this.parameterNameIndexById, reader.readInt());
+        final double value = reader.readDouble();
+        final String fileRef = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final int unitIndex = getIndex(this.unitIndexById, reader.readInt());
+        if (Double.isFinite(value) && fileRef != null) {
+          throw new IllegalArgumentException(
+            "Cannot have a value and fileRef for coordOperationParamValue=" + operationId);
+        }
+        final ParameterValueRecord parameterValue;
+        if (Double.isFinite(value) || fileRef != null) {
+          parameterValue = new ParameterValueRecord(value, fileRef, unitIndex);
+        } else {
+          parameterValue = null;
+        }
+        final List<ParameterName> methodParameterNames = this.methodParameterNames.get(methodIndex);
+        Map<ParameterName, ParameterValueRecord> parameterValues = parametersByOperationId
+          .get(operationId);
+        if (parameterValues == null) {
+          parameterValues = new LinkedHashMap<>();
+          for (final ParameterName orderParameterName : methodParameterNames) {
+            parameterValues.put(orderParameterName, null);
+          }
+          parametersByOperationId.put(operationId, parameterValues);
+        }
+        final ParameterName parameterName = this.parameterNames.get(parameterNameIndex);
+        if (parameterValues.containsKey(parameterName)) {
+          parameterValues.put(parameterName, parameterValue);
+        } else {
+          for (final ParameterName methodParameterName : methodParameterNames) {
+            if (methodParameterName.equals(parameterName)) {
+              parameterValues.put(methodParameterName, parameterValue);
+              break;
+            }
+          }
+        }
+      }
+    } catch (final EOFException e) {
+    }
+
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordOperation")) {
+      while (true) {
+        final int id = reader.readInt();
+        final int methodIndex = getIndex(this.methodIndexById, reader.readInt());
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final byte type = reader.readByte();
+        final int sourceCrsCode = reader.readInt();
+        final int targetCrsCode = reader.readInt();
+        final String transformationVersion = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final int variant = reader.readInt();
+        final int areaIndex = getIndex(this.areaIndexById, reader.readInt());
+        final double accuracy = reader.readDouble();
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+
+        records.writeInt(id);
+        records.writeInt(methodIndex);
+        writeString(records, name);
+        records.writeByte(type);
+        records.writeInt(sourceCrsCode);
+        records.writeInt(targetCrsCode);
+        writeString(records, transformationVersion);
+        records.writeInt(variant);
+        records.writeInt(areaIndex);
+        records.writeDouble(accuracy);
+        records.writeBoolean(deprecated);
+        final Map<ParameterName, ParameterValueRecord> parameterValues = parametersByOperationId
+          .get(id);
+        if (parameterValues == null) {
+          records.writeInt(-1);
+        } else {
+          records.writeInt(parameterValues.size());
+          for (final Entry<ParameterName, ParameterValueRecord> entry : parameterValues
+            .entrySet()) {
+            final ParameterName parameterName = entry.getKey();
+            final ParameterValueRecord parameterValue = entry.getValue();
+            records.writeInt(this.parameterNameIndexes.get(parameterName));
+            if (parameterValue == null) {
+              records.writeByte(0);
+            } else if (parameterValue.fileRef == null) {
+              records.writeByte(1);
+              records.writeDouble(parameterValue.value);
+              records.writeInt(parameterValue.unitIndex);
+            } else {
+              records.writeByte(2);
+              writeString(records, parameterValue.fileRef);
+            }
+          }
+        }
+        this.operationIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordOperationMethod(final DataOutputStream out) throws IOException {
+    final IntObjectMap<ByteArrayOutputStream> usageBytesByMethodId = new IntObjectMap<>();
+    final IntObjectMap<List<ParameterName>> parameterNamesByMethodId = new IntObjectMap<>();
+    try (
+      DataInputStream reader = newDataInputStream("coordOperationParamUsage")) {
+      while (true) {
+        final int methodId = reader.readInt();
+        final int parameterNameIndex = getIndex(this.parameterNameIndexById, reader.readInt());
+        reader.readInt();
+        final byte signReversal = reader.readByte();
+        final DataOutputStream usageOut = new DataOutputStream(
+          usageBytesByMethodId.computeIfAbsent(methodId, id -> new ByteArrayOutputStream()));
+        usageOut.writeInt(parameterNameIndex);
+        usageOut.writeByte(signReversal);
+        parameterNamesByMethodId.computeIfAbsent(methodId, id -> new ArrayList<>())
+          .add(this.parameterNames.get(parameterNameIndex));
+      }
+    } catch (final EOFException e) {
+    }
+
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordOperationMethod")) {
+      while (true) {
+        final int id = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final boolean reverse = EpsgCoordinateSystems.readBoolean(reader);
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        writeString(records, name);
+        records.writeBoolean(reverse);
+        records.writeBoolean(deprecated);
+        final List<ParameterName> methodParameterNames = parameterNamesByMethodId.get(id);
+        if (methodParameterNames == null) {
+          records.writeInt(0);
+          this.methodParameterNames.add(new ArrayList<>());
+        } else {
+          records.writeInt(methodParameterNames.size());
+          usageBytesByMethodId.get(id).writeTo(records);
+          this.methodParameterNames.add(methodParameterNames);
+        }
+        this.methodIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeCoordOperationParam(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("coordOperationParam")) {
+      while (true) {
+        final int id = reader.readInt();
+        String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        if (name != null) {
+          name = name.toLowerCase().replaceAll(" ", "_");
+        }
+        EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        writeString(records, name);
+
+        final ParameterName parameterName = ParameterNames.getParameterName(id, name);
+        this.parameterNames.add(parameterName);
+        this.parameterNameIndexes.putIfAbsent(parameterName, count);
+        this.parameterNameIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeDatum(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("datum")) {
+      while (true) {
+        final int id = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final int datumType = reader.readByte();
+        final int ellipsoidIndex = getIndex(this.ellipsoidIndexById, reader.readInt());
+        final int primeMeridianIndex = getIndex(this.primeMeridianIndexById, reader.readInt());
+        final int areaIndex = getIndex(this.areaIndexById, reader.readInt());
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        writeString(records, name);
+        records.writeByte(datumType);
+        records.writeInt(ellipsoidIndex);
+        records.writeInt(primeMeridianIndex);
+        records.writeInt(areaIndex);
+        records.writeBoolean(deprecated);
+        this.datumIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeEllipsoid(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("ellipsoid")) {
+      while (true) {
+        final int id = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final Integer unitIndex = this.unitIndexById.get(reader.readInt());
+        final double semiMinorAxis = reader.readDouble();
+        final double semiMajorAxis = reader.readDouble();
+        final double inverseFlattening = reader.readDouble();
+        reader.readByte();
+        final boolean deprecated = EpsgCoordinateSystems.readBoolean(reader);
+        records.writeInt(id);
+        writeString(records, name);
+        if (unitIndex == null) {
+          records.writeInt(-1);
+        } else {
+          records.writeInt(unitIndex);
+        }
+        records.writeDouble(semiMinorAxis);
+        records.writeDouble(semiMajorAxis);
+        records.writeDouble(inverseFlattening);
+        records.writeBoolean(deprecated);
+        this.ellipsoidIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writePrimeMeridians(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("primeMeridian")) {
+      while (true) {
+        final int id = reader.readInt();
+        final String name = EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        final int unitIndex = getIndex(this.unitIndexById, reader.readInt());
+        final double longitude = reader.readDouble();
+        records.writeInt(id);
+        writeString(records, name);
+        records.writeInt(unitIndex);
+        records.writeDouble(longitude);
+        this.primeMeridianIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+
+  private void writeTable(final DataOutputStream out, final int count,
+    final ByteArrayOutputStream recordBytes) throws IOException {
+    out.writeInt(count);
+    recordBytes.writeTo(out);
+  }
+
+  private void writeUnitOfMeasure(final DataOutputStream out) throws IOException {
+    final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    final DataOutputStream records = new DataOutputStream(recordBytes);
+    int count = 0;
+    try (
+      DataInputStream reader = newDataInputStream("unitOfMeasure")) {
+      while (true) {
+        final int id = reader.readInt();
+        reader.readByte();
+        reader.readInt();
+        reader.readByte();
+        reader.readDouble();
+        reader.readDouble();
+        EpsgCoordinateSystems.readStringUtf8ByteCount(reader);
+        records.writeInt(id);
+        this.unitIndexById.put(id, count++);
+      }
+    } catch (final EOFException e) {
+    }
+    writeTable(out, count, recordBytes);
+  }
+}
@@ -0,0 +1,40 @@
+package org.jeometry.coordinatesystem.model.systems;
+
+import org.jeometry.coordinatesystem.model.CoordinateSystem;
+import org.jeometry.coordinatesystem.model.GeographicCoordinateSystem;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperation;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+
+/**
+ * Training run used by the appcds profile to record the classes loaded when
+ * the EPSG catalog is initialized and coordinates are projected. The class
+ * list is dumped into a class data sharing archive that can be used with
+ * <code>-XX:SharedArchiveFile</code> to reduce startup time.
+ */
+public class EpsgCatalogTraining {
+  private static final int[] COORDINATE_SYSTEM_IDS = {
+    EpsgId.WGS84, EpsgId.NAD83, 3005, 3857, 26910, 3112, 3577
+  };
+
+  public static void main(final String[] args) {
+    final GeographicCoordinateSystem wgs84 = EpsgCoordinateSystems.wgs84();
+    for (final int coordinateSystemId : COORDINATE_SYSTEM_IDS) {
+      final CoordinateSystem coordinateSystem = EpsgCoordinateSystems
+        .getCoordinateSystem(coordinateSystemId);
+      if (coordinateSystem != null) {
+        final CoordinatesOperation projectOperation = wgs84
+          .getCoordinatesOperation(coordinateSystem);
+        final CoordinatesOperation inverseOperation = coordinateSystem
+          .getCoordinatesOperation(wgs84);
+        final CoordinatesOperationPoint point = new CoordinatesOperationPoint(-123.5, 49.2);
+        if (projectOperation != null) {
+          projectOperation.perform(point);
+        }
+        if (inverseOperation != null) {
+          inverseOperation.perform(point);
+        }
+        coordinateSystem.toEsriWktCs();
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package org.jeometry.coordinatesystem.operation;
+
+import org.jeometry.coordinatesystem.model.Ellipsoid;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChainedCoordinatesOperationTest {
+
+  private static void assertColumns(final CoordinatesOperation operation, final double[] xs,
+    final double[] ys, final double[] zs) {
+    final int count = xs.length;
+    final int targetOffset = 5;
+    final double[] targetXs = new double[targetOffset + count];
+    final double[] targetYs = new double[targetOffset + count];
+    operation.perform(xs, ys, zs, 0, targetXs, targetYs, null, targetOffset, count);
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < count; i++) {
+      point.x = xs[i];
+      point.y = ys[i];
+      if (zs == null) {
+        point.z = Double.NaN;
+      } else {
+        point.z = zs[i];
+      }
+      operation.perform(point);
+      Assert.assertEquals(point.x, targetXs[targetOffset + i], 0);
+      Assert.assertEquals(point.y, targetYs[targetOffset + i], 0);
+    }
+  }
+
+  /**
+   * The z calculated by the first operation must be used by the second when
+   * there are no z columns.
+   */
+  @Test
+  public void intermediateZ() {
+    final Ellipsoid ellipsoid = Ellipsoid.newMajorMinor("WGS 84", 6378137, 6356752.314245);
+    final CoordinatesOperation operation = new ChainedCoordinatesOperation(
+      ellipsoid.getGeodeticToCartesianOperation(), ellipsoid.getCartesianToGeodeticOperation());
+    final int count = 3000;
+    final double[] xs = new double[count];
+    final double[] ys = new double[count];
+    final double[] zs = new double[count];
+    for (int i = 0; i < count; i++) {
+      xs[i] = Math.toRadians(-180 + i * 0.1);
+      ys[i] = Math.toRadians(-80 + i * 0.05);
+      zs[i] = i;
+    }
+    assertColumns(operation, xs, ys, null);
+    assertColumns(operation, xs, ys, zs);
+  }
+}
@@ -0,0 +1,108 @@
+package org.jeometry.coordinatesystem.operation;
+
+import java.nio.FloatBuffer;
+
+import org.jeometry.coordinatesystem.model.CoordinateSystem;
+import org.jeometry.coordinatesystem.model.systems.EpsgCoordinateSystems;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RenderTransformTest {
+
+  private static final double ORIGIN_X = 6000000;
+
+  private static final double ORIGIN_Y = 2000000;
+
+  private static final double SCALE_X = 0.01;
+
+  private static final double SCALE_Y = -0.01;
+
+  private static final int COUNT = 100;
+
+  private static void assertRender(final int sourceId, final int targetId) {
+    final CoordinateSystem source = EpsgCoordinateSystems.getCoordinateSystem(sourceId);
+    final CoordinateSystem target = EpsgCoordinateSystems.getCoordinateSystem(targetId);
+    final CoordinatesOperation operation = source.getCoordinatesOperation(target);
+    final RenderTransform transform = source.newRenderTransform(target, ORIGIN_X, ORIGIN_Y,
+      SCALE_X, SCALE_Y);
+
+    final int axisCount = 3;
+    final double[] doubles = new double[COUNT * axisCount];
+    final float[] floats = new float[COUNT * axisCount];
+    for (int i = 0; i < COUNT; i++) {
+      doubles[i * axisCount] = -122.5 + i * 0.005;
+      doubles[i * axisCount + 1] = 37.5 + i * 0.003;
+      floats[i * axisCount] = (float)doubles[i * axisCount];
+      floats[i * axisCount + 1] = (float)doubles[i * axisCount + 1];
+    }
+    final float[] fromDoubles = new float[COUNT * 2 + 1];
+    transform.transform(doubles, 0, axisCount, fromDoubles, 1, COUNT);
+    final FloatBuffer fromDoublesBuffer = FloatBuffer.allocate(COUNT * 2 + 1);
+    fromDoublesBuffer.position(1);
+    transform.transform(doubles, 0, axisCount, fromDoublesBuffer, COUNT);
+    Assert.assertEquals(COUNT * 2 + 1, fromDoublesBuffer.position());
+
+    final float[] fromFloats = new float[COUNT * 2];
+    transform.transform(floats, 0, axisCount, fromFloats, 0, COUNT);
+    final FloatBuffer fromFloatsBuffer = FloatBuffer.allocate(COUNT * 2);
+    transform.transform(floats, 0, axisCount, fromFloatsBuffer, COUNT);
+
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    final float[] pointTarget = new float[2];
+    for (int i = 0; i < COUNT; i++) {
+      final double x = doubles[i * axisCount];
+      final double y = doubles[i * axisCount + 1];
+      point.setPoint(x, y);
+      operation.perform(point);
+      final double expectedX = (point.x - ORIGIN_X) * SCALE_X;
+      final double expectedY = (point.y - ORIGIN_Y) * SCALE_Y;
+      Assert.assertEquals(expectedX, fromDoubles[1 + i * 2], 0.01);
+      Assert.assertEquals(expectedY, fromDoubles[1 + i * 2 + 1], 0.01);
+      Assert.assertEquals(fromDoubles[1 + i * 2], fromDoublesBuffer.get(1 + i * 2), 0);
+      Assert.assertEquals(fromDoubles[1 + i * 2 + 1], fromDoublesBuffer.get(1 + i * 2 + 1), 0);
+
+      transform.transform(x, y, pointTarget, 0);
+      Assert.assertEquals(fromDoubles[1 + i * 2], pointTarget[0], 0);
+      Assert.assertEquals(fromDoubles[1 + i * 2 + 1], pointTarget[1], 0);
+
+      transform.transform(floats[i * axisCount], floats[i * axisCount + 1], pointTarget, 0);
+      Assert.assertEquals(pointTarget[0], fromFloats[i * 2], 0);
+      Assert.assertEquals(pointTarget[1], fromFloats[i * 2 + 1], 0);
+      Assert.assertEquals(fromFloats[i * 2], fromFloatsBuffer.get(i * 2), 0);
+      Assert.assertEquals(fromFloats[i * 2 + 1], fromFloatsBuffer.get(i * 2 + 1), 0);
+    }
+  }
+
+  /**
+   * The conversion to US survey feet is fused with the view transform.
+   */
+  @Test
+  public void feet() {
+    final CoordinateSystem source = EpsgCoordinateSystems.getCoordinateSystem(4269);
+    final CoordinateSystem target = EpsgCoordinateSystems.getCoordinateSystem(2227);
+    final ChainedCoordinatesOperation operation = (ChainedCoordinatesOperation)source
+      .getCoordinatesOperation(target);
+    final ChainedCoordinatesOperation renderOperation = (ChainedCoordinatesOperation)source
+      .newRenderTransform(target, 0, 0, 1, 1)
+      .getOperation();
+    Assert.assertEquals(operation.getOperationCount() - 1, renderOperation.getOperationCount());
+    assertRender(4269, 2227);
+  }
+
+  @Test
+  public void metres() {
+    assertRender(4269, 26910);
+  }
+
+  @Test
+  public void sameCoordinateSystem() {
+    final CoordinateSystem coordinateSystem = EpsgCoordinateSystems.getCoordinateSystem(4269);
+    final RenderTransform transform = coordinateSystem.newRenderTransform(coordinateSystem, 10,
+      20, 2, -2);
+    Assert.assertNull(transform.getOperation());
+    final float[] target = new float[2];
+    transform.transform(11, 19, target, 0);
+    Assert.assertEquals(2, target[0], 0);
+    Assert.assertEquals(2, target[1], 0);
+  }
+}
@@ -0,0 +1,76 @@
+package org.jeometry.coordinatesystem.operation.projection;
+
+import java.util.Random;
+
+import org.jeometry.coordinatesystem.model.ProjectedCoordinateSystem;
+import org.jeometry.coordinatesystem.model.systems.EpsgCoordinateSystems;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Check that the column project and inverse give exactly the same results as
+ * the point versions.
+ */
+public class CoordinatesProjectionColumnTest {
+  private static final int COUNT = 10000;
+
+  private static void assertColumns(final CoordinatesProjection projection,
+    final double longitude, final double latitude) {
+    final Random random = new Random(1);
+    final double[] λs = new double[COUNT];
+    final double[] φs = new double[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      λs[i] = Math.toRadians(longitude + (random.nextDouble() - 0.5) * 12);
+      φs[i] = Math.toRadians(latitude + (random.nextDouble() - 0.5) * 30);
+    }
+    final double[] xs = new double[COUNT];
+    final double[] ys = new double[COUNT];
+    projection.project(λs, φs, 0, xs, ys, 0, COUNT);
+    final double[] inverseXs = xs.clone();
+    final double[] inverseYs = ys.clone();
+    projection.inverse(inverseXs, inverseYs, 0, inverseXs, inverseYs, 0, COUNT);
+
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (int i = 0; i < COUNT; i++) {
+      point.x = λs[i];
+      point.y = φs[i];
+      projection.project(point);
+      Assert.assertEquals(point.x, xs[i], 0);
+      Assert.assertEquals(point.y, ys[i], 0);
+      projection.inverse(point);
+      Assert.assertEquals(point.x, inverseXs[i], 0);
+      Assert.assertEquals(point.y, inverseYs[i], 0);
+    }
+  }
+
+  private static ProjectedCoordinateSystem getCoordinateSystem(final int coordinateSystemId) {
+    return EpsgCoordinateSystems.getCoordinateSystem(coordinateSystemId);
+  }
+
+  private static void assertColumns(final int coordinateSystemId, final double longitude,
+    final double latitude) {
+    final CoordinatesProjection projection = getCoordinateSystem(coordinateSystemId)
+      .getCoordinatesProjection();
+    assertColumns(projection, longitude, latitude);
+  }
+
+  @Test
+  public void albersConicEqualArea() {
+    assertColumns(3005, -126, 54);
+    assertColumns(5070, -96, 38);
+  }
+
+  @Test
+  public void lambertConicConformal() {
+    assertColumns(2227, -120.5, 37);
+    assertColumns(3347, -91.9, 63);
+    assertColumns(24200, -77, 18);
+  }
+
+  @Test
+  public void transverseMercator() {
+    assertColumns(26910, -123, 45);
+    assertColumns(new TransverseMercatorKruger(getCoordinateSystem(26910)), -123, 45);
+  }
+}
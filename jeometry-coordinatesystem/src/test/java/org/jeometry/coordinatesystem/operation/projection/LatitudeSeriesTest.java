@@ -0,0 +1,141 @@
+package org.jeometry.coordinatesystem.operation.projection;
+
+import org.jeometry.common.math.Angle;
+import org.jeometry.coordinatesystem.model.NormalizedParameterNames;
+import org.jeometry.coordinatesystem.model.ProjectedCoordinateSystem;
+import org.jeometry.coordinatesystem.model.systems.EpsgCoordinateSystems;
+import org.jeometry.coordinatesystem.operation.CoordinatesOperationPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Check the latitude series inverses of the conformal and equal area
+ * projections against the fixed point and Newton iterations they replaced.
+ */
+public class LatitudeSeriesTest {
+  private static final double MAX_LATITUDE = 89.5;
+
+  private static final double LATITUDE_STEP = 0.01;
+
+  private static final double TOLERANCE = 1e-12;
+
+  /**
+   * The Newton iteration for the latitude from q used by the previous Albers
+   * inverse, iterated to convergence.
+   */
+  private static double authalicIteration(final double e, final double q) {
+    final double ePow2 = e * e;
+    double φ = Math.asin(q / 2.0);
+    for (int i = 0; i < 100; i++) {
+      final double sinφ = Math.sin(φ);
+      final double eSinφ = e * sinφ;
+      final double oneMinusEpow2TimesSinφPow2 = 1.0 - ePow2 * sinφ * sinφ;
+      final double j1 = oneMinusEpow2TimesSinφPow2 * oneMinusEpow2TimesSinφPow2
+        / (2 * Math.cos(φ));
+      final double k1 = q / (1 - ePow2);
+      final double k2 = sinφ / oneMinusEpow2TimesSinφPow2;
+      final double k3 = 1 / (2 * e) * Math.log((1.0 - eSinφ) / (1 + eSinφ));
+      final double newφ = φ + j1 * (k1 - k2 + k3);
+      final double Δφ = Math.abs(newφ - φ);
+      φ = newφ;
+      if (Δφ < 1e-15) {
+        break;
+      }
+    }
+    return φ;
+  }
+
+  /**
+   * The fixed point iteration for the latitude from t used by the previous
+   * Lambert Conic Conformal and Mercator inverses, iterated to convergence.
+   */
+  private static double conformalIteration(final double e, final double t) {
+    double φ = Angle.PI_OVER_2 - 2 * Math.atan(t);
+    for (int i = 0; i < 100; i++) {
+      final double eSinφ = e * Math.sin(φ);
+      final double newφ = Angle.PI_OVER_2
+        - 2 * Math.atan(t * Math.pow((1 - eSinφ) / (1 + eSinφ), e / 2));
+      final double Δφ = Math.abs(newφ - φ);
+      φ = newφ;
+      if (Δφ < 1e-15) {
+        break;
+      }
+    }
+    return φ;
+  }
+
+  private static ProjectedCoordinateSystem getCoordinateSystem(final int coordinateSystemId) {
+    return EpsgCoordinateSystems.getCoordinateSystem(coordinateSystemId);
+  }
+
+  private static double q(final double e, final double φ) {
+    final double sinφ = Math.sin(φ);
+    final double eSinφ = e * sinφ;
+    return (1 - e * e)
+      * (sinφ / (1 - eSinφ * eSinφ) - 1 / (2 * e) * Math.log((1 - eSinφ) / (1 + eSinφ)));
+  }
+
+  private static double t(final double e, final double φ) {
+    final double eSinφ = e * Math.sin(φ);
+    return Math.tan(Math.PI / 4 - φ / 2) / Math.pow((1 - eSinφ) / (1 + eSinφ), e / 2);
+  }
+
+  /**
+   * Project each latitude and inverse project the result. The latitude must
+   * match the previous iteration from the auxiliary latitude's t or q value.
+   */
+  private void assertInverse(final ProjectedCoordinateSystem coordinateSystem,
+    final CoordinatesProjection projection, final boolean authalic) {
+    final double e = coordinateSystem.getEllipsoid().getEccentricity();
+    final double λ = Math.toRadians(
+      coordinateSystem.getDoubleParameter(NormalizedParameterNames.CENTRAL_MERIDIAN) + 1.5);
+    final CoordinatesOperationPoint point = new CoordinatesOperationPoint();
+    for (double latitude = -MAX_LATITUDE; latitude <= MAX_LATITUDE; latitude += LATITUDE_STEP) {
+      final double φ = Math.toRadians(latitude);
+      final double expectedφ;
+      if (authalic) {
+        expectedφ = authalicIteration(e, q(e, φ));
+      } else {
+        expectedφ = conformalIteration(e, t(e, φ));
+      }
+      point.x = λ;
+      point.y = φ;
+      projection.project(point);
+      projection.inverse(point);
+      final String message = coordinateSystem.getCoordinateSystemId() + " latitude=" + latitude;
+      Assert.assertEquals(message, expectedφ, point.y, TOLERANCE);
+      Assert.assertEquals(message, λ, point.x, TOLERANCE);
+    }
+  }
+
+  private void assertInverse(final int coordinateSystemId, final boolean authalic) {
+    final ProjectedCoordinateSystem coordinateSystem = getCoordinateSystem(coordinateSystemId);
+    final CoordinatesProjection projection = coordinateSystem.getCoordinatesProjection();
+    assertInverse(coordinateSystem, projection, authalic);
+  }
+
+  @Test
+  public void albersConicEqualArea() {
+    assertInverse(3005, true);
+    assertInverse(5070, true);
+  }
+
+  @Test
+  public void lambertConicConformal() {
+    assertInverse(2154, false);
+    assertInverse(3347, false);
+  }
+
+  @Test
+  public void lambertConicConformal1SP() {
+    assertInverse(24200, false);
+  }
+
+  @Test
+  public void mercator() {
+    final ProjectedCoordinateSystem mercator1SP = getCoordinateSystem(3395);
+    assertInverse(mercator1SP, new Mercator1SP(mercator1SP), false);
+    final ProjectedCoordinateSystem mercator2SP = getCoordinateSystem(3388);
+    assertInverse(mercator2SP, new Mercator2SP(mercator2SP), false);
+  }
+}